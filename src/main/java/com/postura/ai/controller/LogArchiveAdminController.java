@@ -0,0 +1,49 @@
+package com.postura.ai.controller;
+
+import com.postura.ai.domain.ArchivedPostureLog;
+import com.postura.ai.service.PostureLogArchiveReader;
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 기간이 지나 아카이브된 자세 로그 조회용 관리자 API
+ * (SecurityConfig에서 /api/admin/** 는 ADMIN 권한만 허용)
+ */
+@RestController
+@RequestMapping("/api/admin/archive")
+@RequiredArgsConstructor
+public class LogArchiveAdminController {
+
+    private final PostureLogArchiveReader postureLogArchiveReader;
+
+    /**
+     * [GET /api/admin/archive/users/{userId}/logs] 사용자의 아카이브 로그 기간 조회
+     * @param from 시작 시각 (YYYY-MM-DDTHH:mm:ss, 포함), to 종료 시각 (미포함), 최대 31일
+     */
+    @GetMapping("/users/{userId}/logs")
+    public ResponseEntity<List<ArchivedPostureLog>> getArchivedLogs(
+            @PathVariable Long userId,
+            @RequestParam String from,
+            @RequestParam String to)
+    {
+        return ResponseEntity.ok(postureLogArchiveReader.findLogs(userId, parseDateTime(from), parseDateTime(to)));
+    }
+
+    private LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "시각 형식이 올바르지 않습니다.");
+        }
+    }
+}
@@ -39,11 +39,13 @@ public class LogReceiverController {
         // @Vaild 사용 -> DTO의 NotNull 제약 조건 검사
         @Valid @RequestBody PostureLogRequest request)
     {
+        // 1. 서버 수신 시각 기록 (프레임 -> 피드백 지연 측정용)
+        long acceptedAtMillis = System.currentTimeMillis();
 
-        // 1. 서비스 계층에 비동기 로직 위임 (DB 저장 및 Redis 업데이트)
-        postureLogService.processAndSaveLog(request);
+        // 2. 서비스 계층에 비동기 로직 위임 (DB 저장 및 Redis 업데이트)
+        postureLogService.processAndSaveLog(request, acceptedAtMillis);
 
-        // 2. FastAPI 서버에 즉시 응답
+        // 3. FastAPI 서버에 즉시 응답
         return new ResponseEntity<>(HttpStatus.ACCEPTED);
     }
 }
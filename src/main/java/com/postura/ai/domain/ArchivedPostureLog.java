@@ -0,0 +1,11 @@
+package com.postura.ai.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아카이브에서 복원한 자세 로그 한 건
+ * (자세 상태는 비트마스크에서 복원하므로 PostureType에 없는 값(UNKNOWN 등)은 포함되지 않음)
+ */
+public record ArchivedPostureLog(Long logId, Long sessionId, LocalDateTime timestamp, List<String> postureStates) {
+}
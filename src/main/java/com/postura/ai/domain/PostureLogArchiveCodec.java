@@ -0,0 +1,244 @@
+package com.postura.ai.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 자세 로그 아카이브 블록(한 사용자의 하루치 로그) 컬럼 지향 인코더/디코더
+ *
+ * 압축 전 레이아웃 (블록 단위로 Deflate 압축)
+ * - [버전 1바이트][행 수 varint]
+ * - 세션 사전 : [세션 수 varint][session_id 오름차순 차이 varint ...]
+ * - 컬럼 길이 : [시각 컬럼 바이트 수][세션 컬럼 바이트 수][log_id 컬럼 바이트 수] (자세 컬럼은 행 수와 같음)
+ * - 시각 컬럼 : 당일 00:00 기준 밀리초를 이전 행과의 차이로 기록 (시각순 정렬이므로 음수 없음)
+ * - 세션 컬럼 : [반복 길이 varint][사전 인덱스 varint] 런렝스 (한 세션의 로그는 대부분 연속)
+ * - log_id 컬럼 : 이전 행과의 차이를 zigzag varint로 기록 (@Async 저장으로 시각 순서와 id 순서가 다를 수 있음)
+ * - 자세 컬럼 : 행당 비트마스크 1바이트 (PostureType, 알 수 없는 상태는 비트 없음)
+ */
+public final class PostureLogArchiveCodec {
+
+    private static final byte VERSION = 1;
+
+    private PostureLogArchiveCodec() {
+    }
+
+    /**
+     * 디코딩된 행 하나를 받는 콜백
+     */
+    @FunctionalInterface
+    public interface RowVisitor {
+        void visit(long logId, long sessionId, int offsetMillis, int mask);
+    }
+
+    /**
+     * 한 사용자의 로그를 시각순으로 받아 블록으로 인코딩 (재사용 가능, reset 후 다음 사용자)
+     */
+    public static final class BlockWriter {
+
+        private long[] logIds = new long[1024];
+        private long[] sessionIds = new long[1024];
+        private int[] offsets = new int[1024];
+        private byte[] masks = new byte[1024];
+        private int size;
+
+        public void add(long logId, long sessionId, int offsetMillis, int mask) {
+            if (size > 0 && offsetMillis < offsets[size - 1]) {
+                throw new IllegalArgumentException("Archive rows must be ordered by timestamp");
+            }
+            if (size == offsets.length) {
+                int capacity = size * 2;
+                logIds = Arrays.copyOf(logIds, capacity);
+                sessionIds = Arrays.copyOf(sessionIds, capacity);
+                offsets = Arrays.copyOf(offsets, capacity);
+                masks = Arrays.copyOf(masks, capacity);
+            }
+            logIds[size] = logId;
+            sessionIds[size] = sessionId;
+            offsets[size] = offsetMillis;
+            masks[size] = (byte) mask;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int firstOffsetMillis() {
+            return size == 0 ? 0 : offsets[0];
+        }
+
+        public int lastOffsetMillis() {
+            return size == 0 ? 0 : offsets[size - 1];
+        }
+
+        public void reset() {
+            size = 0;
+        }
+
+        /**
+         * 누적된 행을 압축 블록으로 인코딩
+         */
+        public byte[] encode() {
+            long[] dictionary = Arrays.stream(sessionIds, 0, size).distinct().sorted().toArray();
+
+            ByteArrayOutputStream timeColumn = new ByteArrayOutputStream(size * 2);
+            ByteArrayOutputStream sessionColumn = new ByteArrayOutputStream(16);
+            ByteArrayOutputStream idColumn = new ByteArrayOutputStream(size * 2);
+
+            int previousOffset = 0;
+            long previousId = 0;
+            for (int i = 0; i < size; i++) {
+                writeVarint(timeColumn, offsets[i] - previousOffset);
+                previousOffset = offsets[i];
+                writeVarint(idColumn, zigzag(logIds[i] - previousId));
+                previousId = logIds[i];
+            }
+
+            int i = 0;
+            while (i < size) {
+                int runEnd = i + 1;
+                while (runEnd < size && sessionIds[runEnd] == sessionIds[i]) {
+                    runEnd++;
+                }
+                writeVarint(sessionColumn, runEnd - i);
+                writeVarint(sessionColumn, Arrays.binarySearch(dictionary, sessionIds[i]));
+                i = runEnd;
+            }
+
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(
+                    32 + dictionary.length * 4 + timeColumn.size() + sessionColumn.size() + idColumn.size() + size);
+            raw.write(VERSION);
+            writeVarint(raw, size);
+            writeVarint(raw, dictionary.length);
+            long previousSession = 0;
+            for (long sessionId : dictionary) {
+                writeVarint(raw, sessionId - previousSession);
+                previousSession = sessionId;
+            }
+            writeVarint(raw, timeColumn.size());
+            writeVarint(raw, sessionColumn.size());
+            writeVarint(raw, idColumn.size());
+            raw.writeBytes(timeColumn.toByteArray());
+            raw.writeBytes(sessionColumn.toByteArray());
+            raw.writeBytes(idColumn.toByteArray());
+            raw.write(masks, 0, size);
+
+            return deflate(raw.toByteArray());
+        }
+    }
+
+    /**
+     * 압축 블록에서 [fromMillis, toMillis) 구간(당일 00:00 기준)의 행만 순회
+     * (시각 컬럼이 정렬되어 있으므로 구간을 벗어나면 즉시 중단)
+     * @return 방문한 행 수
+     */
+    public static int decode(byte[] block, int fromMillis, int toMillis, RowVisitor visitor) {
+        byte[] raw = inflate(block);
+        if (raw.length == 0 || raw[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported archive block version");
+        }
+
+        int[] pos = {1};
+        int rows = (int) readVarint(raw, pos);
+        long[] dictionary = new long[(int) readVarint(raw, pos)];
+        long sessionId = 0;
+        for (int i = 0; i < dictionary.length; i++) {
+            sessionId += readVarint(raw, pos);
+            dictionary[i] = sessionId;
+        }
+        int timeLength = (int) readVarint(raw, pos);
+        int sessionLength = (int) readVarint(raw, pos);
+        int idLength = (int) readVarint(raw, pos);
+
+        int[] timeCursor = {pos[0]};
+        int[] sessionCursor = {timeCursor[0] + timeLength};
+        int[] idCursor = {sessionCursor[0] + sessionLength};
+        int maskStart = idCursor[0] + idLength;
+
+        int offset = 0;
+        long logId = 0;
+        int runRemaining = 0;
+        int dictionaryIndex = 0;
+        int visited = 0;
+        for (int row = 0; row < rows; row++) {
+            offset += (int) readVarint(raw, timeCursor);
+            if (runRemaining == 0) {
+                runRemaining = (int) readVarint(raw, sessionCursor);
+                dictionaryIndex = (int) readVarint(raw, sessionCursor);
+            }
+            runRemaining--;
+            logId += unzigzag(readVarint(raw, idCursor));
+
+            if (offset >= toMillis) {
+                break;
+            }
+            if (offset >= fromMillis) {
+                visitor.visit(logId, dictionary[dictionaryIndex], offset, raw[maskStart + row] & 0xFF);
+                visited++;
+            }
+        }
+        return visited;
+    }
+
+    // *************************************************************
+    // 압축 / varint (LEB128, 부호 없음)
+    // *************************************************************
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] block) {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(block))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarint(byte[] data, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        while (pos[0] < data.length) {
+            int b = data[pos[0]++] & 0xFF;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) break;
+        }
+        throw new IllegalArgumentException("Malformed archive varint");
+    }
+}
@@ -0,0 +1,143 @@
+package com.postura.ai.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 하루치 자세 로그 아카이브의 사용자 블록 인덱스
+ *
+ * - 데이터 파일은 사용자 블록(user_id 오름차순)을 이어 붙인 형태이므로 블록 위치는 길이의 누적합
+ * - 리더는 인덱스만 읽고 해당 사용자 블록 구간만 범위 읽기 (데이터 파일 전체를 읽지 않음)
+ * - 인코딩 : [버전][epochDay][엔트리 수] 이후 [user_id 차이][블록 길이][행 수][첫 시각][마지막 시각 - 첫 시각] 반복 (모두 varint)
+ */
+public final class PostureLogArchiveIndex {
+
+    private static final byte VERSION = 1;
+
+    /**
+     * 사용자 블록 위치 정보 (시각은 당일 00:00 기준 밀리초)
+     */
+    public record Entry(long userId, long offset, int length, int rowCount, int firstMillis, int lastMillis) {
+    }
+
+    private final LocalDate date;
+    private final List<Entry> entries;
+
+    private PostureLogArchiveIndex(LocalDate date, List<Entry> entries) {
+        this.date = date;
+        this.entries = entries;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public long getTotalRows() {
+        long total = 0;
+        for (Entry entry : entries) {
+            total += entry.rowCount();
+        }
+        return total;
+    }
+
+    /**
+     * 사용자 블록 조회 (엔트리가 user_id 순이므로 이진 탐색)
+     */
+    public Optional<Entry> find(long userId) {
+        int low = 0;
+        int high = entries.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midUserId = entries.get(mid).userId();
+            if (midUserId < userId) {
+                low = mid + 1;
+            } else if (midUserId > userId) {
+                high = mid - 1;
+            } else {
+                return Optional.of(entries.get(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    // *************************************************************
+    // 작성 / 직렬화
+    // *************************************************************
+
+    /**
+     * 아카이브 작성 중 블록을 순서대로 추가하는 빌더
+     */
+    public static final class Builder {
+        private final LocalDate date;
+        private final List<Entry> entries = new ArrayList<>();
+        private long nextOffset;
+
+        public Builder(LocalDate date) {
+            this.date = date;
+        }
+
+        public void add(long userId, int length, int rowCount, int firstMillis, int lastMillis) {
+            if (!entries.isEmpty() && entries.get(entries.size() - 1).userId() >= userId) {
+                throw new IllegalArgumentException("Archive blocks must be ordered by user_id");
+            }
+            entries.add(new Entry(userId, nextOffset, length, rowCount, firstMillis, lastMillis));
+            nextOffset += length;
+        }
+
+        public long getDataLength() {
+            return nextOffset;
+        }
+
+        public PostureLogArchiveIndex build() {
+            return new PostureLogArchiveIndex(date, Collections.unmodifiableList(new ArrayList<>(entries)));
+        }
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + entries.size() * 12);
+        out.write(VERSION);
+        PostureLogArchiveCodec.writeVarint(out, date.toEpochDay());
+        PostureLogArchiveCodec.writeVarint(out, entries.size());
+        long previousUserId = 0;
+        for (Entry entry : entries) {
+            PostureLogArchiveCodec.writeVarint(out, entry.userId() - previousUserId);
+            PostureLogArchiveCodec.writeVarint(out, entry.length());
+            PostureLogArchiveCodec.writeVarint(out, entry.rowCount());
+            PostureLogArchiveCodec.writeVarint(out, entry.firstMillis());
+            PostureLogArchiveCodec.writeVarint(out, entry.lastMillis() - entry.firstMillis());
+            previousUserId = entry.userId();
+        }
+        return out.toByteArray();
+    }
+
+    public static PostureLogArchiveIndex decode(byte[] data) {
+        if (data.length == 0 || data[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported archive index version");
+        }
+        int[] pos = {1};
+        LocalDate date = LocalDate.ofEpochDay(PostureLogArchiveCodec.readVarint(data, pos));
+        int count = (int) PostureLogArchiveCodec.readVarint(data, pos);
+
+        List<Entry> entries = new ArrayList<>(count);
+        long userId = 0;
+        long offset = 0;
+        for (int i = 0; i < count; i++) {
+            userId += PostureLogArchiveCodec.readVarint(data, pos);
+            int length = (int) PostureLogArchiveCodec.readVarint(data, pos);
+            int rowCount = (int) PostureLogArchiveCodec.readVarint(data, pos);
+            int firstMillis = (int) PostureLogArchiveCodec.readVarint(data, pos);
+            int lastMillis = firstMillis + (int) PostureLogArchiveCodec.readVarint(data, pos);
+            entries.add(new Entry(userId, offset, length, rowCount, firstMillis, lastMillis));
+            offset += length;
+        }
+        return new PostureLogArchiveIndex(date, Collections.unmodifiableList(entries));
+    }
+}
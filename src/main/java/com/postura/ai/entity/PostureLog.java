@@ -14,19 +14,26 @@ import java.util.List;
 @Builder // DTO를 Entity로 변환 시 사용
 @NoArgsConstructor(access =AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "posture_log")
+@Table(name = "posture_log",
+        indexes = {
+                // 날짜 단위 전체 사용자 집계(SetBasedStatAggregator)의 범위 스캔용
+                @Index(name = "idx_log_timestamp", columnList = "timestamp"),
+                // 사용자별 기간 조회 (리포트, 백필 재집계)
+                @Index(name = "idx_log_user_timestamp", columnList = "user_id, timestamp")
+        })
 public class PostureLog {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "log_id")
     private Long id;
 
+    // 파티션 테이블은 외래 키를 지원하지 않으므로 FK 제약은 생성하지 않음 (PostureLogPartitionManager)
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "session_id", nullable = false)
+    @JoinColumn(name = "session_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private MonitoringSession session;
 
     // report 모듈에서 통계를 정확하게 집계하는 유일한 시간 기준
@@ -2,6 +2,8 @@ package com.postura.ai.repository;
 
 import com.postura.ai.entity.PostureLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -23,16 +25,27 @@ public interface PostureLogRepository extends JpaRepository<PostureLog, Long> {
     ------------------------------------------
      */
 
-    List<PostureLog> findAllByUserIdAndTimestampBetweenOrderByTimestampAsc(
-            Long userId,
-            LocalDateTime start,
-            LocalDateTime end
+    /**
+     * 사용자의 [start, end) 구간 로그 조회
+     * (반열린 구간이므로 posture_log가 날짜별 파티션일 때 해당 날짜 파티션만 읽음)
+     */
+    @Query("""
+        select p
+          from PostureLog p
+         where p.user.id = :userId
+           and p.timestamp >= :start
+           and p.timestamp < :end
+         order by p.timestamp asc
+        """)
+    List<PostureLog> findAllByUserIdInRange(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
     );
 
     /**
-     * 특정 시간 이전에 생성된 모든 로그를 삭제합니다. (로그 정리용)
-     * @param limit 기준 시간
-     * @return 삭제된 행(row)의 개수
+     * 가장 오래된 로그 시각 (아카이브 대상 날짜 범위 계산용, 로그가 없으면 null)
      */
-    long deleteByTimestampBefore(LocalDateTime limit);
+    @Query("select min(p.timestamp) from PostureLog p")
+    LocalDateTime findMinTimestamp();
 }
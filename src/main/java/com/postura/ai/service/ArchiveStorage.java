@@ -0,0 +1,33 @@
+package com.postura.ai.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 자세 로그 아카이브 파일 저장소
+ *
+ * - 기본 구현은 로컬 디렉터리(LocalArchiveStorage), 오브젝트 스토리지 구현체를 빈으로 등록하면 대체됨
+ * - 키는 "/"로 구분된 상대 경로 (예: posture-log/2025/01/31.data)
+ * - 저장된 파일은 변경하지 않음 (같은 키에 다시 쓰는 경우 전체 교체)
+ */
+public interface ArchiveStorage {
+
+    /**
+     * 로컬 임시 파일을 키 위치에 저장 (완료 전에는 다른 리더에게 보이지 않아야 함)
+     */
+    void put(String key, Path source) throws IOException;
+
+    /**
+     * 작은 파일(인덱스)을 바이트 배열로 저장
+     */
+    void put(String key, byte[] data) throws IOException;
+
+    boolean exists(String key) throws IOException;
+
+    byte[] read(String key) throws IOException;
+
+    /**
+     * 파일의 일부 구간만 읽기 (사용자 블록 조회용)
+     */
+    byte[] readRange(String key, long offset, int length) throws IOException;
+}
@@ -1,41 +1,133 @@
 package com.postura.ai.service;
 
 import com.postura.ai.repository.PostureLogRepository;
+import com.postura.common.lock.RedisJobLock;
+import com.postura.common.retention.RetentionCheckpointRepository;
+import com.postura.common.retention.RetentionEngine;
+import com.postura.common.retention.RetentionResult;
+import com.postura.common.retention.RetentionTask;
+import com.postura.config.properties.AppProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * 데이터베이스 성능 최적화를 위해 오래된 PostureLog를 주기적으로 삭제하는 서비스입니다.
+ *
+ * - 아카이브 사용 시(app.archive.enabled) 날짜별로 압축 아카이브를 먼저 작성하고, 작성이 끝난 날짜만 삭제
+ * - 날짜 단위로 처리하므로 보존 기준일(app.retention.posture-log-days 전)의 당일 로그는 다음 실행에서 정리
+ * - 파티션이 없는 테이블은 RetentionEngine으로 기본 키 구간별 청크 삭제 (엔티티 로딩 없음, 청크 사이 대기, 중단 시 이어서 처리)
+ * - posture_log가 날짜별 파티션 테이블이면 DELETE 대신 만료된 파티션을 DROP (PostureLogPartitionManager)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LogCleanupService {
 
-    private PostureLogRepository postureLogRepository;
+    private final PostureLogRepository postureLogRepository;
+    private final PostureLogArchiver postureLogArchiver;
+    private final PostureLogPartitionManager postureLogPartitionManager;
+    private final RetentionEngine retentionEngine;
+    private final RetentionCheckpointRepository checkpointRepository;
+    private final RedisJobLock redisJobLock;
+    private final AppProperties appProperties;
+
+    private static final String JOB_NAME = "posture-log-cleanup";
+    // 체크포인트 키 접두사 (뒤에 삭제 조건의 기준 날짜를 붙임)
+    private static final String RETENTION_TASK_KEY_PREFIX = "posture-log-retention:";
+    private static final Duration LOCK_TTL = Duration.ofHours(2);
+
 
     @Scheduled(cron = "0 0 4 * * *")
-    @Transactional
     public void cleanupOldLogs() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, this::cleanup);
+    }
 
-        // 현재 시간 기준 30일 이전 시간 계산 (정확히 30일치 데이터만 유지)
-        LocalDateTime retentionLimit = LocalDateTime.now().minusDays(30);
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private void cleanup() {
+        // 현재 시간 기준 보관 일수(기본 30일) 이전 시간 계산
+        LocalDateTime retentionLimit = LocalDateTime.now().minusDays(appProperties.getRetention().getPostureLogDays());
 
         log.info("Starting daily rolling cleanup: Deleting posture logs created before {}", retentionLimit);
 
         try {
-            // 리포지토리를 통해 조건에 맞는 데이터 삭제
-            long deletedCount = postureLogRepository.deleteByTimestampBefore(retentionLimit);
+            boolean partitioned = postureLogPartitionManager.isPartitioned();
+
+            if (!appProperties.getArchive().isEnabled()) {
+                if (partitioned) {
+                    // 기준일 이전 날짜 파티션 즉시 제거
+                    int dropped = postureLogPartitionManager.dropPartitionsBefore(retentionLimit.toLocalDate());
+                    log.info("Daily cleanup completed. Total partitions dropped: {}", dropped);
+                    return;
+                }
+                // 기준일 이전 로그를 청크 단위로 삭제 (같은 날 재실행 시 같은 조건으로 이어서 처리)
+                LocalDate limitDate = retentionLimit.toLocalDate();
+                long deletedCount = deleteLogs(RETENTION_TASK_KEY_PREFIX + "before:" + limitDate,
+                        "`timestamp` < ?", limitDate.atStartOfDay());
+                log.info("Daily cleanup completed. Total records deleted: {}", deletedCount);
+                return;
+            }
+
+            LocalDateTime oldest = postureLogRepository.findMinTimestamp();
+            if (oldest == null) {
+                log.info("Daily cleanup completed. No posture logs to archive.");
+                return;
+            }
 
-            log.info("Daily cleanup completed. Total records deleted: {}", deletedCount);
+            // 보존 기준 시각 이전에 완전히 끝난 날짜만 아카이브 -> 삭제
+            long archivedCount = 0;
+            long deletedCount = 0;
+            int droppedPartitions = 0;
+            for (LocalDate date = oldest.toLocalDate(); date.isBefore(retentionLimit.toLocalDate()); date = date.plusDays(1)) {
+                // 이전 실행에서 아카이브는 끝났지만 삭제 전에 중단된 날짜는 다시 아카이브하지 않음
+                if (!postureLogArchiver.isArchived(date)) {
+                    archivedCount += postureLogArchiver.archiveDay(date);
+                }
+                if (partitioned) {
+                    droppedPartitions += postureLogPartitionManager.dropPartitionsBefore(date.plusDays(1));
+                } else {
+                    deletedCount += deleteLogs(RETENTION_TASK_KEY_PREFIX + date,
+                            "`timestamp` >= ? AND `timestamp` < ?", date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+                }
+            }
+
+            log.info("Daily cleanup completed. Total records archived: {}, deleted: {}, partitions dropped: {}",
+                    archivedCount, deletedCount, droppedPartitions);
         } catch (Exception e) {
             log.error("An error occurred during daily posture log cleanup: {}", e.getMessage(), e);
             // 배치 작업의 실패가 서비스 전체의 장애로 이어지지 않도록 예외 처리 후 로깅
+            // (아카이브에 실패한 날짜는 삭제하지 않았으므로 다음 실행에서 다시 처리)
+        }
+    }
+
+    /**
+     * posture_log 청크 삭제 (중단되면 다음 실행에서 같은 작업 키로 이어서 처리, 완료되면 체크포인트 정리)
+     * @param taskKey 조건마다 다른 체크포인트 키
+     * @return 삭제된 행 수
+     */
+    private long deleteLogs(String taskKey, String condition, Object... params) {
+        RetentionTask.RetentionTaskBuilder task = RetentionTask.builder()
+                .taskKey(taskKey)
+                .table("posture_log")
+                .idColumn("log_id")
+                .condition(condition);
+        for (Object param : params) {
+            task.param(param);
+        }
+
+        RetentionResult result = retentionEngine.run(task.build());
+        if (!result.completed()) {
+            throw new IllegalStateException("Posture log retention interrupted after " + result.deletedRows() + " rows");
         }
+        checkpointRepository.deleteById(taskKey);
+        return result.deletedRows();
     }
 }
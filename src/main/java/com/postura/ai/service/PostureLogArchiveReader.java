@@ -0,0 +1,136 @@
+package com.postura.ai.service;
+
+import com.postura.ai.domain.ArchivedPostureLog;
+import com.postura.ai.domain.PostureLogArchiveCodec;
+import com.postura.ai.domain.PostureLogArchiveIndex;
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.common.posture.PostureType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 자세 로그 아카이브에서 사용자별 기간 조회를 수행하는 리더
+ *
+ * - 날짜별 인덱스로 사용자 블록 위치를 찾고 해당 구간만 범위 읽기 (데이터 파일 전체를 읽지 않음)
+ * - 인덱스의 첫/마지막 시각으로 조회 구간과 겹치지 않는 블록은 읽지 않음
+ * - 아카이브 파일은 작성 후 변경되지 않으므로 인덱스를 메모리에 캐시 (최근 사용 순 최대 MAX_CACHED_INDEXES개)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostureLogArchiveReader {
+
+    private static final int MAX_CACHED_INDEXES = 128;
+
+    // 한 번에 조회할 수 있는 최대 기간
+    private static final long MAX_RANGE_DAYS = 31;
+
+    private final ArchiveStorage archiveStorage;
+
+    private final Map<LocalDate, PostureLogArchiveIndex> indexCache = Collections.synchronizedMap(
+            new LinkedHashMap<LocalDate, PostureLogArchiveIndex>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LocalDate, PostureLogArchiveIndex> eldest) {
+                    return size() > MAX_CACHED_INDEXES;
+                }
+            });
+
+    /**
+     * 아카이브된 로그 한 건을 받는 콜백 (시각은 당일 00:00 기준 밀리초로 전달하여 객체 할당 최소화)
+     */
+    @FunctionalInterface
+    public interface LogVisitor {
+        void visit(LocalDate date, long logId, long sessionId, int offsetMillis, int mask);
+    }
+
+    /**
+     * 사용자의 [from, to) 구간 아카이브 로그를 시각순으로 순회
+     * @return 방문한 로그 수
+     */
+    public long forEach(Long userId, LocalDateTime from, LocalDateTime to, LogVisitor visitor) {
+        long visited = 0;
+        for (LocalDate date = from.toLocalDate(); date.atStartOfDay().isBefore(to); date = date.plusDays(1)) {
+            Optional<PostureLogArchiveIndex.Entry> entry = findIndex(date).flatMap(index -> index.find(userId));
+            if (entry.isEmpty()) {
+                continue;
+            }
+
+            LocalDateTime dayStart = date.atStartOfDay();
+            int fromMillis = (int) Math.max(0, Duration.between(dayStart, from).toMillis());
+            int toMillis = (int) Math.min(Duration.ofDays(1).toMillis(), Duration.between(dayStart, to).toMillis());
+            PostureLogArchiveIndex.Entry block = entry.get();
+            if (block.lastMillis() < fromMillis || block.firstMillis() >= toMillis) {
+                continue;
+            }
+
+            byte[] data = readBlock(date, block);
+            LocalDate blockDate = date;
+            visited += PostureLogArchiveCodec.decode(data, fromMillis, toMillis,
+                    (logId, sessionId, offsetMillis, mask) -> visitor.visit(blockDate, logId, sessionId, offsetMillis, mask));
+        }
+        return visited;
+    }
+
+    /**
+     * 사용자의 [from, to) 구간 아카이브 로그 조회 (최대 MAX_RANGE_DAYS일)
+     */
+    public List<ArchivedPostureLog> findLogs(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 종료 시각은 시작 시각보다 늦어야 합니다.");
+        }
+        if (Duration.between(from, to).toDays() > MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "아카이브 조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        List<ArchivedPostureLog> logs = new ArrayList<>();
+        forEach(userId, from, to, (date, logId, sessionId, offsetMillis, mask) -> logs.add(new ArchivedPostureLog(
+                logId, sessionId, date.atStartOfDay().plusNanos(offsetMillis * 1_000_000L), PostureType.fromMask(mask))));
+        return logs;
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private Optional<PostureLogArchiveIndex> findIndex(LocalDate date) {
+        PostureLogArchiveIndex cached = indexCache.get(date);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            String key = PostureLogArchiver.indexKey(date);
+            if (!archiveStorage.exists(key)) {
+                // 아직 아카이브되지 않은 날짜일 수 있으므로 없음은 캐시하지 않음
+                return Optional.empty();
+            }
+            PostureLogArchiveIndex index = PostureLogArchiveIndex.decode(archiveStorage.read(key));
+            indexCache.put(date, index);
+            return Optional.of(index);
+        } catch (IOException e) {
+            log.error("Failed to read posture log archive index for {}: {}", date, e.getMessage(), e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "아카이브 인덱스 조회 실패: " + date);
+        }
+    }
+
+    private byte[] readBlock(LocalDate date, PostureLogArchiveIndex.Entry block) {
+        try {
+            return archiveStorage.readRange(PostureLogArchiver.dataKey(date), block.offset(), block.length());
+        } catch (IOException e) {
+            log.error("Failed to read posture log archive block for {} (UserId {}): {}", date, block.userId(), e.getMessage(), e);
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "아카이브 블록 조회 실패: " + date);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.postura.ai.service;
+
+import com.postura.ai.domain.PostureLogArchiveCodec;
+import com.postura.ai.domain.PostureLogArchiveIndex;
+import com.postura.common.posture.PostureType;
+import com.postura.common.util.StringListConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 자세 로그를 날짜별 압축 아카이브로 내보내는 서비스
+ *
+ * - 파일 구성 : 날짜당 데이터 파일 1개(사용자 블록을 user_id 순으로 이어 붙임) + 인덱스 파일 1개
+ * - 블록 형식 : PostureLogArchiveCodec (시각 차이 인코딩, 세션 사전 인코딩, 자세 비트마스크)
+ * - 하루치 로그를 MySQL 스트리밍 결과셋으로 한 행씩 읽고, 사용자가 바뀔 때마다 블록을 압축해 임시 파일에 기록
+ *   -> 메모리에는 사용자 한 명의 하루치 로그만 유지
+ * - 인덱스를 마지막에 저장하므로 인덱스가 있으면 해당 날짜의 아카이브가 완성된 것으로 판단
+ */
+@Service
+@Slf4j
+public class PostureLogArchiver {
+
+    private static final String DAY_SQL = """
+        SELECT log_id, user_id, session_id, `timestamp`, posture_states
+          FROM posture_log
+         WHERE `timestamp` >= ? AND `timestamp` < ?
+         ORDER BY user_id, `timestamp`, log_id
+        """;
+
+    private static final String KEY_PREFIX = "posture-log/";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ArchiveStorage archiveStorage;
+    private final StringListConverter stringListConverter = new StringListConverter();
+
+    public PostureLogArchiver(DataSource dataSource, ArchiveStorage archiveStorage) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.archiveStorage = archiveStorage;
+    }
+
+    public static String dataKey(LocalDate date) {
+        return KEY_PREFIX + keyBase(date) + ".data";
+    }
+
+    public static String indexKey(LocalDate date) {
+        return KEY_PREFIX + keyBase(date) + ".idx";
+    }
+
+    public boolean isArchived(LocalDate date) throws IOException {
+        return archiveStorage.exists(indexKey(date));
+    }
+
+    /**
+     * 하루치 로그를 아카이브 (로그가 없는 날은 파일을 만들지 않음)
+     * @return 아카이브한 행 수
+     */
+    public long archiveDay(LocalDate date) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime dayStart = date.atStartOfDay();
+        Path tempFile = Files.createTempFile("posture-log-" + date + "-", ".data");
+
+        try {
+            PostureLogArchiveIndex.Builder indexBuilder = new PostureLogArchiveIndex.Builder(date);
+            PostureLogArchiveCodec.BlockWriter blockWriter = new PostureLogArchiveCodec.BlockWriter();
+            long[] currentUserId = {-1L};
+            long[] rows = {0};
+
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile), 64 * 1024)) {
+                streamingJdbcTemplate.query(DAY_SQL, ps -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(dayStart));
+                    ps.setTimestamp(2, Timestamp.valueOf(dayStart.plusDays(1)));
+                }, rs -> {
+                    long userId = rs.getLong("user_id");
+                    if (userId != currentUserId[0]) {
+                        flushBlock(currentUserId[0], blockWriter, indexBuilder, out);
+                        currentUserId[0] = userId;
+                    }
+                    LocalDateTime timestamp = rs.getTimestamp("timestamp").toLocalDateTime();
+                    int offsetMillis = (int) Duration.between(dayStart, timestamp).toMillis();
+                    int mask = PostureType.toMask(stringListConverter.convertToEntityAttribute(rs.getString("posture_states")));
+                    blockWriter.add(rs.getLong("log_id"), rs.getLong("session_id"), offsetMillis, mask);
+                    rows[0]++;
+                });
+                flushBlock(currentUserId[0], blockWriter, indexBuilder, out);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            if (rows[0] == 0) {
+                return 0;
+            }
+
+            // 데이터 파일 -> 인덱스 순으로 저장 (인덱스가 완성 표시 역할)
+            PostureLogArchiveIndex index = indexBuilder.build();
+            archiveStorage.put(dataKey(date), tempFile);
+            archiveStorage.put(indexKey(date), index.encode());
+
+            log.info("Posture log archive for {} written: {} rows, {} users, {} bytes, {}ms",
+                    date, rows[0], index.getEntries().size(), indexBuilder.getDataLength(),
+                    System.currentTimeMillis() - startedAt);
+            return rows[0];
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private static void flushBlock(long userId,
+                                   PostureLogArchiveCodec.BlockWriter blockWriter,
+                                   PostureLogArchiveIndex.Builder indexBuilder,
+                                   OutputStream out) {
+        if (blockWriter.size() == 0) {
+            return;
+        }
+        byte[] block = blockWriter.encode();
+        try {
+            out.write(block);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        indexBuilder.add(userId, block.length, blockWriter.size(),
+                blockWriter.firstOffsetMillis(), blockWriter.lastOffsetMillis());
+        blockWriter.reset();
+    }
+
+    private static String keyBase(LocalDate date) {
+        return String.format("%04d/%02d/%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+}
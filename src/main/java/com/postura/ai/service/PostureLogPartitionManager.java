@@ -0,0 +1,189 @@
+package com.postura.ai.service;
+
+import com.postura.common.lock.RedisJobLock;
+import com.postura.config.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * posture_log 날짜별 RANGE COLUMNS(timestamp) 파티션 관리
+ *
+ * - 파티션 이름 pYYYYMMDD = 해당 날짜까지의 로그 (VALUES LESS THAN 다음 날 00:00), 마지막은 pmax(MAXVALUE)
+ * - 전환 (app.partition.enabled, 시작 시 1회) : FK 제거 -> PK를 (log_id, timestamp)로 변경하며 파티션 적용
+ *   (MySQL 파티션 테이블은 모든 유니크 키에 파티션 컬럼이 포함되어야 하고 외래 키를 지원하지 않음)
+ * - 회전 (매일) : pmax를 분할하여 미래 날짜 파티션을 precreateDays만큼 미리 생성 (pmax는 비어 있으므로 즉시 완료)
+ * - 보존 : 만료된 날짜 파티션을 DROP PARTITION으로 즉시 제거 (행 단위 DELETE, undo 로그 없음)
+ * - 조회 : timestamp 반열린 구간 조건이면 MySQL이 해당 날짜 파티션만 읽음 (partition pruning)
+ */
+@Service
+@Slf4j
+public class PostureLogPartitionManager {
+
+    private static final String JOB_NAME = "posture-log-partition";
+    private static final Duration LOCK_TTL = Duration.ofHours(6);
+
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    // 전환 시 만들 과거 날짜 파티션 수 상한 (이보다 오래된 로그는 첫 파티션에 함께 포함)
+    private static final int MAX_INITIAL_PAST_DAYS = 90;
+
+    private static final String PARTITION_NAMES_SQL = """
+        SELECT PARTITION_NAME
+          FROM information_schema.PARTITIONS
+         WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'posture_log' AND PARTITION_NAME IS NOT NULL
+         ORDER BY PARTITION_ORDINAL_POSITION
+        """;
+
+    private static final String FOREIGN_KEYS_SQL = """
+        SELECT CONSTRAINT_NAME
+          FROM information_schema.REFERENTIAL_CONSTRAINTS
+         WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'posture_log'
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisJobLock redisJobLock;
+    private final AppProperties appProperties;
+
+    public PostureLogPartitionManager(DataSource dataSource, RedisJobLock redisJobLock, AppProperties appProperties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.redisJobLock = redisJobLock;
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * 시작 시 파티션 전환 (설정이 켜져 있고 아직 파티션 테이블이 아닐 때만)
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeOnStartup() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, () -> {
+            try {
+                if (appProperties.getPartition().isEnabled() && !isPartitioned()) {
+                    convertToPartitioned();
+                }
+                if (isPartitioned()) {
+                    ensureFuturePartitions();
+                }
+            } catch (Exception e) {
+                log.error("Posture log partition initialization failed: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 미래 날짜 파티션 미리 생성 (보존 정리 작업 이전 시각에 실행)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void rotatePartitions() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, () -> {
+            try {
+                if (isPartitioned()) {
+                    ensureFuturePartitions();
+                }
+            } catch (Exception e) {
+                log.error("Posture log partition rotation failed: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    public boolean isPartitioned() {
+        return !jdbcTemplate.queryForList(PARTITION_NAMES_SQL, String.class).isEmpty();
+    }
+
+    /**
+     * boundary 이전에 끝나는 날짜 파티션을 모두 제거 (pYYYYMMDD의 상한 = 다음 날 00:00 <= boundary)
+     * @return 제거한 파티션 수
+     */
+    public int dropPartitionsBefore(LocalDate boundary) {
+        List<String> expired = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(PARTITION_NAMES_SQL, String.class)) {
+            if (MAX_PARTITION.equals(name)) {
+                continue;
+            }
+            if (!LocalDate.parse(name, PARTITION_NAME_FORMAT).plusDays(1).isAfter(boundary)) {
+                expired.add(name);
+            }
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE posture_log DROP PARTITION " + String.join(", ", expired));
+        log.info("Dropped {} posture_log partitions before {}: {}", expired.size(), boundary, expired);
+        return expired.size();
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private void convertToPartitioned() {
+        long startedAt = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+
+        // 1. 외래 키 제거 (PostureLog 엔티티도 FK를 생성하지 않도록 설정되어 있음)
+        for (String constraint : jdbcTemplate.queryForList(FOREIGN_KEYS_SQL, String.class)) {
+            jdbcTemplate.execute("ALTER TABLE posture_log DROP FOREIGN KEY `" + constraint + "`");
+        }
+
+        // 2. 가장 오래된 로그 날짜부터 미래 파티션까지 생성 (범위 밖의 과거 로그는 첫 파티션에 포함)
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(`timestamp`) FROM posture_log", Timestamp.class);
+        LocalDate first = oldest == null ? today : oldest.toLocalDateTime().toLocalDate();
+        if (first.isBefore(today.minusDays(MAX_INITIAL_PAST_DAYS))) {
+            first = today.minusDays(MAX_INITIAL_PAST_DAYS);
+        }
+        LocalDate last = today.plusDays(appProperties.getPartition().getPrecreateDays());
+
+        // 3. PK 변경과 파티션 적용을 한 번의 ALTER로 수행 (테이블 복사 1회)
+        jdbcTemplate.execute("ALTER TABLE posture_log DROP PRIMARY KEY, ADD PRIMARY KEY (log_id, `timestamp`)"
+                + " PARTITION BY RANGE COLUMNS(`timestamp`) (" + partitionDefinitions(first, last) + ")");
+
+        log.info("posture_log converted to daily partitions ({} ~ {}) in {}ms",
+                first, last, System.currentTimeMillis() - startedAt);
+    }
+
+    private void ensureFuturePartitions() {
+        LocalDate lastDay = null;
+        for (String name : jdbcTemplate.queryForList(PARTITION_NAMES_SQL, String.class)) {
+            if (!MAX_PARTITION.equals(name)) {
+                lastDay = LocalDate.parse(name, PARTITION_NAME_FORMAT);
+            }
+        }
+
+        LocalDate target = LocalDate.now().plusDays(appProperties.getPartition().getPrecreateDays());
+        LocalDate from = lastDay == null ? LocalDate.now() : lastDay.plusDays(1);
+        if (from.isAfter(target)) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE posture_log REORGANIZE PARTITION " + MAX_PARTITION
+                + " INTO (" + partitionDefinitions(from, target) + ")");
+        log.info("Created posture_log partitions {} ~ {}", from, target);
+    }
+
+    /**
+     * [from, to] 날짜별 파티션 정의 + pmax
+     */
+    private static String partitionDefinitions(LocalDate from, LocalDate to) {
+        StringBuilder sql = new StringBuilder();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            sql.append("PARTITION ").append(date.format(PARTITION_NAME_FORMAT))
+               .append(" VALUES LESS THAN ('").append(date.plusDays(1)).append(" 00:00:00'), ");
+        }
+        return sql.append("PARTITION ").append(MAX_PARTITION).append(" VALUES LESS THAN (MAXVALUE)").toString();
+    }
+}
@@ -3,9 +3,14 @@ package com.postura.ai.service;
 import com.postura.ai.entity.PostureLog;
 import com.postura.ai.repository.PostureLogRepository;
 import com.postura.dto.ai.PostureLogRequest;
+import com.postura.monitor.domain.ActiveSessionState;
 import com.postura.monitor.entity.MonitoringSession;
 import com.postura.monitor.repository.MonitoringSessionRepository;
+import com.postura.monitor.service.MonitoringService;
+import com.postura.monitor.service.PostureTrendService;
 import com.postura.monitor.service.RealtimeFeedbackService;
+import com.postura.monitor.service.SessionHourlyCounter;
+import com.postura.monitor.service.SessionTimelineService;
 import com.postura.user.entity.User;
 import com.postura.user.repository.UserRepository;
 import jakarta.transaction.Transactional;
@@ -23,26 +28,32 @@ public class PostureLogService {
     private final UserRepository userRepository;
     private final MonitoringSessionRepository sessionRepository;
     private final RealtimeFeedbackService realtimeFeedbackService;
+    private final PostureTrendService postureTrendService;
+    private final MonitoringService monitoringService;
+    private final SessionTimelineService sessionTimelineService;
+    private final SessionHourlyCounter sessionHourlyCounter;
 
     /**
      * FastAPI로부터 수신된 자세 로그를 처리하고 저장하는 핵심 메서드
      * DB 저장은 성능을 위해 비동기적으로 처리
+     * @param acceptedAtMillis LogReceiverController의 요청 수신 시각 (epoch ms)
      */
 
     @Async // 비동기 처리를 위한 annotation
     @Transactional
-    public void processAndSaveLog (PostureLogRequest request) {
+    public void processAndSaveLog (PostureLogRequest request, long acceptedAtMillis) {
 
-        // 1. MonitoringSession을 조회하여 DB에 저장된 안전한 User 객체(FK)를 가져옴
-        MonitoringSession session = sessionRepository.findById(request.getSessionId())
+        // 1. 활성 세션 레지스트리(Redis)에서 세션 소유자(userId)를 조회 (미스 시에만 DB 조회)
+        ActiveSessionState sessionState = monitoringService.findSessionState(request.getSessionId())
                 .orElseThrow(() -> {
                     log.error("Session not found for SessionId: {}", request.getSessionId());
                     return new IllegalArgumentException("Session not found: " + request.getSessionId());
                 });
+        Long safeUserId = sessionState.getUserId();
 
-        // DB에 저장된 안전한 User 객체(userId)를 가져옵니다.
-        User user = session.getUser();
-        Long safeUserId = user.getId();
+        // FK 참조만 필요하므로 SELECT 없이 프록시 사용
+        User user = userRepository.getReferenceById(safeUserId);
+        MonitoringSession session = sessionRepository.getReferenceById(request.getSessionId());
 
         // 2. DB 저장 조건 검사: "GOOD"이나 "UNKNOWN"이 아닌 자세가 하나라도 있는지 검사
         boolean hasWarningPosture = request.getPostureStates().stream()
@@ -59,10 +70,33 @@ public class PostureLogService {
             log.trace("DB Skip: Only 'Good' posture received for SessionId {}", request.getSessionId());
         }
 
-        // 4. 실시간 피드백 업데이트 (Redis)
+        // 4. 세션 타임라인 및 시간대별 카운트 기록 (Redis, 종료 시 압축 저장 / hourly_stat 반영)
+        // 종료 후 늦게 도착한 프레임은 이미 저장된 타임라인에 반영되지 않으므로 기록하지 않음
+        if (sessionState.isActive()) {
+            sessionTimelineService.record(
+                    request.getSessionId(),
+                    sessionState.getStartAt(),
+                    request.getTimestamp(),
+                    request.getPostureStates());
+            sessionHourlyCounter.record(
+                    request.getSessionId(),
+                    request.getTimestamp(),
+                    request.getPostureStates());
+        }
+
+        // 5. 자세 악화 추세 갱신 (메모리 내 O(1) 연산, posture_log 재조회 없음)
+        double trendScore = postureTrendService.record(
+                safeUserId,
+                hasWarningPosture,
+                request.getTimestamp());
+
+        // 6. 실시간 피드백 업데이트 (Redis)
         // 최신 자세 상태를 Redis에 캐시하도록 monitor 모듈에 위임
         realtimeFeedbackService.updatePostureCache(
                 safeUserId,
-                request.getPostureStates());
+                request.getPostureStates(),
+                trendScore,
+                request.getTimestamp(),
+                acceptedAtMillis);
     }
 }
@@ -1,6 +1,8 @@
 package com.postura.auth.filter;
 
 import com.postura.auth.service.JwtTokenProvider;
+import com.postura.auth.service.TokenRevocationService;
+import com.postura.user.service.CustomUserDetails;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,6 +22,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -49,6 +52,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
                 try {
                     Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+                    // 탈퇴 등으로 무효화된 사용자의 토큰은 만료 전이라도 인증하지 않음
+                    if (authentication.getPrincipal() instanceof CustomUserDetails principal
+                            && tokenRevocationService.isRevoked(principal.getUserId())) {
+                        log.debug("무효화된 사용자의 JWT | userId={} | path={}", principal.getUserId(), request.getRequestURI());
+                        filterChain.doFilter(request, response);
+                        return;
+                    }
+
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.debug("JWT 인증 성공 | user='{}' | path={}", authentication.getName(), request.getRequestURI());
 
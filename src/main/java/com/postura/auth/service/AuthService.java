@@ -128,6 +128,7 @@ public class AuthService {
 
         // DB에서 사용자 조회 (권한 포함)
         User user = userRepository.findById(userId)
+                .filter(found -> !found.isDeleted())
                 .orElseThrow(() -> new BadCredentialsException("사용자 정보를 확인할 수 없습니다."));
 
         // 권한 포함 Authentication 구성
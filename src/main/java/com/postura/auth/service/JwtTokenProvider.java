@@ -230,6 +230,13 @@ public class JwtTokenProvider {
         return false;
     }
 
+    /**
+     * Access Token TTL 반환
+     */
+    public long getAccessTokenExpirationInMilliseconds() {
+        return accessTokenValidityInMilliseconds;
+    }
+
     /**
      * Refresh Token TTL 반환
      */
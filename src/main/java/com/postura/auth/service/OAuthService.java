@@ -8,6 +8,7 @@ import com.postura.user.repository.UserRepository;
 import com.postura.dto.auth.UserInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -44,6 +45,11 @@ public class OAuthService {
                         )
                 );
 
+        // 탈퇴 처리 중인 계정은 로그인 불가
+        if (user.isDeleted()) {
+            throw new BadCredentialsException("탈퇴 처리 중인 계정입니다.");
+        }
+
         // 3. 사용자 정보 업데이트
         // ✅ 수정: 변경된 User.update() 시그니처에 맞춰 AuthProvider와 ProviderId를 함께 전달합니다.
         user.update(
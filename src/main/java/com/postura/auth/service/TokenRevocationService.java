@@ -0,0 +1,43 @@
+package com.postura.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 사용자 단위 Access Token 무효화 (회원 탈퇴 등)
+ *
+ * - Access Token은 서버에 저장하지 않으므로 만료 전까지 유효 -> 무효화된 사용자 ID를 Redis에 기록하고
+ *   JwtAuthenticationFilter에서 인증 시 확인
+ * - 기록 유지 시간 = Access Token 유효 시간 (그 전에 발급된 토큰은 모두 만료되므로 이후에는 기록이 필요 없음)
+ * - Refresh Token(RDB) 삭제는 호출 측에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+    private static final String REVOKED_KEY_PREFIX = "auth:revoked:user:";
+
+    // 시계 오차 허용분
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * 사용자의 모든 Access Token 무효화
+     */
+    public void revokeAll(Long userId) {
+        Duration ttl = Duration.ofMillis(jwtTokenProvider.getAccessTokenExpirationInMilliseconds()).plus(CLOCK_SKEW);
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + userId, String.valueOf(System.currentTimeMillis()), ttl);
+        log.info("Access tokens revoked for UserId {}", userId);
+    }
+
+    public boolean isRevoked(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + userId));
+    }
+}
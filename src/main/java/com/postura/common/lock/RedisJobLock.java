@@ -0,0 +1,57 @@
+package com.postura.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * 여러 서버 노드 중 한 곳에서만 배치 작업이 실행되도록 보장하는 Redis 기반 분산 락
+ *
+ * - 획득 : SET key token NX PX ttl
+ * - 해제 : 토큰이 일치할 때만 삭제 (다른 노드가 만료 후 재획득한 락을 지우지 않도록 Lua로 원자 처리)
+ * - 작업 도중 노드가 죽어도 ttl 이후 자동 해제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisJobLock {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String LOCK_KEY_PREFIX = "lock:job:";
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    /**
+     * 락을 획득한 경우에만 작업을 실행합니다.
+     * @param jobName 작업 이름 (락 키)
+     * @param ttl 락 유지 시간 (작업 최대 실행 시간보다 길게 설정)
+     * @param task 실행할 작업
+     * @return 실행 여부 (다른 노드가 실행 중이면 false)
+     */
+    public boolean runExclusively(String jobName, Duration ttl, Runnable task) {
+        String key = LOCK_KEY_PREFIX + jobName;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Job {} is running on another node. Skipping.", jobName);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(key), token);
+        }
+    }
+}
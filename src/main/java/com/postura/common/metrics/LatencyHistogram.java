@@ -0,0 +1,152 @@
+package com.postura.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간(ms) 분포를 기록하는 경량 로그-선형 히스토그램
+ *
+ * - 0 ~ 63ms 구간은 1ms 단위, 그 이상은 2의 거듭제곱 구간을 16등분 (상대 오차 약 6%)
+ * - 기록은 lock-free (AtomicLongArray + LongAdder), 객체 할당 없음
+ * - 음수 값(시계 오차)은 0으로 기록하고 별도 카운트
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_LIMIT = 64;          // 1ms 단위로 기록하는 구간 상한
+    private static final int SUB_BUCKET_BITS = 4;        // 2의 거듭제곱 구간당 16개 하위 버킷
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;          // 2^40ms 이상은 마지막 버킷에 포함
+    private static final int FIRST_EXPONENT = 6;         // log2(LINEAR_LIMIT)
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - FIRST_EXPONENT) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAdder negativeCount = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 지연 시간 하나를 기록합니다.
+     */
+    public void record(long millis) {
+        if (millis < 0) {
+            negativeCount.increment();
+            millis = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(millis));
+        count.increment();
+        sum.add(millis);
+        max.accumulateAndGet(millis, Math::max);
+    }
+
+    /**
+     * 현재까지의 분포를 스냅샷으로 반환합니다.
+     */
+    public Snapshot snapshot() {
+        long[] copied = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copied[i] = buckets.get(i);
+            total += copied[i];
+        }
+        return new Snapshot(copied, total, sum.sum(), negativeCount.sum(), max.get());
+    }
+
+    /**
+     * 누적 분포 초기화 (관리자 요청 시)
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        negativeCount.reset();
+        max.set(0);
+    }
+
+    // *************************************************************
+    // 버킷 계산
+    // *************************************************************
+
+    private static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return LINEAR_LIMIT + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * 버킷이 담당하는 구간의 상한 값 (백분위 계산 시 보수적으로 상한을 사용)
+     */
+    private static long bucketUpperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = FIRST_EXPONENT + offset / SUB_BUCKETS;
+        int subBucket = offset % SUB_BUCKETS;
+        long base = 1L << exponent;
+        long width = base >>> SUB_BUCKET_BITS;
+        return base + (subBucket + 1) * width - 1;
+    }
+
+    /**
+     * 특정 시점의 히스토그램 스냅샷
+     */
+    public static class Snapshot {
+        private final long[] buckets;
+        private final long count;
+        private final long sum;
+        private final long negativeCount;
+        private final long max;
+
+        private Snapshot(long[] buckets, long count, long sum, long negativeCount, long max) {
+            this.buckets = buckets;
+            this.count = count;
+            this.sum = sum;
+            this.negativeCount = negativeCount;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getNegativeCount() {
+            return negativeCount;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * 백분위 값 계산
+         * @param percentile 0 ~ 100
+         */
+        public long percentile(double percentile) {
+            if (count == 0) return 0;
+            long rank = (long) Math.ceil(percentile / 100.0 * count);
+            rank = Math.max(1, Math.min(count, rank));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.postura.common.posture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FastAPI가 판별하는 자세 상태와 비트마스크 매핑
+ *
+ * 한 프레임의 자세 상태 목록(List<String>)을 1바이트 비트마스크로 표현하기 위해 사용
+ * (세션 타임라인, 롤업/아카이브 등 압축 저장 시 공통 사용)
+ * - UNKNOWN(사용자 미감지)은 비트가 없으며 마스크 0은 "데이터 없음"을 의미
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PostureType {
+
+    GOOD(0),
+    FORWARD_HEAD(1),       // 거북목
+    UNEQUAL_SHOULDERS(2),  // 한쪽 어깨 기울임
+    UPPER_BODY_TILT(3),    // 상체 기울임
+    TOO_CLOSE(4),          // 화면과 너무 가까움
+    ASYMMETRIC_POSTURE(5), // 비대칭 자세
+    HEAD_TILT(6),          // 머리 기울임
+    LEANING_ON_ARM(7);     // 팔 지지 자세
+
+    private final int bit;
+
+    private static final Map<String, PostureType> BY_NAME = new HashMap<>();
+    private static final PostureType[] VALUES = values();
+
+    static {
+        for (PostureType type : VALUES) {
+            BY_NAME.put(type.name(), type);
+        }
+    }
+
+    public int mask() {
+        return 1 << bit;
+    }
+
+    public boolean isWarning() {
+        return this != GOOD;
+    }
+
+    /**
+     * 자세 상태 문자열 -> PostureType (대소문자 무시, 알 수 없는 값은 null)
+     */
+    public static PostureType from(String state) {
+        if (state == null) return null;
+        PostureType type = BY_NAME.get(state);
+        return type != null ? type : BY_NAME.get(state.trim().toUpperCase());
+    }
+
+    /**
+     * 프레임의 자세 상태 목록을 비트마스크로 변환
+     */
+    public static int toMask(List<String> states) {
+        int mask = 0;
+        for (String state : states) {
+            PostureType type = from(state);
+            if (type != null) {
+                mask |= type.mask();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크 -> 자세 상태 이름 목록
+     */
+    public static List<String> fromMask(int mask) {
+        List<String> states = new ArrayList<>();
+        for (PostureType type : VALUES) {
+            if ((mask & type.mask()) != 0) {
+                states.add(type.name());
+            }
+        }
+        return states;
+    }
+
+    /**
+     * 경고 자세 목록 (GOOD 제외 7가지)
+     */
+    public static List<PostureType> warnings() {
+        List<PostureType> warnings = new ArrayList<>();
+        for (PostureType type : VALUES) {
+            if (type.isWarning()) {
+                warnings.add(type);
+            }
+        }
+        return warnings;
+    }
+}
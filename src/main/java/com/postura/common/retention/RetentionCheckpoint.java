@@ -0,0 +1,119 @@
+package com.postura.common.retention;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 청크 단위 대량 삭제 작업(RetentionTask)의 진행 상태 (체크포인트)
+ *
+ * - lastKey 이하의 기본 키 구간은 삭제 완료를 의미 (중단 시 lastKey 이후부터 이어서 처리)
+ * - 같은 taskKey로 다시 실행하면 COMPLETED는 처음부터, RUNNING은 이어서 실행
+ *   (단, 작업 정의(조건/파라미터)가 기록과 다르면 lastKey가 다른 조건의 위치이므로 처음부터 실행)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "retention_checkpoint",
+        indexes = {
+                @Index(name = "idx_retention_status", columnList = "status")
+        })
+public class RetentionCheckpoint {
+
+    @Id
+    @Column(name = "task_key", length = 150)
+    private String taskKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    // 작업 정의 (RetentionTask.getDefinition)
+    @Column(name = "definition", length = 500)
+    private String definition;
+
+    @Column(name = "last_key", nullable = false)
+    private Long lastKey;
+
+    @Column(name = "deleted_count", nullable = false)
+    private Long deletedCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+    public static RetentionCheckpoint start(String taskKey) {
+        return start(taskKey, null);
+    }
+
+    public static RetentionCheckpoint start(String taskKey, String definition) {
+        LocalDateTime now = LocalDateTime.now();
+        return RetentionCheckpoint.builder()
+                .taskKey(taskKey)
+                .definition(definition)
+                .status(Status.RUNNING)
+                .lastKey(0L)
+                .deletedCount(0L)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    /**
+     * 같은 정의로 중단된 작업인지 여부 (이어서 처리 가능)
+     */
+    public boolean canResume(String definition) {
+        return isRunning() && Objects.equals(this.definition, definition);
+    }
+
+    /**
+     * 완료된 작업을 처음부터 다시 시작
+     */
+    public void restart() {
+        restart(this.definition);
+    }
+
+    /**
+     * 새 정의로 처음부터 다시 시작
+     */
+    public void restart(String definition) {
+        this.definition = definition;
+        this.status = Status.RUNNING;
+        this.lastKey = 0L;
+        this.deletedCount = 0L;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+        this.finishedAt = null;
+    }
+
+    public void checkpoint(long lastKey, long deletedCount) {
+        this.lastKey = lastKey;
+        this.deletedCount = deletedCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete(long deletedCount) {
+        this.status = Status.COMPLETED;
+        this.deletedCount = deletedCount;
+        this.updatedAt = LocalDateTime.now();
+        this.finishedAt = this.updatedAt;
+    }
+}
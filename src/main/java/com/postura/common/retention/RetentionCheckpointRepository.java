@@ -0,0 +1,27 @@
+package com.postura.common.retention;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface RetentionCheckpointRepository extends JpaRepository<RetentionCheckpoint, String> {
+
+    /**
+     * 접두사로 묶인 작업 중 특정 상태의 체크포인트 조회 (재시작 시 중단된 작업 이어서 처리)
+     */
+    List<RetentionCheckpoint> findAllByStatusAndTaskKeyStartingWith(RetentionCheckpoint.Status status, String prefix);
+
+    /**
+     * 접두사로 묶인 체크포인트 일괄 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RetentionCheckpoint c where c.taskKey like concat(:prefix, '%')")
+    int deleteAllByPrefix(@Param("prefix") String prefix);
+}
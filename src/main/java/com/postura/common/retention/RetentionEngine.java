@@ -0,0 +1,153 @@
+package com.postura.common.retention;
+
+import com.postura.config.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파티션을 적용할 수 없는 테이블용 청크 단위 대량 삭제 엔진
+ *
+ * - 삭제 범위 : 시작 시 조건에 맞는 최대 기본 키를 상한으로 고정하고, 기본 키 오름차순으로 chunkSize개씩 구간을 잘라
+ *   "DELETE ... WHERE id > ? AND id <= ? AND 조건" 한 문장으로 삭제 (엔티티 로딩 없음, 문장마다 자동 커밋)
+ *   -> 트랜잭션/undo 로그 크기와 잠금 시간이 청크 크기로 제한됨
+ * - 조절 : 청크마다 최소 대기 시간과 직전 DELETE 소요 시간 중 큰 값만큼 대기 (DB 점유율 50% 이하, 복제 지연 완화)
+ * - 재개 : 청크마다 RetentionCheckpoint에 마지막 기본 키를 기록, 중단 후 같은 taskKey/정의로 실행하면 이어서 처리
+ *         (같은 키라도 조건/파라미터가 다르면 처음부터 - 다른 조건에서 건너뛴 구간의 행을 놓치지 않도록)
+ * - 보고 : 진행 중/완료 시 삭제 행 수와 초당 삭제 행 수를 로그로 기록하고 RetentionResult로 반환
+ */
+@Component
+@Slf4j
+public class RetentionEngine {
+
+    // 진행 로그 출력 주기 (청크 수)
+    private static final int PROGRESS_LOG_INTERVAL = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RetentionCheckpointRepository checkpointRepository;
+    private final AppProperties appProperties;
+
+    public RetentionEngine(DataSource dataSource,
+                           RetentionCheckpointRepository checkpointRepository,
+                           AppProperties appProperties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.checkpointRepository = checkpointRepository;
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * 삭제 작업 실행 (호출 스레드에서 끝까지 실행, 트랜잭션 밖에서 호출해야 함)
+     */
+    public RetentionResult run(RetentionTask task) {
+        AppProperties.Retention config = appProperties.getRetention();
+        int chunkSize = Math.max(1, config.getChunkSize());
+        long minSleepMillis = Math.max(0, config.getMinSleepMillis());
+        long startedAt = System.currentTimeMillis();
+
+        // 1. 체크포인트 로드 (같은 정의로 RUNNING이면 이어서, 없거나 COMPLETED거나 정의가 다르면 처음부터)
+        String definition = task.getDefinition();
+        RetentionCheckpoint checkpoint = checkpointRepository.findById(task.getTaskKey()).orElse(null);
+        if (checkpoint == null) {
+            checkpoint = RetentionCheckpoint.start(task.getTaskKey(), definition);
+        } else if (checkpoint.canResume(definition)) {
+            log.info("Resuming retention task {} after key {}", task.getTaskKey(), checkpoint.getLastKey());
+        } else {
+            if (checkpoint.isRunning()) {
+                log.info("Retention task {} definition changed. Restarting from the beginning", task.getTaskKey());
+            }
+            checkpoint.restart(definition);
+        }
+        checkpoint = checkpointRepository.save(checkpoint);
+
+        long lastKey = checkpoint.getLastKey();
+        long totalDeleted = checkpoint.getDeletedCount();
+        long deleted = 0;
+        long chunks = 0;
+
+        // 2. 삭제 상한 고정 (실행 중 새로 조건에 맞게 된 행은 다음 실행에서 처리)
+        Long upperKey = jdbcTemplate.queryForObject(
+                "SELECT MAX(" + task.getIdColumn() + ") FROM " + task.getTable() + " WHERE " + task.getCondition(),
+                Long.class, task.getParams().toArray());
+
+        String chunkEndSql = "SELECT MAX(" + task.getIdColumn() + ") FROM (SELECT " + task.getIdColumn()
+                + " FROM " + task.getTable()
+                + " WHERE " + task.getIdColumn() + " > ? AND " + task.getIdColumn() + " <= ? AND " + task.getCondition()
+                + " ORDER BY " + task.getIdColumn() + " LIMIT " + chunkSize + ") c";
+        String deleteSql = "DELETE FROM " + task.getTable()
+                + " WHERE " + task.getIdColumn() + " > ? AND " + task.getIdColumn() + " <= ? AND " + task.getCondition();
+
+        // 3. 기본 키 구간별 삭제
+        while (upperKey != null && lastKey < upperKey) {
+            Object[] args = rangeArgs(lastKey, upperKey, task.getParams());
+            Long chunkEnd = jdbcTemplate.queryForObject(chunkEndSql, Long.class, args);
+            if (chunkEnd == null) {
+                break;
+            }
+
+            long chunkStartedAt = System.currentTimeMillis();
+            int rows = jdbcTemplate.update(deleteSql, rangeArgs(lastKey, chunkEnd, task.getParams()));
+            long chunkMillis = System.currentTimeMillis() - chunkStartedAt;
+
+            lastKey = chunkEnd;
+            deleted += rows;
+            totalDeleted += rows;
+            chunks++;
+            checkpoint.checkpoint(lastKey, totalDeleted);
+            checkpoint = checkpointRepository.save(checkpoint);
+
+            if (chunks % PROGRESS_LOG_INTERVAL == 0) {
+                long elapsed = System.currentTimeMillis() - startedAt;
+                log.info("Retention task {} in progress: {} rows deleted, {} rows/s, last key {}",
+                        task.getTaskKey(), deleted, String.format("%.1f", deleted * 1000.0 / Math.max(1, elapsed)), lastKey);
+            }
+
+            if (!sleep(Math.max(minSleepMillis, chunkMillis))) {
+                RetentionResult interrupted = new RetentionResult(task.getTaskKey(), deleted, chunks,
+                        System.currentTimeMillis() - startedAt, false);
+                log.warn("Retention task {} interrupted after {} rows. Will resume from key {}",
+                        task.getTaskKey(), deleted, lastKey);
+                return interrupted;
+            }
+        }
+
+        // 4. 완료 기록
+        checkpoint.complete(totalDeleted);
+        checkpointRepository.save(checkpoint);
+
+        RetentionResult result = new RetentionResult(task.getTaskKey(), deleted, chunks,
+                System.currentTimeMillis() - startedAt, true);
+        log.info("Retention task {} completed: {} rows deleted in {} chunks, {}ms ({} rows/s)",
+                task.getTaskKey(), result.deletedRows(), result.chunks(), result.elapsedMillis(),
+                String.format("%.1f", result.rowsPerSecond()));
+        return result;
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private static Object[] rangeArgs(long fromExclusive, long toInclusive, List<Object> params) {
+        List<Object> args = new ArrayList<>(params.size() + 2);
+        args.add(fromExclusive);
+        args.add(toInclusive);
+        args.addAll(params);
+        return args.toArray();
+    }
+
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.postura.common.retention;
+
+/**
+ * 대량 삭제 작업 결과
+ * @param completed false면 중단됨 (체크포인트가 RUNNING으로 남아 다음 실행에서 이어서 처리)
+ */
+public record RetentionResult(String taskKey, long deletedRows, long chunks, long elapsedMillis, boolean completed) {
+
+    public double rowsPerSecond() {
+        return elapsedMillis == 0 ? deletedRows : deletedRows * 1000.0 / elapsedMillis;
+    }
+}
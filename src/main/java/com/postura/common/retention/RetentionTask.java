@@ -0,0 +1,35 @@
+package com.postura.common.retention;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+import java.util.List;
+
+/**
+ * 청크 단위 대량 삭제 작업 정의
+ *
+ * - table / idColumn : 삭제 대상 테이블과 숫자형 기본 키 컬럼 (코드 상수만 사용, 외부 입력 금지)
+ * - condition        : 삭제 조건 SQL ("?" 바인딩, ex. "`timestamp` < ?", "user_id = ?")
+ * - taskKey          : 체크포인트 키 (같은 키, 같은 정의로 다시 실행하면 중단된 위치부터 이어서 처리)
+ *                      조건/파라미터가 실행마다 달라지면 기준(날짜 등)을 키에 포함
+ */
+@Getter
+@Builder
+public class RetentionTask {
+
+    private final String taskKey;
+    private final String table;
+    private final String idColumn;
+    private final String condition;
+
+    @Singular
+    private final List<Object> params;
+
+    /**
+     * 작업 정의 (테이블, 키 컬럼, 조건, 파라미터) - 체크포인트와 다르면 이어서 처리하지 않음
+     */
+    public String getDefinition() {
+        return table + "|" + idColumn + "|" + condition + "|" + params;
+    }
+}
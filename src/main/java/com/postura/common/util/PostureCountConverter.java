@@ -0,0 +1,50 @@
+package com.postura.common.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 자세 유형별 카운트 Map<String, Integer>와 DB 문자열 간의 변환을 담당하는 JPA Converter
+ * 저장 시 : {"FORWARD_HEAD": 3, "HEAD_TILT": 1} -> "FORWARD_HEAD:3,HEAD_TILT:1" (0인 항목 제외)
+ * 조회 시 : 문자열 -> Map
+ */
+@Converter
+public class PostureCountConverter implements AttributeConverter<Map<String, Integer>, String> {
+
+    private static final String ENTRY_DELIMITER = ",";
+    private static final String VALUE_DELIMITER = ":";
+
+    @Override
+    public String convertToDatabaseColumn(Map<String, Integer> attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return "";
+        }
+        return attribute.entrySet().stream()
+                .filter(e -> e.getValue() != null && e.getValue() > 0)
+                .map(e -> e.getKey() + VALUE_DELIMITER + e.getValue())
+                .collect(Collectors.joining(ENTRY_DELIMITER));
+    }
+
+    @Override
+    public Map<String, Integer> convertToEntityAttribute(String dbData) {
+        if (dbData == null || dbData.trim().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String entry : dbData.split(ENTRY_DELIMITER)) {
+            int idx = entry.indexOf(VALUE_DELIMITER);
+            if (idx <= 0) continue;
+            try {
+                counts.put(entry.substring(0, idx).trim(), Integer.parseInt(entry.substring(idx + 1).trim()));
+            } catch (NumberFormatException ignored) {
+                // 손상된 항목은 무시
+            }
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,37 @@
+package com.postura.common.util;
+
+/**
+ * 초당 허용 횟수를 제한하는 단순 간격 기반 Rate Limiter (여러 스레드 공유)
+ *
+ * - acquire() 호출 간 최소 간격(1초 / permitsPerSecond)을 보장하며, 간격이 모자라면 대기
+ * - 배치 작업이 주 DB에 보내는 쿼리 속도를 제한하는 용도
+ */
+public class RateLimiter {
+
+    private final long intervalNanos;
+    private long nextFreeNanos;
+
+    public RateLimiter(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.nextFreeNanos = System.nanoTime();
+    }
+
+    /**
+     * 허용될 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeNanos);
+            nextFreeNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+        }
+    }
+}
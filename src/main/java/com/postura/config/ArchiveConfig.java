@@ -0,0 +1,23 @@
+package com.postura.config;
+
+import com.postura.ai.service.ArchiveStorage;
+import com.postura.ai.service.LocalArchiveStorage;
+import com.postura.config.properties.AppProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class ArchiveConfig {
+
+    /**
+     * 자세 로그 아카이브 저장소 (오브젝트 스토리지용 ArchiveStorage 빈이 없으면 로컬 디렉터리 사용)
+     */
+    @Bean
+    @ConditionalOnMissingBean(ArchiveStorage.class)
+    public ArchiveStorage archiveStorage(AppProperties appProperties) {
+        return new LocalArchiveStorage(Path.of(appProperties.getArchive().getDirectory()));
+    }
+}
@@ -4,6 +4,7 @@ import com.postura.auth.filter.JwtAuthenticationFilter;
 import com.postura.auth.handler.OAuth2AuthenticationFailureHandler;
 import com.postura.auth.handler.OAuth2AuthenticationSuccessHandler;
 import com.postura.auth.service.JwtTokenProvider;
+import com.postura.auth.service.TokenRevocationService;
 import com.postura.user.service.CustomOAuth2UserService;
 import com.postura.user.service.CustomOidcUserService;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
 
@@ -76,6 +78,9 @@ public class SecurityConfig {
                         // AI 로그
                         .requestMatchers(HttpMethod.POST, "/api/ai/log").permitAll()
 
+                        // 관리자 API
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
                         // 보호 API
                         .requestMatchers("/monitor/**", "/api/monitor/**").authenticated()
                         .requestMatchers("/report/**", "/api/report/**").authenticated()
@@ -94,7 +99,7 @@ public class SecurityConfig {
 
                 .exceptionHandling(e -> e.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
 
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationService),
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -125,7 +130,7 @@ public class SecurityConfig {
         config.setAllowedHeaders(List.of("*"));
 
         // 프론트에서 응답 헤더를 읽어야 할 때
-        config.setExposedHeaders(List.of("Authorization", "Content-Type"));
+        config.setExposedHeaders(List.of("Authorization", "Content-Type", "X-Total-Count"));
 
         config.setAllowCredentials(true);
 
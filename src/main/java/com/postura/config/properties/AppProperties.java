@@ -11,6 +11,11 @@ import org.springframework.context.annotation.Configuration;
 public class AppProperties {
 
     private final Oauth2 oauth2 = new Oauth2();
+    private final Stat stat = new Stat();
+    private final Archive archive = new Archive();
+    private final Partition partition = new Partition();
+    private final Retention retention = new Retention();
+    private final Media media = new Media();
 
     @Getter
     @Setter
@@ -20,4 +25,101 @@ public class AppProperties {
          */
         private String authorizedRedirectUri;
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    public static class Stat {
+        /**
+         * 야간 일일 통계 집계 방식 (기본: SET_BASED)
+         */
+        private AggregationMode aggregationMode = AggregationMode.SET_BASED;
+
+        /**
+         * PER_USER 모드의 병렬 작업 스레드 수
+         */
+        private int parallelism = 4;
+
+        /**
+         * PER_USER 모드에서 한 번에 읽어 작업 스레드에 넘기는 사용자 수
+         */
+        private int chunkSize = 500;
+
+        /**
+         * 백필 작업의 병렬 작업 스레드 수 (주 DB 보호를 위해 야간 집계보다 작게)
+         */
+        private int backfillParallelism = 2;
+
+        /**
+         * 백필 작업이 초당 실행할 수 있는 최대 파티션(사용자 청크 x 월) 수
+         */
+        private double backfillPartitionsPerSecond = 5.0;
+
+        public enum AggregationMode {
+            PER_USER,   // 사용자별 재계산 (사용자당 여러 번 조회)
+            SET_BASED   // 전체 사용자 GROUP BY 1회 + 다중 행 UPSERT
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Archive {
+        /**
+         * 만료된 자세 로그를 삭제 전에 압축 아카이브로 보관할지 여부 (false면 기존처럼 바로 삭제)
+         */
+        private boolean enabled = true;
+
+        /**
+         * 로컬 아카이브 저장 경로 (다른 ArchiveStorage 빈을 등록하면 사용하지 않음)
+         */
+        private String directory = "./archive";
+    }
+
+    @Getter
+    @Setter
+    public static class Partition {
+        /**
+         * 시작 시 posture_log를 날짜별 RANGE 파티션 테이블로 전환할지 여부
+         * (전환 시 테이블 전체를 복사하므로 점검 시간에 활성화)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 미리 만들어 둘 미래 날짜 파티션 수
+         */
+        private int precreateDays = 7;
+    }
+
+    @Getter
+    @Setter
+    public static class Retention {
+        /**
+         * 대량 삭제 시 DELETE 한 문장이 지우는 최대 행 수
+         */
+        private int chunkSize = 5000;
+
+        /**
+         * 청크 사이 최소 대기 시간 (ms, 직전 DELETE 소요 시간이 더 길면 그만큼 대기)
+         */
+        private long minSleepMillis = 100;
+
+        /**
+         * 원본 자세 로그(posture_log) 보관 일수
+         */
+        private int postureLogDays = 30;
+
+        /**
+         * 분 단위 자세 요약(minute_stat) 보관 일수
+         */
+        private int minuteStatDays = 400;
+    }
+
+    @Getter
+    @Setter
+    public static class Media {
+        /**
+         * 정적 미디어(images/videos/photo)를 풀어 두고 직접 전송할 디스크 경로
+         * (클래스패스 static/ 아래 파일은 시작 시 이 경로로 복사)
+         */
+        private String directory = "./media";
+    }
+}
@@ -5,6 +5,8 @@ import com.postura.dto.content.ContentDetailResponse;
 import com.postura.dto.content.ContentListResponse;
 import com.postura.dto.content.ContentSearchRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -14,15 +16,22 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ContentController {
 
+    // 페이지 적용 전 전체 검색 결과 건수 (본문은 기존과 같은 목록)
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final ContentService contentService;
 
     /**
      * 콘텐츠 목록 조회 / 검색
      * - keyword(제목) + category + relatedPart(관련부위) 조합 검색
+     * - page/size 지정 시 해당 페이지만 반환, 전체 건수는 X-Total-Count 헤더
      */
     @PostMapping("/search")
-    public List<ContentListResponse> searchContents(@RequestBody ContentSearchRequest request) {
-        return contentService.searchContents(request);
+    public ResponseEntity<List<ContentListResponse>> searchContents(@RequestBody ContentSearchRequest request) {
+        Page<ContentListResponse> result = contentService.searchContents(request);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotalElements()))
+                .body(result.getContent());
     }
 
     /**
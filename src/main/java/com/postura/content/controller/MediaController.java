@@ -0,0 +1,170 @@
+package com.postura.content.controller;
+
+import com.postura.content.service.MediaLibrary;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+
+/**
+ * 정적 미디어 전송 (/images, /videos, /photo)
+ *
+ * - 지문 경로(/images/content/neck-{md5}.png) : Cache-Control "max-age=1년, immutable"
+ *   원래 경로(/images/content/neck.png) : 기존 URL 호환용, no-cache + ETag 재검증
+ * - If-None-Match 일치 시 304, Range(단일 구간) 요청 시 206 / 범위 밖이면 416
+ * - Tomcat sendfile 지원 시 파일 전송을 커넥터에 넘겨 커널에서 직접 전송 (사용자 공간 복사 없음),
+ *   아니면 FileChannel.transferTo로 전송
+ */
+@Controller
+@RequiredArgsConstructor
+public class MediaController {
+
+    // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants / Globals)
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE_CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private final MediaLibrary mediaLibrary;
+
+    @GetMapping({"/images/**", "/videos/**", "/photo/**"})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        MediaLibrary.MediaFile media = mediaLibrary.find(path).orElse(null);
+        if (media == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // 1. 캐시 헤더 (지문 경로만 영구 캐시)
+        response.setHeader(HttpHeaders.ETAG, media.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, media.lastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL,
+                path.equals(media.fingerprintedPath()) ? IMMUTABLE_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 2. 조건부 요청
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), media.etag())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 3. Range (If-Range가 현재 ETag와 다르면 전체 전송)
+        long length = media.length();
+        long start = 0;
+        long end = length; // exclusive
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(media.etag()))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+            }
+        }
+
+        response.setContentType(media.mediaType().toString());
+        response.setContentLengthLong(end - start);
+        if ("HEAD".equals(request.getMethod()) || end == start) {
+            return;
+        }
+
+        // 4. 본문 전송
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, media.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(media.file())) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * "bytes=a-b" / "bytes=a-" / "bytes=-n" 단일 구간 해석
+     * @return [start, end(exclusive)], 전체 전송이면 빈 배열, 만족할 수 없는 범위면 null
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            // 형식이 다르거나 다중 구간이면 Range를 무시하고 전체 전송
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // 마지막 n바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length : Math.min(Long.parseLong(last) + 1, length);
+            }
+            if (start >= length || start >= end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
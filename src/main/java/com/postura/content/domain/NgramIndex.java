@@ -0,0 +1,147 @@
+package com.postura.content.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문자 n-gram(1글자 + 2글자) 역색인 (불변)
+ *
+ * - 한글은 형태소 분석 없이도 2글자 단위로 잘라 색인하면 부분일치 검색이 가능 ("거북목" -> "거북", "북목")
+ * - 검색어의 n-gram 포스팅 목록(문서 번호 오름차순)을 짧은 것부터 교집합한 뒤, 원문 포함 여부로 최종 확인
+ *   -> LIKE '%검색어%'와 같은 결과를 전체 스캔 없이 계산
+ * - 1글자 검색어("목", "등")는 1글자 색인으로 처리
+ */
+public final class NgramIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    // 문서 번호별 정규화된 원문
+    private final String[] texts;
+
+    // n-gram -> 문서 번호 오름차순 목록
+    private final Map<String, int[]> postings;
+
+    private NgramIndex(String[] texts, Map<String, int[]> postings) {
+        this.texts = texts;
+        this.postings = postings;
+    }
+
+    /**
+     * 문서 목록으로 색인 생성 (목록 순서가 문서 번호, null은 빈 문서)
+     */
+    public static NgramIndex build(List<String> documents) {
+        String[] texts = new String[documents.size()];
+        Map<String, List<Integer>> building = new HashMap<>();
+
+        for (int doc = 0; doc < texts.length; doc++) {
+            texts[doc] = normalize(documents.get(doc));
+            for (String gram : indexGrams(texts[doc])) {
+                building.computeIfAbsent(gram, g -> new ArrayList<>()).add(doc);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(building.size() * 2);
+        building.forEach((gram, docs) -> postings.put(gram, docs.stream().mapToInt(Integer::intValue).toArray()));
+        return new NgramIndex(texts, postings);
+    }
+
+    /**
+     * 검색/색인 공통 정규화 (소문자, 앞뒤 공백 제거)
+     */
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어를 포함하는 문서 번호 (오름차순)
+     * @param term normalize를 거친 검색어
+     */
+    public int[] matches(String term) {
+        if (term.isEmpty()) {
+            return EMPTY;
+        }
+
+        // 1. 검색어 n-gram의 포스팅 목록 교집합 (가장 짧은 목록부터)
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : queryGrams(term)) {
+            int[] docs = postings.get(gram);
+            if (docs == null) {
+                return EMPTY;
+            }
+            lists.add(docs);
+        }
+        lists.sort(Comparator.comparingInt(docs -> docs.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        // 2. 원문 포함 여부 확인 (n-gram이 모두 있어도 연속되지 않은 경우 제외)
+        if (term.length() <= 2) {
+            return candidates;
+        }
+        int[] verified = new int[candidates.length];
+        int count = 0;
+        for (int doc : candidates) {
+            if (texts[doc].contains(term)) {
+                verified[count++] = doc;
+            }
+        }
+        return count == verified.length ? verified : Arrays.copyOf(verified, count);
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String term) {
+        if (term.length() == 1) {
+            return Set.of(term);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < term.length(); i++) {
+            grams.add(term.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
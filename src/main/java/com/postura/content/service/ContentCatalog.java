@@ -0,0 +1,235 @@
+package com.postura.content.service;
+
+import com.postura.content.domain.NgramIndex;
+import com.postura.content.entity.Content;
+import com.postura.content.repository.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * 콘텐츠 메모리 카탈로그 (추천 가이드 + 검색)
+ *
+ * - 콘텐츠는 거의 바뀌지 않으므로 시작 시 한 번 적재하고 주기적으로 다시 적재
+ * - 적재 결과는 불변 스냅샷(ID/카테고리/자세별 맵 + 제목/관련부위 n-gram 역색인)으로 만들어 volatile 참조를 교체
+ *   (조회 시 잠금/DB 조회 없음, 재적재 중에도 이전 스냅샷으로 일관되게 응답)
+ * - 리포트 생성 시 추천마다 content 테이블을 조회하던 것과 검색마다 LIKE 전체 스캔하던 것을 대체
+ * - 검색 조건/순서는 기존 LIKE 쿼리와 동일 (검색어는 제목 부분일치, 관련부위는 관련부위 부분일치, ID 순)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ContentCatalog {
+
+    private static final String STRETCHING_CATEGORY = "스트레칭";
+
+    private final ContentRepository contentRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 추천용 가이드 요약 (제목/ID만 보관)
+     */
+    public record GuideRef(Long guideId, String title) {
+    }
+
+    /**
+     * 검색 결과 (페이지 적용 전 전체 건수 + 해당 페이지 콘텐츠)
+     */
+    public record SearchResult(int totalCount, List<Content> contents) {
+    }
+
+    /**
+     * 한 번 적재한 콘텐츠의 불변 스냅샷 (문서 번호 = guideId 오름차순 목록의 위치)
+     */
+    private record Snapshot(List<Content> contents,
+                            Map<Long, Content> byId,
+                            Map<String, int[]> docsByCategory,
+                            Map<String, List<Content>> guidesByPosture,
+                            Map<String, List<GuideRef>> guideRefsByPosture,
+                            NgramIndex titleIndex,
+                            NgramIndex relatedPartIndex) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * 콘텐츠 변경 반영을 위한 주기적 재적재
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reload() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            Snapshot loaded = buildSnapshot(contentRepository.findAll(Sort.by("guideId")));
+            snapshot = loaded;
+            log.debug("Content catalog loaded. Contents={}, Postures={} ({}ms)",
+                    loaded.contents().size(), loaded.guidesByPosture().size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 재적재 실패 시 이전 스냅샷 유지
+            log.error("Failed to reload content catalog: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 문제 유형의 스트레칭 가이드 목록 (없으면 빈 목록)
+     */
+    public List<GuideRef> getGuides(String problemType) {
+        Snapshot current = current();
+        return current == null ? List.of() : current.guideRefsByPosture().getOrDefault(problemType, List.of());
+    }
+
+    /**
+     * 문제 유형의 스트레칭 가이드 콘텐츠 목록 (없으면 빈 목록)
+     */
+    public List<Content> getStretchingGuides(String problemType) {
+        Snapshot current = current();
+        return current == null ? List.of() : current.guidesByPosture().getOrDefault(problemType, List.of());
+    }
+
+    /**
+     * 문제 유형의 스트레칭 가이드 중 하나를 무작위로 선택
+     * @param random 선택에 사용할 난수 생성기 (같은 시드면 같은 가이드)
+     */
+    public GuideRef pickRandomGuide(String problemType, Random random) {
+        List<GuideRef> guides = getGuides(problemType);
+        if (guides.isEmpty()) {
+            return null;
+        }
+        return guides.get(random.nextInt(guides.size()));
+    }
+
+    /**
+     * ID로 콘텐츠 조회 (마지막 적재 이후 추가된 콘텐츠는 없을 수 있음)
+     */
+    public Optional<Content> findById(Long guideId) {
+        Snapshot current = current();
+        return current == null ? Optional.empty() : Optional.ofNullable(current.byId().get(guideId));
+    }
+
+    /**
+     * 콘텐츠 검색
+     * @param category 카테고리 (null이면 전체)
+     * @param keyword 제목 부분일치 필터 (null이면 전체)
+     * @param relatedPart 관련부위 부분일치 필터 (null이면 전체)
+     * @param page 0부터 시작하는 페이지 번호
+     * @param size 페이지 크기 (0 이하이면 전체)
+     */
+    public SearchResult search(String category, String keyword, String relatedPart, int page, int size) {
+        Snapshot current = current();
+        if (current == null) {
+            return new SearchResult(0, List.of());
+        }
+        int total = current.contents().size();
+
+        // 1. 필터 (카테고리 정확히 일치, 제목/관련부위 부분일치)
+        boolean[] allowed = new boolean[total];
+        Arrays.fill(allowed, category == null);
+        if (category != null) {
+            for (int doc : current.docsByCategory().getOrDefault(category, new int[0])) {
+                allowed[doc] = true;
+            }
+        }
+        if (keyword != null) {
+            retainMatches(allowed, current.titleIndex(), keyword);
+        }
+        if (relatedPart != null) {
+            retainMatches(allowed, current.relatedPartIndex(), relatedPart);
+        }
+
+        // 2. ID 순(문서 번호 순)으로 모은 뒤 페이지 적용
+        List<Integer> hits = new ArrayList<>();
+        for (int doc = 0; doc < total; doc++) {
+            if (allowed[doc]) {
+                hits.add(doc);
+            }
+        }
+
+        int from = size <= 0 ? 0 : (int) Math.min((long) Math.max(page, 0) * size, hits.size());
+        int to = size <= 0 ? hits.size() : Math.min(from + size, hits.size());
+        List<Content> contents = new ArrayList<>(to - from);
+        for (int doc : hits.subList(from, to)) {
+            contents.add(current.contents().get(doc));
+        }
+        return new SearchResult(hits.size(), contents);
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // 시작 직후 적재 전 요청
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * 색인에서 검색어를 포함하지 않는 문서를 allowed에서 제외
+     */
+    private static void retainMatches(boolean[] allowed, NgramIndex index, String value) {
+        boolean[] matched = new boolean[allowed.length];
+        for (int doc : index.matches(NgramIndex.normalize(value))) {
+            matched[doc] = true;
+        }
+        for (int doc = 0; doc < allowed.length; doc++) {
+            allowed[doc] &= matched[doc];
+        }
+    }
+
+    private static Snapshot buildSnapshot(List<Content> loaded) {
+        List<Content> contents = List.copyOf(loaded);
+
+        Map<Long, Content> byId = new HashMap<>();
+        Map<String, List<Integer>> categoryDocs = new HashMap<>();
+        Map<String, List<Content>> guides = new HashMap<>();
+        List<String> titles = new ArrayList<>(contents.size());
+        List<String> relatedParts = new ArrayList<>(contents.size());
+
+        for (int doc = 0; doc < contents.size(); doc++) {
+            Content content = contents.get(doc);
+            byId.put(content.getGuideId(), content);
+            categoryDocs.computeIfAbsent(content.getCategory(), c -> new ArrayList<>()).add(doc);
+            if (STRETCHING_CATEGORY.equals(content.getCategory()) && content.getPosture() != null) {
+                guides.computeIfAbsent(content.getPosture(), p -> new ArrayList<>()).add(content);
+            }
+            titles.add(content.getTitle());
+            relatedParts.add(content.getRelatedPart());
+        }
+
+        Map<String, int[]> docsByCategory = new HashMap<>();
+        categoryDocs.forEach((category, docs) ->
+                docsByCategory.put(category, docs.stream().mapToInt(Integer::intValue).toArray()));
+
+        Map<String, List<Content>> guidesByPosture = new HashMap<>();
+        Map<String, List<GuideRef>> guideRefsByPosture = new HashMap<>();
+        guides.forEach((posture, list) -> {
+            guidesByPosture.put(posture, List.copyOf(list));
+            guideRefsByPosture.put(posture, list.stream()
+                    .map(content -> new GuideRef(content.getGuideId(), content.getTitle()))
+                    .toList());
+        });
+
+        return new Snapshot(contents, Map.copyOf(byId), Map.copyOf(docsByCategory),
+                Map.copyOf(guidesByPosture), Map.copyOf(guideRefsByPosture),
+                NgramIndex.build(titles), NgramIndex.build(relatedParts));
+    }
+}
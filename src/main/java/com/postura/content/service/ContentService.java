@@ -6,6 +6,10 @@ import com.postura.dto.content.ContentDetailResponse;
 import com.postura.dto.content.ContentListResponse;
 import com.postura.dto.content.ContentSearchRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,30 +19,39 @@ import java.util.List;
 public class ContentService {
 
     private final ContentRepository contentRepository;
+    private final ContentCatalog contentCatalog;
+    private final MediaLibrary mediaLibrary;
 
     /**
-     * 콘텐츠 검색 / 목록 조회
+     * 콘텐츠 검색 / 목록 조회 (메모리 카탈로그 n-gram 색인, DB 조회 없음)
      * - category + keyword + relatedPart 조합 검색 지원
      * - category가 "전체"면 필터 해제
+     * - 결과는 ID 순 / page, size가 있으면 해당 페이지만 반환 (전체 건수는 Page의 totalElements)
      */
-    public List<ContentListResponse> searchContents(ContentSearchRequest request) {
+    public Page<ContentListResponse> searchContents(ContentSearchRequest request) {
 
         String category = normalizeCategory(request.getCategory());
         String keyword = normalize(request.getKeyword());
         String relatedPart = normalize(request.getRelatedPart());
 
-        List<Content> result = contentRepository.search(category, keyword, relatedPart);
+        int page = request.getPage() == null ? 0 : request.getPage();
+        int size = request.getSize() == null ? 0 : request.getSize();
 
-        return result.stream()
+        ContentCatalog.SearchResult result = contentCatalog.search(category, keyword, relatedPart, page, size);
+
+        List<ContentListResponse> contents = result.contents().stream()
                 .map(content -> ContentListResponse.builder()
                         .id(content.getGuideId())
                         .title(content.getTitle())
                         .category(content.getCategory())
-                        .imageUrl(content.getImageUrl())
+                        .imageUrl(mediaLibrary.resolveUrl(content.getImageUrl())) // 지문 경로 (영구 캐시)
                         .relatedPart(content.getRelatedPart())
                         .build()
                 )
                 .toList();
+
+        Pageable pageable = size > 0 ? PageRequest.of(Math.max(page, 0), size) : Pageable.unpaged();
+        return new PageImpl<>(contents, pageable, result.totalCount());
     }
 
     /**
@@ -46,7 +59,9 @@ public class ContentService {
      */
     public ContentDetailResponse getContentDetail(Long id) {
 
-        Content content = contentRepository.findById(id)
+        // 마지막 카탈로그 적재 이후 추가된 콘텐츠는 DB에서 조회
+        Content content = contentCatalog.findById(id)
+                .or(() -> contentRepository.findById(id))
                 .orElseThrow(() -> new RuntimeException("콘텐츠를 찾을 수 없습니다. id=" + id));
 
         return ContentDetailResponse.builder()
@@ -54,7 +69,7 @@ public class ContentService {
                 .title(content.getTitle())
                 .category(content.getCategory())
                 .contentText(content.getContentText())
-                .imageUrl(content.getImageUrl())
+                .imageUrl(mediaLibrary.resolveUrl(content.getImageUrl()))
                 .relatedPart(content.getRelatedPart())
                 .build();
     }
@@ -63,7 +78,7 @@ public class ContentService {
     // REPORT 모듈 연동을 위한 메서드 (기존 유지)
     // *************************************************************
     public List<Content> getGuidesByProblemType(String problemType) {
-        return contentRepository.findByCategoryAndPosture("스트레칭", problemType);
+        return contentCatalog.getStretchingGuides(problemType);
     }
 
     // -------------------------
@@ -0,0 +1,214 @@
+package com.postura.content.service;
+
+import com.postura.config.properties.AppProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 정적 미디어(/images, /videos, /photo) 색인
+ *
+ * - 시작 시 클래스패스 static/ 아래 미디어를 app.media.directory로 복사 (jar 스트림 대신 디스크 파일에서 직접 전송하기 위함)
+ *   크기/수정 시각이 같으면 복사를 건너뛰고, 복사는 임시 파일 -> 이동으로 처리하여 전송 중인 파일을 덮어쓰지 않음
+ * - 디렉터리의 모든 파일에 대해 내용 MD5로 지문 경로(/images/content/neck-{md5}.png)와 ETag를 만들어 불변 색인으로 교체
+ * - 지문 경로는 내용이 바뀌면 경로도 바뀌므로 응답을 영구 캐시(immutable)할 수 있음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MediaLibrary {
+
+    private static final List<String> ROOTS = List.of("images", "videos", "photo");
+    private static final String CLASSPATH_ROOT = "/static/";
+
+    private final AppProperties appProperties;
+
+    private volatile Index index;
+
+    /**
+     * 전송할 미디어 파일 정보
+     * @param path 원래 요청 경로 (/images/content/neck.png)
+     * @param fingerprintedPath 지문 경로 (/images/content/neck-{md5}.png)
+     */
+    public record MediaFile(String path,
+                            String fingerprintedPath,
+                            Path file,
+                            long length,
+                            long lastModified,
+                            String etag,
+                            MediaType mediaType) {
+    }
+
+    private record Index(Map<String, MediaFile> byPath, Map<String, MediaFile> byFingerprintedPath) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * 클래스패스 미디어 복사 후 디렉터리 재색인
+     */
+    public synchronized void reload() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            Path directory = Path.of(appProperties.getMedia().getDirectory()).toAbsolutePath().normalize();
+            int extracted = extractClasspathMedia(directory);
+            Index loaded = buildIndex(directory);
+            index = loaded;
+            log.info("Media library loaded from {}: {} files ({} extracted) in {}ms",
+                    directory, loaded.byPath().size(), extracted, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 재색인 실패 시 이전 색인 유지
+            log.error("Failed to load media library: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 요청 경로의 미디어 조회 (지문 경로와 원래 경로 모두 허용)
+     */
+    public Optional<MediaFile> find(String requestPath) {
+        Index current = current();
+        if (current == null) {
+            return Optional.empty();
+        }
+        MediaFile file = current.byFingerprintedPath().get(requestPath);
+        return Optional.ofNullable(file != null ? file : current.byPath().get(requestPath));
+    }
+
+    /**
+     * 저장된 이미지 URL을 지문 경로로 변환 (색인에 없는 경로나 외부 URL은 그대로 반환)
+     */
+    public String resolveUrl(String url) {
+        if (url == null || url.isEmpty() || url.contains("://")) {
+            return url;
+        }
+        String path = url.startsWith("/") ? url : "/" + url;
+        Index current = current();
+        MediaFile file = current == null ? null : current.byPath().get(path);
+        return file == null ? url : file.fingerprintedPath();
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private Index current() {
+        Index current = index;
+        if (current == null) {
+            // 시작 직후 색인 전 요청
+            reload();
+            current = index;
+        }
+        return current;
+    }
+
+    /**
+     * 클래스패스 static/{images,videos,photo} 아래 파일을 디렉터리로 복사
+     * @return 새로 복사한 파일 수
+     */
+    private static int extractClasspathMedia(Path directory) throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        int extracted = 0;
+
+        for (String root : ROOTS) {
+            for (Resource resource : resolver.getResources("classpath*:static/" + root + "/**")) {
+                String url = resource.getURL().toString();
+                int rootAt = url.lastIndexOf(CLASSPATH_ROOT);
+                if (!resource.isReadable() || url.endsWith("/") || rootAt < 0) {
+                    continue; // 디렉터리 항목
+                }
+                String relative = UriUtils.decode(url.substring(rootAt + CLASSPATH_ROOT.length()), StandardCharsets.UTF_8);
+                Path target = directory.resolve(relative).normalize();
+                if (!target.startsWith(directory)) {
+                    continue;
+                }
+
+                long lastModified = resource.lastModified();
+                if (Files.exists(target)
+                        && Files.size(target) == resource.contentLength()
+                        && Files.getLastModifiedTime(target).toMillis() == lastModified) {
+                    continue;
+                }
+
+                Files.createDirectories(target.getParent());
+                Path temp = Files.createTempFile(target.getParent(), ".extract-", ".tmp");
+                try (InputStream in = resource.getInputStream()) {
+                    Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                    Files.setLastModifiedTime(temp, FileTime.fromMillis(lastModified));
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+                extracted++;
+            }
+        }
+        return extracted;
+    }
+
+    private static Index buildIndex(Path directory) throws IOException {
+        Map<String, MediaFile> byPath = new HashMap<>();
+        Map<String, MediaFile> byFingerprintedPath = new HashMap<>();
+
+        for (String root : ROOTS) {
+            Path rootDirectory = directory.resolve(root);
+            if (!Files.isDirectory(rootDirectory)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(rootDirectory)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    String name = file.getFileName().toString();
+                    if (name.startsWith(".")) {
+                        continue; // 임시 파일
+                    }
+                    MediaFile media = toMediaFile(directory, file);
+                    byPath.put(media.path(), media);
+                    byFingerprintedPath.put(media.fingerprintedPath(), media);
+                }
+            }
+        }
+        return new Index(Map.copyOf(byPath), Map.copyOf(byFingerprintedPath));
+    }
+
+    private static MediaFile toMediaFile(Path directory, Path file) throws IOException {
+        String hash;
+        try (InputStream in = Files.newInputStream(file)) {
+            hash = DigestUtils.md5DigestAsHex(in);
+        }
+
+        String path = "/" + directory.relativize(file).toString().replace('\\', '/');
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        String fingerprintedPath = dot > slash
+                ? path.substring(0, dot) + "-" + hash + path.substring(dot)
+                : path + "-" + hash;
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+
+        return new MediaFile(path, fingerprintedPath, file, Files.size(file),
+                Files.getLastModifiedTime(file).toMillis(), "\"" + hash + "\"", mediaType);
+    }
+}
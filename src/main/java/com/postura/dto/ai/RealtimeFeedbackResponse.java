@@ -29,5 +29,16 @@ public class RealtimeFeedbackResponse {
 
     // 5. 세션 내 자세 유형별 누적 횟수 (누적 자세 데이터)
     private final Map<String, Integer> postureTypeCounts;
-    
+
+    // 6. 자세 악화 추세 (분당 경고율 변화량 %p/min, 양수면 악화 중)
+    private final Double fatigueTrendScore;
+
+    private final Boolean postureDegrading; // 추세 점수가 기준치 이상인지 여부
+
+    // 7. 자세 상태의 신선도 (epoch ms) : 프레임 촬영 -> 서버 수신 -> 캐시 기록
+    private final Long frameTimestamp;  // FastAPI 프레임 촬영 시각
+    private final Long acceptedAt;      // 서버(LogReceiverController) 수신 시각
+    private final Long cachedAt;        // Redis 캐시 기록 시각
+    private final Long stalenessMillis; // 응답 시점 기준 프레임의 나이
+
 }
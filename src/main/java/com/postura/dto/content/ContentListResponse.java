@@ -13,5 +13,5 @@ public class ContentListResponse {
     private String title;
     private String category;       // 카테고리
     private String relatedPart;    // 관련된 자세
-    private String imageUrl;     // S3 이미지 URL
+    private String imageUrl;     // 이미지 URL (서버 이미지는 지문 경로 /images/...-{md5}.png)
 }
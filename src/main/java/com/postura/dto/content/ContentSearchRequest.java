@@ -10,4 +10,6 @@ public class ContentSearchRequest {
     private String keyword;      // 제목 검색(부분일치)
     private String category;     // 카테고리 (예: "자세", "스트레칭", "전체" or null)
     private String relatedPart;  // 관련부위(예: "목", "어깨") - 부분일치
+    private Integer page;        // 페이지 번호 (0부터, 선택)
+    private Integer size;        // 페이지 크기 (선택, 없으면 전체)
 }
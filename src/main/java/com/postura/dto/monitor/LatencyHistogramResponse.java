@@ -0,0 +1,21 @@
+package com.postura.dto.monitor;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 지연 시간 히스토그램의 백분위 요약 (관리자 조회용)
+ */
+@Getter
+@Builder
+public class LatencyHistogramResponse {
+
+    private final long count;         // 기록된 샘플 수
+    private final long negativeCount; // 음수 지연 샘플 수 (서버 간 시계 오차)
+    private final double meanMillis;
+    private final long p50Millis;
+    private final long p90Millis;
+    private final long p99Millis;
+    private final long p999Millis;
+    private final long maxMillis;
+}
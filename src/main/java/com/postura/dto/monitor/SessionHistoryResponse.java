@@ -0,0 +1,18 @@
+package com.postura.dto.monitor;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 세션 이력 목록 응답 DTO (keyset 커서 페이지네이션)
+ */
+@Getter
+@Builder
+public class SessionHistoryResponse {
+
+    private final List<SessionSummaryResponse> sessions;
+    private final String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private final boolean hasNext;
+}
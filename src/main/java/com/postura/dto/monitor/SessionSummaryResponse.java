@@ -0,0 +1,45 @@
+package com.postura.dto.monitor;
+
+import com.postura.monitor.repository.SessionSummaryView;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 이력 목록의 세션 1건 요약 DTO
+ */
+@Getter
+@Builder
+public class SessionSummaryResponse {
+
+    private final Long sessionId;
+    private final String status;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final Long durationSeconds;    // 일시정지 구간을 제외한 분석 시간
+    private final Long goodCount;
+    private final Long totalCount;
+    private final Integer warningCount;
+    private final Double correctRatio;     // 바른 자세 유지율 (%), 진행 중이거나 프레임이 없으면 null
+    private final Double trendScore;
+
+    public static SessionSummaryResponse from(SessionSummaryView view) {
+        Double ratio = null;
+        if (view.getFinalTotalCount() != null && view.getFinalTotalCount() > 0 && view.getFinalGoodCount() != null) {
+            ratio = Math.round(view.getFinalGoodCount() * 10000.0 / view.getFinalTotalCount()) / 100.0;
+        }
+        return SessionSummaryResponse.builder()
+                .sessionId(view.getId())
+                .status(view.getStatus().name())
+                .startAt(view.getStartAt())
+                .endAt(view.getEndAt())
+                .durationSeconds(view.getAccumulatedDurationSeconds())
+                .goodCount(view.getFinalGoodCount())
+                .totalCount(view.getFinalTotalCount())
+                .warningCount(view.getFinalWarningCount())
+                .correctRatio(ratio)
+                .trendScore(view.getFinalTrendScore())
+                .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.postura.dto.monitor;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 프레임 -> 피드백 전달 지연 구간별 분포 응답 DTO
+ */
+@Getter
+@Builder
+public class StalenessMetricsResponse {
+
+    private final LatencyHistogramResponse acceptLag;       // 프레임 촬영 -> 서버 수신
+    private final LatencyHistogramResponse processingLag;   // 서버 수신 -> Redis 캐시 기록
+    private final LatencyHistogramResponse endToEndLag;     // 프레임 촬영 -> Redis 캐시 기록
+}
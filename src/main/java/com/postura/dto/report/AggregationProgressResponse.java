@@ -0,0 +1,39 @@
+package com.postura.dto.report;
+
+import com.postura.report.domain.AggregationProgress;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 통계 집계 작업 진행률 응답 DTO (관리자 조회용)
+ */
+@Getter
+@Builder
+public class AggregationProgressResponse {
+
+    private final String jobKey;
+    private final LocalDateTime startedAt;
+    private final long totalUsers;
+    private final long processedCount;
+    private final long failedCount;
+    private final double usersPerSecond; // 이번 실행의 처리량
+    private final Long etaSeconds;       // 남은 예상 시간 (측정 전이면 null)
+    private final boolean finished;
+
+    public static AggregationProgressResponse from(AggregationProgress progress) {
+        Duration eta = progress.getEta();
+        return AggregationProgressResponse.builder()
+                .jobKey(progress.getJobKey())
+                .startedAt(progress.getStartedAt())
+                .totalUsers(progress.getTotalUsers())
+                .processedCount(progress.getProcessedCount())
+                .failedCount(progress.getFailedCount())
+                .usersPerSecond(Math.round(progress.getUsersPerSecond() * 10.0) / 10.0)
+                .etaSeconds(eta == null ? null : eta.getSeconds())
+                .finished(progress.isFinished())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.postura.dto.report;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 통계 백필(기간 재집계) 요청 DTO (관리자용)
+ */
+@Getter
+@NoArgsConstructor
+public class BackfillRequest {
+
+    @NotNull
+    private LocalDate from; // 시작 날짜 (포함)
+
+    @NotNull
+    private LocalDate to;   // 종료 날짜 (포함)
+
+    private List<Long> userIds; // 대상 사용자 (생략 시 전체 사용자)
+}
@@ -0,0 +1,61 @@
+package com.postura.dto.report;
+
+import com.postura.report.domain.AggregationProgress;
+import com.postura.report.entity.AggregationJob;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 통계 백필 작업 상태 응답 DTO (관리자용)
+ * 처리량/ETA는 작업이 실행 중인 노드에서 조회할 때만 포함
+ */
+@Getter
+@Builder
+public class BackfillStatusResponse {
+
+    private final Long jobId;
+    private final String status;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final boolean userFiltered;
+    private final Long checkpointUserId;
+    private final long processedUsers;
+    private final long failedUsers;
+    private final int failedPartitions; // 재시도 대상(또는 FAILED 작업에 남은) 파티션 수
+    private final Long totalUsers;
+    private final Double usersPerSecond;
+    private final Long etaSeconds;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime finishedAt;
+
+    public static BackfillStatusResponse of(AggregationJob job, AggregationProgress progress) {
+        BackfillStatusResponseBuilder builder = BackfillStatusResponse.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .from(job.getTargetDate())
+                .to(job.getEndDate())
+                .userFiltered(job.getUserFilter() != null)
+                .checkpointUserId(job.getCheckpointUserId())
+                .processedUsers(job.getProcessedCount())
+                .failedUsers(job.getFailedCount())
+                .failedPartitions(job.getFailedPartitions().size())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt());
+
+        if (progress != null) {
+            Duration eta = progress.getEta();
+            builder.processedUsers(progress.getProcessedCount())
+                    .failedUsers(progress.getFailedCount())
+                    .totalUsers(progress.getTotalUsers())
+                    .usersPerSecond(Math.round(progress.getUsersPerSecond() * 10.0) / 10.0)
+                    .etaSeconds(eta == null ? null : eta.getSeconds());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.postura.dto.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 시간대별 자세 분석 응답 DTO
+ */
+@Getter
+@Builder
+public class HourlyReportDto {
+
+    private final LocalDate from;
+    private final LocalDate to;
+
+    // 0시 ~ 23시 시간대별 합계 (기간 내 모든 요일 합산)
+    private final List<HourlyPoint> intraday;
+
+    // [요일(0 = 월요일 ~ 6 = 일요일)][시간대(0 ~ 23)] 바른 자세 유지율 (%), 데이터가 없으면 null
+    private final List<List<Double>> weekdayHourHeatmap;
+
+    // 유지율이 가장 낮은 시간대 (표본이 충분한 시간대가 없으면 null)
+    private final Integer worstHour;
+
+    @Getter
+    @Builder
+    public static class HourlyPoint {
+        private final int hour;
+        private final long totalCount;
+        private final long goodCount;
+        private final long warningCount;
+        private final Double goodPostureRatio;
+    }
+}
@@ -0,0 +1,35 @@
+package com.postura.dto.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분 단위 자세 흐름 응답 DTO
+ * (모든 카운트의 단위는 세션 타임라인의 "초" - 기간과 무관하게 같은 단위/필드)
+ */
+@Getter
+@Builder
+public class MinuteSeriesDto {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+
+    // 데이터가 있는 분만 시간순으로 포함
+    private final List<MinutePoint> points;
+
+    @Getter
+    @Builder
+    public static class MinutePoint {
+        private final LocalDateTime minute;
+        private final int totalCount;   // 분석된 초
+        private final int goodCount;    // 바른 자세만 감지된 초
+        private final int warningCount; // 경고 자세가 하나라도 감지된 초
+
+        // 자세 유형명 -> 감지된 초 (0인 유형 제외)
+        private final Map<String, Integer> postureCounts;
+    }
+}
@@ -0,0 +1,34 @@
+package com.postura.dto.report;
+
+import com.postura.report.domain.StatPeriod;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 장기 기간 통계 응답 DTO
+ * (요청 기간과 포인트 수 제한에 맞춰 일/주/월 중 가장 세밀한 단위를 선택)
+ */
+@Getter
+@Builder
+public class RangeReportDto {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final StatPeriod resolution;
+    private final List<RangePoint> points;
+
+    @Getter
+    @Builder
+    public static class RangePoint {
+        private final LocalDate periodStart;
+        private final LocalDate periodEnd;
+        private final double correctRatio;     // 기간 전체 바른 자세 유지율 (%)
+        private final long totalAnalysisSeconds;
+        private final long totalWarningCount;
+        private final int recordedDays;        // 통계가 있는 날 수
+        private final int achievedDays;        // 목표 달성 날 수
+    }
+}
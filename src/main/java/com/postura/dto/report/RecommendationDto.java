@@ -2,12 +2,14 @@ package com.postura.dto.report;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 맞춤 추천 스트레칭 정보 (Content 엔티티 필드에 맞춤)
  */
 @Getter
 @Builder
+@Jacksonized // Redis 리포트 캐시 역직렬화용
 public class RecommendationDto {
     private final String problemType; // 문제 유형 (FORWARD_HEAD 등)
     private final String recommendedGuideTitle; // Content.title
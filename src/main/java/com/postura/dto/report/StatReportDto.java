@@ -2,6 +2,7 @@ package com.postura.dto.report;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -9,6 +10,7 @@ import java.util.Map;
 
 @Getter
 @Builder
+@Jacksonized // Redis 리포트 캐시 역직렬화용
 public class StatReportDto {
 
     // 1. 주간 추이 데이터 (그래프)
@@ -35,6 +37,7 @@ public class StatReportDto {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class CalendarAchievementDto {
         private final LocalDate date;
         private final Double ratio;
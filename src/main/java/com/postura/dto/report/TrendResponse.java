@@ -0,0 +1,30 @@
+package com.postura.dto.report;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 장기 추이 그래프 응답 DTO (서버 측 LTTB 다운샘플링 결과)
+ */
+@Getter
+@Builder
+public class TrendResponse {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final String resolution;   // DAY | HOUR (원본 데이터 단위)
+    private final String metric;       // RATIO | WARNINGS
+    private final long sourceCount;    // 다운샘플링 전 원본 포인트 수
+    private final List<TrendPoint> points;
+
+    @Getter
+    @Builder
+    public static class TrendPoint {
+        private final LocalDateTime at;
+        private final double value;
+    }
+}
@@ -0,0 +1,43 @@
+package com.postura.monitor.controller;
+
+import com.postura.dto.monitor.StalenessMetricsResponse;
+import com.postura.monitor.service.FeedbackStalenessMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 모니터링 파이프라인 운영 지표 조회용 관리자 API
+ * (SecurityConfig에서 /api/admin/** 는 ADMIN 권한만 허용)
+ */
+@RestController
+@RequestMapping("/api/admin/monitor")
+@RequiredArgsConstructor
+@Slf4j
+public class MonitorAdminController {
+
+    private final FeedbackStalenessMetrics feedbackStalenessMetrics;
+
+    /**
+     * [GET /api/admin/monitor/staleness] 프레임 -> 피드백 지연 분포 조회 (현재 노드 기준)
+     */
+    @GetMapping("/staleness")
+    public ResponseEntity<StalenessMetricsResponse> getStaleness() {
+        return ResponseEntity.ok(feedbackStalenessMetrics.snapshot());
+    }
+
+    /**
+     * [DELETE /api/admin/monitor/staleness] 누적 분포 초기화
+     */
+    @DeleteMapping("/staleness")
+    public ResponseEntity<Void> resetStaleness() {
+        feedbackStalenessMetrics.reset();
+        log.info("Feedback staleness histograms reset");
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
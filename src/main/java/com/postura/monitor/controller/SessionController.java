@@ -3,20 +3,29 @@ package com.postura.monitor.controller;
 import com.postura.common.exception.CustomException;
 import com.postura.common.exception.ErrorCode;
 import com.postura.dto.monitor.SessionControlRequest;
+import com.postura.dto.monitor.SessionHistoryResponse;
 import com.postura.dto.monitor.SessionStartResponse;
+import com.postura.monitor.entity.SessionTimeline;
 import com.postura.monitor.service.MonitoringService;
+import com.postura.monitor.service.SessionHistoryService;
+import com.postura.monitor.service.SessionTimelineService;
 import com.postura.user.service.CustomUserDetails;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/monitor")
@@ -25,6 +34,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class SessionController {
 
     private final MonitoringService monitoringService;
+    private final SessionTimelineService sessionTimelineService;
+    private final SessionHistoryService sessionHistoryService;
+
+    // 타임라인 조회 시 허용하는 최대 버킷 크기 (1시간)
+    private static final int MAX_TIMELINE_RESOLUTION_SECONDS = 3600;
 
     // *************************************************************
     // JWT 인증된 사용자 ID를 SecurityContext에서 추출하는 헬퍼 메서드
@@ -113,4 +127,45 @@ public class SessionController {
         // DB 상태 변경 완료 후 응답, React는 이 응답을 받고 AI reset 플래그와 함께 이미지 전송을 중지
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    /**
+     * [GET /api/monitor/sessions] 과거 세션 이력 조회 (최신순)
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (기본 20, 최대 100)
+     */
+    @GetMapping("/sessions")
+    public ResponseEntity<SessionHistoryResponse> getSessionHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size)
+    {
+        Long userId = getAuthenticatedUserId(); // JWT에서 userId 추출
+        return ResponseEntity.ok(sessionHistoryService.getSessionHistory(userId, cursor, size));
+    }
+
+    /**
+     * [GET /api/monitor/sessions/{sessionId}/timeline] 종료된 세션의 초당 자세 타임라인 조회
+     * - resolution: 버킷 크기(초), 기본 1초 / 버킷 안의 자세는 비트 OR로 합쳐 반환
+     * - 저장된 1행만 읽어 다운샘플링하며 응답은 스트리밍으로 전송
+     */
+    @GetMapping("/sessions/{sessionId}/timeline")
+    public ResponseEntity<StreamingResponseBody> getSessionTimeline(
+            @PathVariable Long sessionId,
+            @RequestParam(defaultValue = "1") int resolution)
+    {
+        Long userId = getAuthenticatedUserId(); // JWT에서 userId 추출
+
+        if (resolution < 1 || resolution > MAX_TIMELINE_RESOLUTION_SECONDS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "resolution은 1 ~ " + MAX_TIMELINE_RESOLUTION_SECONDS + " 사이여야 합니다.");
+        }
+
+        // 스트리밍 시작 전에 조회하여 없으면 404 응답
+        SessionTimeline timeline = sessionTimelineService.findTimeline(sessionId, userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND, "세션 타임라인이 없습니다."));
+
+        StreamingResponseBody body = out -> sessionTimelineService.writeTimeline(timeline, resolution, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,23 @@
+package com.postura.monitor.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * StaleSessionReaper가 찾은 방치 세션 정보 (MonitoringService.finalizeAbandonedSession 입력)
+ */
+@Getter
+@RequiredArgsConstructor
+public class AbandonedSession {
+
+    private final Long sessionId;
+    private final Long userId;
+
+    // 마지막 활동 시각 (마지막 프레임 캐시 시각, 없으면 시작/재개/일시정지 시각) -> 세션 종료 시각으로 사용
+    private final LocalDateTime lastActivityAt;
+
+    // 사용자가 이미 새 세션을 시작하여 피드백 캐시가 새 세션 것인지 여부 (true면 카운터를 사용하지 않음)
+    private final boolean superseded;
+}
@@ -0,0 +1,108 @@
+package com.postura.monitor.domain;
+
+import com.postura.monitor.entity.MonitoringSession;
+import com.postura.monitor.entity.SessionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 진행 중인 모니터링 세션의 상태 스냅샷 (ActiveSessionRegistry에 저장)
+ *
+ * 세션이 살아있는 동안에는 이 객체가 상태(status, pausedAt, 누적 시간)의 기준이 되고,
+ * MonitoringSession 엔티티에는 SessionStateWriter가 비동기로 반영합니다.
+ * version은 비동기 반영 순서가 뒤바뀌어도 오래된 상태가 덮어쓰지 않도록 사용됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ActiveSessionState {
+
+    // Redis Hash Field Key 정의
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_START_AT = "startAt";
+    private static final String FIELD_PAUSED_AT = "pausedAt";
+    private static final String FIELD_ACCUMULATED = "accumulatedSeconds";
+    public static final String FIELD_VERSION = "version"; // ActiveSessionRegistry의 원자적 비교에 사용
+
+    private final Long sessionId;
+    private final Long userId;
+    private SessionStatus status;
+    private final LocalDateTime startAt;
+    private LocalDateTime pausedAt;
+    private long accumulatedDurationSeconds;
+    private long version;
+
+    // *********** 상태 전이 (MonitoringSession의 비즈니스 메서드와 동일한 규칙) **************
+
+    public void pause(LocalDateTime now) {
+        this.accumulatedDurationSeconds += runningSeconds(now);
+        this.status = SessionStatus.PAUSED;
+        this.pausedAt = now;
+        this.version++;
+    }
+
+    public void resume(LocalDateTime now) {
+        this.status = SessionStatus.STARTED;
+        this.pausedAt = now; // 재개 시각을 다음 진행 시간 계산의 기준으로 사용
+        this.version++;
+    }
+
+    /**
+     * 마지막 기록된 시간(재개/시작 시각)부터 현재까지의 진행 시간 (STARTED 상태에서만 의미 있음)
+     */
+    public long runningSeconds(LocalDateTime now) {
+        if (status != SessionStatus.STARTED) return 0;
+        LocalDateTime from = pausedAt != null ? pausedAt : startAt;
+        if (from == null) return 0;
+        return Math.max(0, ChronoUnit.SECONDS.between(from, now));
+    }
+
+    public boolean isActive() {
+        return status == SessionStatus.STARTED || status == SessionStatus.PAUSED;
+    }
+
+    // *********** 변환 **************
+
+    public static ActiveSessionState from(MonitoringSession session) {
+        return ActiveSessionState.builder()
+                .sessionId(session.getId())
+                .userId(session.getUser().getId())
+                .status(session.getStatus())
+                .startAt(session.getStartAt())
+                .pausedAt(session.getPausedAt())
+                .accumulatedDurationSeconds(session.getAccumulatedDurationSeconds())
+                .version(session.getStateVersion() != null ? session.getStateVersion() : 0L)
+                .build();
+    }
+
+    public Map<String, String> toHash() {
+        Map<String, String> hash = new HashMap<>();
+        hash.put(FIELD_USER_ID, String.valueOf(userId));
+        hash.put(FIELD_STATUS, status.name());
+        hash.put(FIELD_START_AT, startAt.toString());
+        hash.put(FIELD_PAUSED_AT, pausedAt != null ? pausedAt.toString() : "");
+        hash.put(FIELD_ACCUMULATED, String.valueOf(accumulatedDurationSeconds));
+        hash.put(FIELD_VERSION, String.valueOf(version));
+        return hash;
+    }
+
+    public static ActiveSessionState fromHash(Long sessionId, Map<Object, Object> hash) {
+        String pausedAt = (String) hash.get(FIELD_PAUSED_AT);
+        return ActiveSessionState.builder()
+                .sessionId(sessionId)
+                .userId(Long.valueOf((String) hash.get(FIELD_USER_ID)))
+                .status(SessionStatus.valueOf((String) hash.get(FIELD_STATUS)))
+                .startAt(LocalDateTime.parse((String) hash.get(FIELD_START_AT)))
+                .pausedAt(pausedAt == null || pausedAt.isEmpty() ? null : LocalDateTime.parse(pausedAt))
+                .accumulatedDurationSeconds(Long.parseLong((String) hash.get(FIELD_ACCUMULATED)))
+                .version(Long.parseLong((String) hash.getOrDefault(FIELD_VERSION, "0")))
+                .build();
+    }
+}
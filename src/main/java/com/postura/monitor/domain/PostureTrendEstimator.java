@@ -0,0 +1,57 @@
+package com.postura.monitor.domain;
+
+/**
+ * 세션 내 자세 악화(피로) 추세 추정 모델
+ *
+ * 방식: 시간 가중 이중 지수 평활(Holt)
+ * - level : 경고 발생률(0.0 ~ 1.0)의 지수 가중 이동 평균
+ * - trend : level의 초당 변화량(기울기)의 지수 가중 이동 평균
+ *
+ * 특징:
+ * - 프레임마다 O(1) 연산, posture_log를 다시 읽지 않고 현재까지의 상태만으로 추세 계산
+ * - 상태(level, trend, 마지막 프레임 시각, 프레임 수)는 Redis 피드백 캐시에 보관하고
+ *   PostureTrendService의 Lua 스크립트로 원자적으로 갱신 (여러 노드가 같은 상태를 이어서 갱신)
+ * - @Async 로그 처리로 프레임 순서가 뒤바뀔 수 있으므로 dt를 하한/상한으로 보정
+ */
+public final class PostureTrendEstimator {
+
+    // level 평활 시간 상수 (초) : 약 1분 단위의 경고율 변화를 추적
+    public static final double LEVEL_TAU_SECONDS = 60.0;
+
+    // trend 평활 시간 상수 (초) : 기울기는 더 길게 평활하여 순간적인 흔들림 제거
+    public static final double TREND_TAU_SECONDS = 180.0;
+
+    // 프레임 간 시간 간격 보정 범위 (초)
+    public static final double MIN_DT_SECONDS = 0.2;
+    public static final double MAX_DT_SECONDS = 30.0;
+
+    // 추세 판단에 필요한 최소 프레임 수 (세션 초반의 불안정한 기울기 무시)
+    private static final long WARM_UP_FRAMES = 30;
+
+    // 자세 악화로 판단하는 기준 점수 (분당 경고율 +5%p 이상 증가)
+    private static final double DEGRADING_THRESHOLD = 5.0;
+
+    private PostureTrendEstimator() {
+    }
+
+    /**
+     * 추세 점수: 분당 경고율 변화량 (%p/min)
+     * 양수이면 자세가 점점 나빠지는 중, 음수이면 개선되는 중
+     * @param trend 초당 경고율 변화량
+     * @param frameCount 세션에서 반영된 프레임 수
+     */
+    public static double score(double trend, long frameCount) {
+        if (frameCount < WARM_UP_FRAMES) {
+            return 0.0;
+        }
+        double perMinute = trend * 60.0 * 100.0;
+        return Math.max(-100.0, Math.min(100.0, perMinute));
+    }
+
+    /**
+     * 자세 악화 여부 판단
+     */
+    public static boolean isDegrading(double score) {
+        return score >= DEGRADING_THRESHOLD;
+    }
+}
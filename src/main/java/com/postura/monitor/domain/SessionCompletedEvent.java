@@ -0,0 +1,15 @@
+package com.postura.monitor.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 세션 종료 트랜잭션 커밋 후 Outbox 즉시 처리를 트리거하기 위한 애플리케이션 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class SessionCompletedEvent {
+
+    private final Long userId;
+    private final Long sessionId;
+}
@@ -0,0 +1,156 @@
+package com.postura.monitor.domain;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 세션 타임라인(초당 자세 비트마스크 1바이트) 런렝스 인코더/디코더
+ *
+ * 인코딩 형식
+ * - [버전 1바이트][전체 초 수 varint] 이후 [반복 길이 varint][마스크 1바이트] 반복
+ * - 같은 자세가 이어지는 구간은 2~4바이트로 압축 (3시간 세션 원본 10,800바이트 -> 수백 바이트 수준)
+ * - 마스크 0은 "데이터 없음"(일시정지, 프레임 누락, UNKNOWN)을 의미
+ */
+public final class TimelineCodec {
+
+    private static final byte VERSION = 1;
+
+    private TimelineCodec() {
+    }
+
+    /**
+     * 런 하나(같은 마스크가 연속된 구간)를 받는 콜백
+     */
+    @FunctionalInterface
+    public interface RunVisitor {
+        void visit(int startSecond, int length, int mask);
+    }
+
+    /**
+     * 버킷 하나(resolution 초 구간의 마스크 OR 값)를 받는 콜백
+     */
+    @FunctionalInterface
+    public interface BucketVisitor {
+        void visit(int bucketIndex, int mask);
+    }
+
+    /**
+     * 초당 마스크 배열 -> RLE 바이트 배열
+     */
+    public static byte[] encode(byte[] perSecond) {
+        int total = perSecond == null ? 0 : perSecond.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + total / 8);
+        out.write(VERSION);
+        writeVarint(out, total);
+
+        int i = 0;
+        while (i < total) {
+            byte mask = perSecond[i];
+            int runEnd = i + 1;
+            while (runEnd < total && perSecond[runEnd] == mask) {
+                runEnd++;
+            }
+            writeVarint(out, runEnd - i);
+            out.write(mask);
+            i = runEnd;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 인코딩된 타임라인의 전체 초 수
+     */
+    public static int totalSeconds(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) return 0;
+        checkVersion(encoded);
+        return (int) readVarint(encoded, new int[]{1});
+    }
+
+    /**
+     * 원본 배열을 복원하지 않고 런 단위로 순회 (메모리 O(1))
+     */
+    public static void forEachRun(byte[] encoded, RunVisitor visitor) {
+        if (encoded == null || encoded.length == 0) return;
+        checkVersion(encoded);
+
+        int[] pos = {1};
+        int total = (int) readVarint(encoded, pos);
+        int second = 0;
+        while (second < total && pos[0] < encoded.length) {
+            int length = (int) readVarint(encoded, pos);
+            int mask = encoded[pos[0]++] & 0xFF;
+            length = Math.min(length, total - second);
+            visitor.visit(second, length, mask);
+            second += length;
+        }
+    }
+
+    /**
+     * resolution 초 단위 버킷으로 다운샘플링하여 순회 (버킷 안의 마스크는 OR로 합침)
+     */
+    public static void forEachBucket(byte[] encoded, int resolutionSeconds, BucketVisitor visitor) {
+        if (resolutionSeconds <= 1) {
+            forEachRun(encoded, (start, length, mask) -> {
+                for (int s = start; s < start + length; s++) {
+                    visitor.visit(s, mask);
+                }
+            });
+            return;
+        }
+
+        int total = totalSeconds(encoded);
+        int[] bucket = {0};
+        int[] acc = {0};
+        forEachRun(encoded, (start, length, mask) -> {
+            int pos = start;
+            int end = start + length;
+            while (pos < end) {
+                int bucketEnd = (bucket[0] + 1) * resolutionSeconds;
+                int segmentEnd = Math.min(end, bucketEnd);
+                acc[0] |= mask;
+                pos = segmentEnd;
+                if (pos == bucketEnd) {
+                    visitor.visit(bucket[0]++, acc[0]);
+                    acc[0] = 0;
+                }
+            }
+        });
+
+        // 마지막 불완전 버킷
+        if (total % resolutionSeconds != 0) {
+            visitor.visit(bucket[0], acc[0]);
+        }
+    }
+
+    // *************************************************************
+    // varint (LEB128, 부호 없음)
+    // *************************************************************
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] data, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        while (pos[0] < data.length) {
+            int b = data[pos[0]++] & 0xFF;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) break;
+        }
+        throw new IllegalArgumentException("Malformed timeline varint");
+    }
+
+    private static void checkVersion(byte[] encoded) {
+        if (encoded[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported timeline version: " + encoded[0]);
+        }
+    }
+}
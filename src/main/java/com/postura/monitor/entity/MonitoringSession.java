@@ -1,17 +1,25 @@
 package com.postura.monitor.entity;
 
+import com.postura.common.util.PostureCountConverter;
 import com.postura.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor(access =  AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "monitoring_session")
+@Table(name = "monitoring_session",
+        indexes = {
+                // 방치 세션 정리(StaleSessionReaper)의 keyset 스캔용
+                @Index(name = "idx_session_status_id", columnList = "status, session_id"),
+                // 세션 이력 keyset 페이지네이션용 (user_id 조건 + start_at, session_id 정렬)
+                @Index(name = "idx_session_user_start", columnList = "user_id, start_at, session_id")
+        })
 public class MonitoringSession {
 
     @Id
@@ -44,6 +52,10 @@ public class MonitoringSession {
     @Column(name = "accumulated_duration_seconds", nullable =  false)
     private Long accumulatedDurationSeconds;
 
+    // 6. 상태 전이 버전 (ActiveSessionRegistry -> DB 비동기 반영 시 순서 보장용)
+    @Column(name = "state_version")
+    private Long stateVersion;
+
     // *************************************************************
     // 추가 필드: Redis에서 읽어와 RDB에 영구 저장할 최종 카운터
     // *************************************************************
@@ -57,6 +69,22 @@ public class MonitoringSession {
     @Column(name = "final_warning_count")
     private Integer finalWarningCount; // 최종 확정된 총 경고 횟수
 
+    @Column(name = "final_trend_score")
+    private Double finalTrendScore; // 세션 종료 시점의 자세 악화 추세 점수 (%p/min)
+
+    @Convert(converter = PostureCountConverter.class)
+    @Column(name = "final_posture_counts")
+    private Map<String, Integer> finalPostureCounts; // 최종 확정된 자세 유형별 경고 횟수
+
+    // 일일 통계(AggregateStat)에 이 세션의 카운트가 반영되었는지 여부 (중복 반영 방지)
+    @Column(name = "stat_applied")
+    private Boolean statApplied;
+
+    // 시간대별/분 단위 통계(hourly_stat, minute_stat)에 이 세션의 카운터/타임라인이 반영되었는지 여부
+    // (야간 재집계/백필은 stat_applied만 표시하므로 별도 플래그로 관리)
+    @Column(name = "rollup_applied")
+    private Boolean rollupApplied;
+
     // *********** 비즈니스 메서드 **************
     /**
      * 세션을 PAUSED 상태로 변경하고 현재까지의 누적 시간을 업데이트하는 메서드
@@ -80,17 +108,31 @@ public class MonitoringSession {
         // accumulatedDurationSeconds는 그대로 유지함
     }
 
+    /**
+     * 레지스트리(ActiveSessionRegistry)에 보관된 최신 상태를 엔티티에 동기화
+     * (비동기 반영이 아직 끝나지 않았을 수 있으므로 종료 직전에 호출)
+     */
+    public void syncState(SessionStatus status, LocalDateTime pausedAt, long accumulatedDurationSeconds, long stateVersion) {
+        this.status = status;
+        this.pausedAt = pausedAt;
+        this.accumulatedDurationSeconds = accumulatedDurationSeconds;
+        this.stateVersion = stateVersion;
+    }
+
     /**
      * 세션을 COMPLETED 상태로 변경하고 최종 종료 시각 기록
      */
-    public void complete(long finalDurationSeconds, Long finalGoodCount, Long finalTotalCount, Integer finalWarningCount) {
+    public void complete(LocalDateTime endAt, long finalDurationSeconds, Long finalGoodCount, Long finalTotalCount,
+                         Integer finalWarningCount, Double finalTrendScore, Map<String, Integer> finalPostureCounts) {
         // 최종 누적 시간에 마지막 Running 시간을 더하여 총 분석 시간 확정
         this.accumulatedDurationSeconds += finalDurationSeconds;
         this.status = SessionStatus.COMPLETED;
-        this.endAt = LocalDateTime.now();
+        this.endAt = endAt; // 사용자 종료 시 현재 시각, 방치 세션은 마지막 활동 시각
 
         this.finalGoodCount = finalGoodCount;
         this.finalTotalCount = finalTotalCount;
         this.finalWarningCount = finalWarningCount;
+        this.finalTrendScore = finalTrendScore;
+        this.finalPostureCounts = finalPostureCounts;
     }
 }
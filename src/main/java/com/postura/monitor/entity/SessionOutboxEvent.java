@@ -0,0 +1,105 @@
+package com.postura.monitor.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 세션 종료 후처리 작업을 위한 Transactional Outbox 이벤트
+ *
+ * - 세션 COMPLETED 기록과 같은 트랜잭션에서 INSERT 되므로, 세션이 커밋되면 후처리도 반드시 보장됨
+ * - SessionOutboxDispatcher가 사용자별 id 순서대로 처리 (통계 집계, 캐시 정리 등)
+ * - 실패 시 지수 백오프로 재시도하며, 같은 사용자의 이후 이벤트는 앞선 이벤트가 끝날 때까지 대기
+ * - 최대 시도 횟수를 넘기면 FAILED(dead letter)로 격리하고 이후 이벤트는 계속 처리 (FAILED 이벤트는 보관)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "session_outbox",
+        indexes = {
+                @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_outbox_user", columnList = "user_id, outbox_id")
+        })
+public class SessionOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    // 사용자별 순서 보장의 기준 (FK 조인 없이 ID만 보관)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "session_id", nullable = false)
+    private Long sessionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 30, nullable = false)
+    private EventType eventType;
+
+    // 통계 집계 대상 날짜 (세션 시작일 기준)
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // PROCESSING 상태의 점유 만료 시각 (처리 중 노드가 죽으면 다른 노드가 재처리)
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * 이벤트 처리 상태
+     */
+    public enum Status {
+        PENDING,
+        PROCESSING,
+        DONE,
+        FAILED  // 최대 시도 횟수 초과 (수동 확인 대상)
+    }
+
+    /**
+     * 이벤트 유형
+     */
+    public enum EventType {
+        SESSION_COMPLETED
+    }
+
+    /**
+     * 세션 종료 이벤트 생성용 팩토리 메서드
+     */
+    public static SessionOutboxEvent sessionCompleted(MonitoringSession session, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return SessionOutboxEvent.builder()
+                .userId(userId)
+                .sessionId(session.getId())
+                .eventType(EventType.SESSION_COMPLETED)
+                .statDate(session.getStartAt().toLocalDate())
+                .status(Status.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+}
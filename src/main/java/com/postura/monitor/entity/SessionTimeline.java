@@ -0,0 +1,46 @@
+package com.postura.monitor.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 전체의 초당 자세 타임라인 (세션당 1행)
+ *
+ * - 세션 진행 중에는 Redis 비트맵에 기록하고, 종료 시 RLE 압축하여 한 번에 저장
+ * - posture_log는 경고 프레임만 저장하므로, 정상/경고/공백 구간을 모두 복원하려면 이 테이블을 사용
+ * - 타임라인 형식은 TimelineCodec 참고
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "session_timeline",
+        indexes = {
+                @Index(name = "idx_timeline_user_start", columnList = "user_id, start_at")
+        })
+public class SessionTimeline {
+
+    // MonitoringSession의 session_id와 동일 (1:1)
+    @Id
+    @Column(name = "session_id")
+    private Long sessionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 타임라인 0초의 기준 시각 (세션 시작 시각)
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;
+
+    // 타임라인 길이 (마지막 프레임까지의 초 수)
+    @Column(name = "total_seconds", nullable = false)
+    private Integer totalSeconds;
+
+    // RLE 압축된 초당 자세 비트마스크
+    @Lob
+    @Column(name = "timeline_data", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] timelineData;
+}
@@ -1,8 +1,15 @@
 package com.postura.monitor.repository;
 
 import com.postura.monitor.entity.MonitoringSession;
+import com.postura.monitor.entity.SessionStatus;
 import com.postura.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,5 +23,158 @@ public interface MonitoringSessionRepository extends JpaRepository<MonitoringSes
      */
     Optional<MonitoringSession> findByIdAndUserId(Long sessionId, Long userId);
 
-    List<MonitoringSession> findAllByUserIdAndStartAtBetween(Long userId, LocalDateTime start, LocalDateTime end);
+    /**
+     * 사용자의 [start, end) 구간 세션을 모두 잠가서 조회 (SELECT ... FOR UPDATE, 야간 재집계)
+     * 재집계 트랜잭션이 끝날 때까지 세션 종료/증분 반영이 대기하므로, 집계한 세션과 반영 완료로 표시할 세션이 일치
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select s from MonitoringSession s
+         where s.user.id = :userId
+           and s.startAt >= :start and s.startAt < :end
+        """)
+    List<MonitoringSession> findAllByUserIdInRangeForUpdate(@Param("userId") Long userId,
+                                                            @Param("start") LocalDateTime start,
+                                                            @Param("end") LocalDateTime end);
+
+    /**
+     * 세션 이력 첫 페이지 조회 (최신순, idx_session_user_start 사용)
+     * s.user.id는 FK 컬럼으로 바로 비교되므로 User 조인/프록시 초기화 없음
+     */
+    @Query("""
+        select s.id as id, s.status as status, s.startAt as startAt, s.endAt as endAt,
+               s.accumulatedDurationSeconds as accumulatedDurationSeconds,
+               s.finalGoodCount as finalGoodCount, s.finalTotalCount as finalTotalCount,
+               s.finalWarningCount as finalWarningCount, s.finalTrendScore as finalTrendScore
+          from MonitoringSession s
+         where s.user.id = :userId
+         order by s.startAt desc, s.id desc
+        """)
+    List<SessionSummaryView> findSummariesFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 세션 이력 다음 페이지 조회 (커서: 이전 페이지 마지막 항목의 start_at, session_id)
+     * OFFSET 없이 인덱스 위치에서 바로 이어 읽으므로 깊은 페이지도 첫 페이지와 비용 동일
+     */
+    @Query("""
+        select s.id as id, s.status as status, s.startAt as startAt, s.endAt as endAt,
+               s.accumulatedDurationSeconds as accumulatedDurationSeconds,
+               s.finalGoodCount as finalGoodCount, s.finalTotalCount as finalTotalCount,
+               s.finalWarningCount as finalWarningCount, s.finalTrendScore as finalTrendScore
+          from MonitoringSession s
+         where s.user.id = :userId
+           and (s.startAt < :cursorStartAt
+                or (s.startAt = :cursorStartAt and s.id < :cursorId))
+         order by s.startAt desc, s.id desc
+        """)
+    List<SessionSummaryView> findSummariesAfter(@Param("userId") Long userId,
+                                                @Param("cursorStartAt") LocalDateTime cursorStartAt,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    /**
+     * 진행 중(STARTED/PAUSED) 세션을 session_id 기준 keyset 방식으로 조회 (StaleSessionReaper)
+     * OFFSET 없이 마지막으로 읽은 ID 이후부터 조회하므로 스캔 위치와 무관하게 비용 일정
+     */
+    @Query("""
+        select s
+          from MonitoringSession s
+         where s.status in :statuses
+           and s.id > :afterId
+         order by s.id asc
+        """)
+    List<MonitoringSession> findByStatusInAfterId(@Param("statuses") List<SessionStatus> statuses,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    /**
+     * 세션 상태 전이(pause/resume)를 비동기로 반영 (SessionStateWriter)
+     * - 더 최신 version이 이미 반영되었거나 COMPLETED된 세션은 갱신하지 않음
+     * @return 갱신된 행 수 (0이면 오래된 전이로 무시됨)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update MonitoringSession s
+           set s.status = :status,
+               s.pausedAt = :pausedAt,
+               s.accumulatedDurationSeconds = :accumulatedSeconds,
+               s.stateVersion = :version
+         where s.id = :sessionId
+           and s.status <> com.postura.monitor.entity.SessionStatus.COMPLETED
+           and (s.stateVersion is null or s.stateVersion < :version)
+        """)
+    int updateTransition(@Param("sessionId") Long sessionId,
+                         @Param("status") SessionStatus status,
+                         @Param("pausedAt") LocalDateTime pausedAt,
+                         @Param("accumulatedSeconds") Long accumulatedSeconds,
+                         @Param("version") Long version);
+
+    /**
+     * 세션의 일일 통계 반영 여부를 원자적으로 표시 (StatAggregationService 증분 반영)
+     * @return 1이면 이번 호출에서 반영 권한 획득, 0이면 이미 반영되었거나 종료되지 않은 세션
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update MonitoringSession s
+           set s.statApplied = true
+         where s.id = :sessionId
+           and s.status = com.postura.monitor.entity.SessionStatus.COMPLETED
+           and (s.statApplied is null or s.statApplied = false)
+        """)
+    int markStatApplied(@Param("sessionId") Long sessionId);
+
+    /**
+     * 세션의 시간대별 통계 반영 여부를 원자적으로 표시 (stat_applied와 독립)
+     * @return 1이면 이번 호출에서 반영 권한 획득, 0이면 이미 반영되었거나 종료되지 않은 세션
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update MonitoringSession s
+           set s.rollupApplied = true
+         where s.id = :sessionId
+           and s.status = com.postura.monitor.entity.SessionStatus.COMPLETED
+           and (s.rollupApplied is null or s.rollupApplied = false)
+        """)
+    int markRollupApplied(@Param("sessionId") Long sessionId);
+
+    /**
+     * 구간과 겹치면서 아직 시간대/분 단위 롤업에 반영되지 않은 세션 조회 (진행 중 + Outbox 반영 대기)
+     * (rollup_applied가 null인 세션은 플래그 도입 이전 세션으로, 반영할 타임라인/카운터가 없음)
+     */
+    @Query("""
+        select s from MonitoringSession s
+         where s.user.id = :userId
+           and s.startAt < :to
+           and (s.endAt is null or s.endAt >= :from)
+           and s.rollupApplied = false
+        """)
+    List<MonitoringSession> findRollupPending(@Param("userId") Long userId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+
+    /**
+     * 야간 재집계에 포함된 세션만 반영 완료로 표시
+     * (재집계 이후 도착한 Outbox 이벤트가 같은 세션을 중복 반영하지 않도록 함)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        update MonitoringSession s
+           set s.statApplied = true
+         where s.id in :sessionIds
+        """)
+    int markStatAppliedByIds(@Param("sessionIds") List<Long> sessionIds);
+
+    /**
+     * 종료되었지만 아직 일일 통계에 반영되지 않은 세션 조회 (리포트의 오늘 통계 실시간 합산용)
+     */
+    @Query("""
+        select s from MonitoringSession s
+         where s.user.id = :userId
+           and s.startAt >= :start and s.startAt < :end
+           and s.status = com.postura.monitor.entity.SessionStatus.COMPLETED
+           and (s.statApplied is null or s.statApplied = false)
+        """)
+    List<MonitoringSession> findUnappliedCompleted(@Param("userId") Long userId,
+                                                   @Param("start") LocalDateTime start,
+                                                   @Param("end") LocalDateTime end);
 }
@@ -0,0 +1,115 @@
+package com.postura.monitor.repository;
+
+import com.postura.monitor.entity.SessionOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SessionOutboxRepository extends JpaRepository<SessionOutboxEvent, Long> {
+
+    /**
+     * 지금 처리 가능한 이벤트 조회
+     * - 재시도 시각이 지난 PENDING 또는 점유가 만료된 PROCESSING 이벤트
+     * - 같은 사용자의 앞선 이벤트가 끝나지 않았다면 제외 (사용자별 순서 보장, FAILED로 격리된 이벤트는 건너뜀)
+     */
+    @Query("""
+        select e
+          from SessionOutboxEvent e
+         where ((e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.PENDING and e.nextAttemptAt <= :now)
+             or (e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.PROCESSING and e.lockedUntil < :now))
+           and not exists (
+                select p.id
+                  from SessionOutboxEvent p
+                 where p.userId = e.userId
+                   and p.id < e.id
+                   and p.status not in (com.postura.monitor.entity.SessionOutboxEvent.Status.DONE, com.postura.monitor.entity.SessionOutboxEvent.Status.FAILED))
+         order by e.id asc
+        """)
+    List<SessionOutboxEvent> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 특정 사용자의 다음 처리 대상 이벤트 조회 (커밋 직후 즉시 처리용, FAILED 제외)
+     */
+    @Query("""
+        select e
+          from SessionOutboxEvent e
+         where e.userId = :userId
+           and e.status not in (com.postura.monitor.entity.SessionOutboxEvent.Status.DONE, com.postura.monitor.entity.SessionOutboxEvent.Status.FAILED)
+         order by e.id asc
+        """)
+    List<SessionOutboxEvent> findUnfinishedByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 이벤트 점유 (조건부 UPDATE로 여러 노드 중 하나만 성공)
+     * @return 1이면 점유 성공
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update SessionOutboxEvent e
+           set e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.PROCESSING,
+               e.lockedUntil = :lockedUntil,
+               e.attempts = e.attempts + 1
+         where e.id = :id
+           and ((e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.PENDING and e.nextAttemptAt <= :now)
+             or (e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.PROCESSING and e.lockedUntil < :now))
+        """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update SessionOutboxEvent e
+           set e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.DONE,
+               e.processedAt = :now,
+               e.lockedUntil = null,
+               e.lastError = null
+         where e.id = :id
+        """)
+    int markDone(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update SessionOutboxEvent e
+           set e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.PENDING,
+               e.nextAttemptAt = :nextAttemptAt,
+               e.lockedUntil = null,
+               e.lastError = :error
+         where e.id = :id
+        """)
+    int markRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    /**
+     * 최대 시도 횟수를 넘긴 이벤트 격리 (dead letter, 같은 사용자의 이후 이벤트는 계속 처리)
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        update SessionOutboxEvent e
+           set e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.FAILED,
+               e.processedAt = :now,
+               e.lockedUntil = null,
+               e.lastError = :error
+         where e.id = :id
+        """)
+    int markFailed(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("error") String error);
+
+    /**
+     * 처리 완료 후 보관 기간이 지난 이벤트 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+        delete from SessionOutboxEvent e
+         where e.status = com.postura.monitor.entity.SessionOutboxEvent.Status.DONE
+           and e.processedAt < :limit
+        """)
+    int deleteDoneBefore(@Param("limit") LocalDateTime limit);
+}
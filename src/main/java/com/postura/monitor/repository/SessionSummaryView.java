@@ -0,0 +1,30 @@
+package com.postura.monitor.repository;
+
+import com.postura.monitor.entity.SessionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 이력 목록 조회용 인터페이스 프로젝션
+ * (엔티티/User 프록시를 만들지 않고 요약 컬럼만 조회)
+ */
+public interface SessionSummaryView {
+
+    Long getId();
+
+    SessionStatus getStatus();
+
+    LocalDateTime getStartAt();
+
+    LocalDateTime getEndAt();
+
+    Long getAccumulatedDurationSeconds();
+
+    Long getFinalGoodCount();
+
+    Long getFinalTotalCount();
+
+    Integer getFinalWarningCount();
+
+    Double getFinalTrendScore();
+}
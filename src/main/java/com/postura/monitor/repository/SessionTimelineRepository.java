@@ -0,0 +1,14 @@
+package com.postura.monitor.repository;
+
+import com.postura.monitor.entity.SessionTimeline;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SessionTimelineRepository extends JpaRepository<SessionTimeline, Long> {
+
+    /**
+     * 사용자 소유 세션의 타임라인 조회 (보안상 userId 함께 검증)
+     */
+    Optional<SessionTimeline> findBySessionIdAndUserId(Long sessionId, Long userId);
+}
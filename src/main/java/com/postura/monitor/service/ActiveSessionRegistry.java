@@ -0,0 +1,169 @@
+package com.postura.monitor.service;
+
+import com.postura.monitor.domain.ActiveSessionState;
+import com.postura.monitor.domain.SessionCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 진행 중인(STARTED/PAUSED) 모니터링 세션 상태를 Redis에 보관하는 레지스트리
+ *
+ * - 세션이 살아있는 동안 상태의 기준(source of truth) 역할
+ * - Redis에 저장되므로 여러 서버 노드가 동일한 상태를 공유
+ * - 세션 제어(pause/resume) 및 로그 수신 시 MySQL 조회를 대체
+ *
+ * 동시성
+ * - 상태 전이는 compareAndSave(Lua)로 version을 비교한 뒤 저장 -> 동시에 들어온 pause/resume 중 하나만 성공
+ * - DB에서 다시 적재한 상태는 saveIfAbsent로 등록 -> 그 사이 다른 노드가 저장한 최신 상태를 덮어쓰지 않음
+ * - 세션 종료 시 제거는 COMPLETED 커밋 이후(AFTER_COMMIT) 처리 -> 롤백되면 레지스트리 상태가 그대로 유지됨
+ *
+ * 키 구조
+ * - monitor:session:<sessionId> : 세션 상태 Hash
+ * - monitor:active:<userId>     : 사용자의 현재 활성 세션 ID
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveSessionRegistry {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String SESSION_KEY_PREFIX = "monitor:session:";
+    private static final String ACTIVE_KEY_PREFIX = "monitor:active:";
+
+    // 비정상 종료된 세션이 Redis에 영구히 남지 않도록 만료 시간 설정 (상태 변경 시마다 갱신)
+    private static final long REGISTRY_EXPIRATION_HOURS = 24;
+
+    // KEYS[1] = 세션 Hash, KEYS[2] = 활성 세션 키
+    // ARGV[1] = 기대 version, ARGV[2] = 만료(초), ARGV[3] = 세션 ID, ARGV[4..] = Hash field/value
+    private static final DefaultRedisScript<Long> COMPARE_AND_SAVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('hget', KEYS[1], '%s') ~= ARGV[1] then return 0 end
+            redis.call('hset', KEYS[1], unpack(ARGV, 4))
+            redis.call('expire', KEYS[1], ARGV[2])
+            redis.call('set', KEYS[2], ARGV[3], 'EX', ARGV[2])
+            return 1
+            """.formatted(ActiveSessionState.FIELD_VERSION), Long.class);
+
+    // 같은 인자 구조, 세션 Hash가 없을 때만 저장 (ARGV[1] 미사용)
+    private static final DefaultRedisScript<Long> SAVE_IF_ABSENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 1 then return 0 end
+            redis.call('hset', KEYS[1], unpack(ARGV, 4))
+            redis.call('expire', KEYS[1], ARGV[2])
+            redis.call('set', KEYS[2], ARGV[3], 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = 세션 Hash, KEYS[2] = 활성 세션 키, ARGV[1] = 세션 ID
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('del', KEYS[1])
+            if redis.call('get', KEYS[2]) == ARGV[1] then redis.call('del', KEYS[2]) end
+            return 1
+            """, Long.class);
+
+    /**
+     * 세션 상태 조회
+     */
+    public Optional<ActiveSessionState> find(Long sessionId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(SESSION_KEY_PREFIX + sessionId);
+        if (hash.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(ActiveSessionState.fromHash(sessionId, hash));
+        } catch (RuntimeException e) {
+            // 손상된 항목은 무시하고 DB에서 다시 적재하도록 함
+            log.warn("Invalid registry entry for SessionId {}: {}", sessionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 사용자의 현재 활성 세션 ID 조회
+     */
+    public Optional<Long> findActiveSessionId(Long userId) {
+        String value = redisTemplate.opsForValue().get(ACTIVE_KEY_PREFIX + userId);
+        if (value == null || value.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Long.valueOf(value));
+    }
+
+    /**
+     * 세션 상태 저장 (등록 및 상태 전이 시 사용)
+     */
+    public void save(ActiveSessionState state) {
+        String sessionKey = SESSION_KEY_PREFIX + state.getSessionId();
+        String activeKey = ACTIVE_KEY_PREFIX + state.getUserId();
+
+        redisTemplate.opsForHash().putAll(sessionKey, state.toHash());
+        redisTemplate.expire(sessionKey, REGISTRY_EXPIRATION_HOURS, TimeUnit.HOURS);
+        redisTemplate.opsForValue().set(activeKey, String.valueOf(state.getSessionId()),
+                REGISTRY_EXPIRATION_HOURS, TimeUnit.HOURS);
+    }
+
+    /**
+     * 상태 전이 저장 (레지스트리의 version이 expectedVersion과 같을 때만)
+     * @return 저장 여부 (다른 요청이 먼저 상태를 바꿨거나 세션이 제거되었으면 false)
+     */
+    public boolean compareAndSave(ActiveSessionState state, long expectedVersion) {
+        return runSaveScript(COMPARE_AND_SAVE_SCRIPT, state, String.valueOf(expectedVersion));
+    }
+
+    /**
+     * 레지스트리에 항목이 없을 때만 저장 (DB에서 다시 적재한 상태 등록용)
+     * @return 저장 여부 (다른 요청이 먼저 등록했으면 false)
+     */
+    public boolean saveIfAbsent(ActiveSessionState state) {
+        return runSaveScript(SAVE_IF_ABSENT_SCRIPT, state, "");
+    }
+
+    /**
+     * 세션 종료 시 레지스트리에서 제거
+     * (사용자가 이미 다른 세션을 시작했다면 active 키는 유지)
+     */
+    public void remove(Long sessionId, Long userId) {
+        redisTemplate.execute(REMOVE_SCRIPT,
+                List.of(SESSION_KEY_PREFIX + sessionId, ACTIVE_KEY_PREFIX + userId),
+                String.valueOf(sessionId));
+    }
+
+    /**
+     * 세션 COMPLETED 커밋 후 레지스트리에서 제거
+     * (커밋 전에 제거하면 롤백 시 진행 중인 세션이 레지스트리에서 사라짐)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionCompleted(SessionCompletedEvent event) {
+        remove(event.getSessionId(), event.getUserId());
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private boolean runSaveScript(DefaultRedisScript<Long> script, ActiveSessionState state, String expectedVersion) {
+        List<String> args = new ArrayList<>();
+        args.add(expectedVersion);
+        args.add(String.valueOf(TimeUnit.HOURS.toSeconds(REGISTRY_EXPIRATION_HOURS)));
+        args.add(String.valueOf(state.getSessionId()));
+        state.toHash().forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        Long saved = redisTemplate.execute(script,
+                List.of(SESSION_KEY_PREFIX + state.getSessionId(), ACTIVE_KEY_PREFIX + state.getUserId()),
+                args.toArray());
+        return Long.valueOf(1L).equals(saved);
+    }
+}
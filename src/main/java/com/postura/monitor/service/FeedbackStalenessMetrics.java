@@ -0,0 +1,67 @@
+package com.postura.monitor.service;
+
+import com.postura.common.metrics.LatencyHistogram;
+import com.postura.dto.monitor.LatencyHistogramResponse;
+import com.postura.dto.monitor.StalenessMetricsResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프레임 -> 피드백 전달 과정의 지연(staleness)을 구간별로 기록하는 컴포넌트
+ *
+ * 측정 구간
+ * 1. acceptLag       : FastAPI 프레임 촬영 시각 -> LogReceiverController 수신 시각
+ * 2. processingLag   : 컨트롤러 수신 시각 -> Redis 피드백 캐시 기록 시각 (@Async 큐 대기 + DB/Redis 처리)
+ * 3. endToEndLag     : 프레임 촬영 시각 -> Redis 피드백 캐시 기록 시각 (클라이언트가 해당 상태를 볼 수 있게 된 시점)
+ *
+ * 모든 구간은 프레임당 한 번, 캐시 기록 시점에 기록합니다.
+ * (폴링 응답마다 기록하면 일시정지/프레임 중단 중의 반복 조회가 분포를 왜곡하므로, 사용자가 보는 나이는 응답의 stalenessMillis로만 제공)
+ */
+@Component
+public class FeedbackStalenessMetrics {
+
+    private final LatencyHistogram acceptLag = new LatencyHistogram();
+    private final LatencyHistogram processingLag = new LatencyHistogram();
+    private final LatencyHistogram endToEndLag = new LatencyHistogram();
+
+    public void recordAcceptLag(long millis) {
+        acceptLag.record(millis);
+    }
+
+    public void recordProcessingLag(long millis) {
+        processingLag.record(millis);
+    }
+
+    public void recordEndToEndLag(long millis) {
+        endToEndLag.record(millis);
+    }
+
+    /**
+     * 현재 노드의 누적 분포를 백분위 응답으로 변환
+     */
+    public StalenessMetricsResponse snapshot() {
+        return StalenessMetricsResponse.builder()
+                .acceptLag(toResponse(acceptLag.snapshot()))
+                .processingLag(toResponse(processingLag.snapshot()))
+                .endToEndLag(toResponse(endToEndLag.snapshot()))
+                .build();
+    }
+
+    public void reset() {
+        acceptLag.reset();
+        processingLag.reset();
+        endToEndLag.reset();
+    }
+
+    private LatencyHistogramResponse toResponse(LatencyHistogram.Snapshot snapshot) {
+        return LatencyHistogramResponse.builder()
+                .count(snapshot.getCount())
+                .negativeCount(snapshot.getNegativeCount())
+                .meanMillis(Math.round(snapshot.getMean() * 10.0) / 10.0)
+                .p50Millis(snapshot.percentile(50))
+                .p90Millis(snapshot.percentile(90))
+                .p99Millis(snapshot.percentile(99))
+                .p999Millis(snapshot.percentile(99.9))
+                .maxMillis(snapshot.getMax())
+                .build();
+    }
+}
@@ -3,21 +3,27 @@ package com.postura.monitor.service;
 import com.postura.common.exception.CustomException;
 import com.postura.common.exception.ErrorCode;
 import com.postura.dto.monitor.SessionStartResponse;
+import com.postura.monitor.domain.AbandonedSession;
+import com.postura.monitor.domain.ActiveSessionState;
+import com.postura.monitor.domain.SessionCompletedEvent;
 import com.postura.monitor.entity.MonitoringSession;
+import com.postura.monitor.entity.SessionOutboxEvent;
 import com.postura.monitor.entity.SessionStatus;
 import com.postura.monitor.repository.MonitoringSessionRepository;
-import com.postura.report.service.StatAggregationService;
+import com.postura.monitor.repository.SessionOutboxRepository;
+import com.postura.report.service.ReportCache;
 import com.postura.user.entity.User;
 import com.postura.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -26,8 +32,19 @@ public class MonitoringService {
 
     private final MonitoringSessionRepository sessionRepository;
     private final UserRepository userRepository;
-    private final StatAggregationService  statAggregationService;
     private final RealtimeFeedbackService realtimeFeedbackService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final SessionStateWriter sessionStateWriter;
+    private final SessionOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SessionTimelineService sessionTimelineService;
+    private final ReportCache reportCache;
+
+    // 일시정지 중 피드백 캐시(누적 카운트) 유지 시간
+    private static final long PAUSED_CACHE_EXPIRATION_HOURS = 24;
+
+    // pause/resume 동시 요청으로 레지스트리 version이 바뀌었을 때 다시 검증하는 최대 횟수
+    private static final int MAX_TRANSITION_ATTEMPTS = 3;
 
     /**
      * 세션 시작 (START)
@@ -49,13 +66,20 @@ public class MonitoringService {
                 .status(SessionStatus.STARTED)
                 .startAt(LocalDateTime.now())
                 .accumulatedDurationSeconds(0L)
+                .stateVersion(0L)
                 .finalGoodCount(null)
                 .finalTotalCount(null)
                 .finalWarningCount(null)
+                .finalTrendScore(null)
+                .statApplied(false)
+                .rollupApplied(false)
                 .build();
         session =  sessionRepository.save(session);
 
-        // 4. React에 SessionStartResponse 반환
+        // 4. 활성 세션 레지스트리에 등록 (이후 pause/resume은 레지스트리 기준으로 처리)
+        activeSessionRegistry.save(ActiveSessionState.from(session));
+
+        // 5. React에 SessionStartResponse 반환
         // (React는 해당 응답을 받은 후 reset=true 플래그와 함께 FastAPI에 이미지 전송)
         log.info("Session STARTED: UserId={}, SessionId={}", userId, session.getId());
         return new SessionStartResponse(session.getId(), session.getStartAt().toString());
@@ -63,46 +87,34 @@ public class MonitoringService {
 
     /**
      * 일시 정지 (PAUSED)
+     * 레지스트리(Redis) 상태만 갱신하고 DB 반영은 비동기로 처리
      * @param sessionId
      * @param userId
      */
-    @Transactional
     public void pauseSession (Long sessionId, Long userId) {
-        MonitoringSession session = getSession(sessionId,userId);
+        // 1. 현재 진행 시간을 누적 시간에 더하고 PAUSED 상태로 변경
+        // pausedAt이 Null이면 startAt을 기준으로, 아니면 pausedAt(재개 시각)을 기준으로 계산
+        // 2. 레지스트리 갱신(version 비교) 후 DB에는 비동기 반영 (Write-behind)
+        ActiveSessionState state = applyTransition(sessionId, userId, SessionStatus.STARTED,
+                "PAUSE는 STARTED 상태에서만 가능합니다.", s -> s.pause(LocalDateTime.now()));
 
-        if (session.getStatus() != SessionStatus.STARTED) {
-            throw new CustomException(ErrorCode.INVALID_SESSION_STATUS, "PAUSE는 STARTED 상태에서만 가능합니다.");
-        }
-
-        // 1. 현재 진행 시간 계산 (SECONDS)
-        // pausedAt이 Null이면 startAt을 기준으로, 아니면 pausedAt을 기준으로 현재까지의 시간 계산
-        long currentRunningDuration = calculateRunningDuration(session);
-
-        // 2. Entity 업데이트 및 DB 저장 (PAUSED 상태로 변경)
-        session.pause(currentRunningDuration);
-        sessionRepository.save(session);
+        // 일시정지 동안 프레임이 없어도 누적 카운트가 만료되지 않도록 캐시 유지 시간 연장
+        realtimeFeedbackService.extendCacheExpiration(userId, PAUSED_CACHE_EXPIRATION_HOURS);
 
         // 3. AI 로그 전송 중단 명령 없음 (React가 이미지 전송을 멈추면 FastAPI가 스스로 중단함)
-        log.info("Session PAUSED: SessionId={}, Accumulated Seconds: {}", sessionId, session.getAccumulatedDurationSeconds());
+        log.info("Session PAUSED: SessionId={}, Accumulated Seconds: {}", sessionId, state.getAccumulatedDurationSeconds());
     }
 
     /**
      * 재개 (RESUME)
+     * 레지스트리(Redis) 상태만 갱신하고 DB 반영은 비동기로 처리
      * @param sessionId
      * @param userId
      */
-    @Transactional
     public void resumeSession (Long sessionId, Long userId) {
-        MonitoringSession session = getSession(sessionId,userId);
-
-        if (session.getStatus() != SessionStatus.PAUSED) {
-            throw new CustomException(ErrorCode.INVALID_SESSION_STATUS, "RESUME은 PAUSED 상태에서만 가능합니다.");
-        }
-
-        // 1. Entity 상태 변경 및 DB 저장 (STARTED 상태로 복귀)
-        // DB 트랜잭션 무결성 보장
-        session.resume();
-        sessionRepository.save(session);
+        // 1. 상태 변경 (STARTED 상태로 복귀) 후 레지스트리 갱신(version 비교), DB에는 비동기 반영
+        applyTransition(sessionId, userId, SessionStatus.PAUSED,
+                "RESUME은 PAUSED 상태에서만 가능합니다.", s -> s.resume(LocalDateTime.now()));
 
         // 2. React가 성공 응답 받은 후 reset=true 플래그와 이미지를 보냄
         log.info("Session RESUME: SessionId={}, Status set to STARTED", sessionId);
@@ -110,57 +122,173 @@ public class MonitoringService {
 
     /**
      * 종료 (COMPLETED)
+     * 최종 COMPLETED 기록은 DB에 동기 반영
      * @param sessionId
      * @param userId
      */
     @Transactional
     public void completeSession (Long sessionId, Long userId) {
+        ActiveSessionState state = getActiveState(sessionId, userId);
         MonitoringSession session = getSession(sessionId,userId);
 
-        if (session.getStatus() == SessionStatus.COMPLETED) {
+        if (session.getStatus() == SessionStatus.COMPLETED || !state.isActive()) {
             throw new CustomException(ErrorCode.INVALID_SESSION_STATUS, "이미 종료된 세션입니다.");
         }
 
-        // 1. 최종 진행 시간 계산
-        long lastRunningDuration = 0;
-        if (session.getStatus() == SessionStatus.STARTED || session.getStatus() == SessionStatus.PAUSED) {
-            if (session.getStatus() == SessionStatus.STARTED) {
-                lastRunningDuration = calculateRunningDuration(session);
-            }
-            // 2. Redis에서 최종 카운트 조회
-            Map<String, Long> finalCounts = realtimeFeedbackService.getFinalSessionCounts(userId);
-            Long finalGood = finalCounts.getOrDefault("finalGoodCount", 0L);
-            Long finalTotal = finalCounts.getOrDefault("finalTotalCount", 0L);
-            Integer finalWarning = finalCounts.getOrDefault("finalWarningCount", 0L).intValue();
-
-            // 진단 로그 추가: Redis에서 가져온 카운트 확인
-            log.info("Redis Final Counts: Total={}, Good={}, Warning={}", finalTotal, finalGood, finalWarning);
-
-            // 3. Entity 최종 업데이트 및 DB 저장 (COMPLETED 상태로 변경)
-            session.complete(lastRunningDuration, finalGood, finalTotal, finalWarning);
-            sessionRepository.save(session);
-
-            // 4. 오늘 날짜 통계 즉시 업데이트 로직
-            try {
-                LocalDate today = LocalDate.now();
-                // 해당 사용자의 오늘 통계만 즉시 재계산 및 업데이트 (UPSERT)
-                statAggregationService.aggregateStatsForUser(userId, today);
-                log.info("On-demand stats update complete for user {} on {}.", userId, today);
-
-                // 5. Redis 캐시 정리 - 세션 완료 후 캐시를 삭제하여 데이터 유출 방지
-                realtimeFeedbackService.clearUserCache(userId);
-
-            } catch (Exception e) {
-                // 통계 집계 실패는 세션 종료 자체를 막아서는 안 됨 (로그만 남김)
-                log.error("Failed to run on-demand aggregation after session completion: {}", e.getMessage());
-            }
-        }
+        // 1~5. 최종 시간/카운트 확정 후 COMPLETED 기록 및 Outbox 이벤트 등록
+        finalizeSession(session, state, userId, LocalDateTime.now(), true);
+
         // 6. React가 성공 응답 받은 후 이미지 전송 멈춤
         log.info("Session COMPLETED: SessionId={}. Total Duration: {}", sessionId, session.getAccumulatedDurationSeconds());
     }
 
+    /**
+     * 방치된 세션(브라우저 탭 종료 등) 하나를 종료 (StaleSessionReaper에서 세션마다 호출, 세션별 트랜잭션)
+     * - 종료 시각은 마지막 활동 시각으로 기록
+     * - 통계 집계는 세션별 Outbox 이벤트로 처리
+     * @return 실제로 종료했는지 여부 (그 사이 사용자가 직접 종료했으면 false)
+     */
+    @Transactional
+    public boolean finalizeAbandonedSession(AbandonedSession abandoned) {
+        MonitoringSession session = sessionRepository.findById(abandoned.getSessionId()).orElse(null);
+        // 조회 이후 사용자가 직접 종료한 경우 건너뜀
+        if (session == null || session.getStatus() == SessionStatus.COMPLETED) {
+            return false;
+        }
+        ActiveSessionState state = activeSessionRegistry.find(abandoned.getSessionId())
+                .orElseGet(() -> ActiveSessionState.from(session));
+        if (!state.isActive()) {
+            return false;
+        }
+
+        finalizeSession(session, state, abandoned.getUserId(), abandoned.getLastActivityAt(), !abandoned.isSuperseded());
+        return true;
+    }
+
+    /**
+     * 로그 수신 등에서 사용하는 세션 상태 조회 (사용자 검증 없음)
+     * 레지스트리를 우선 조회하고, 없으면 DB에서 적재하여 활성 세션이면 재등록
+     * @param sessionId
+     * @return ActiveSessionState (세션이 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<ActiveSessionState> findSessionState(Long sessionId) {
+        Optional<ActiveSessionState> cached = activeSessionRegistry.find(sessionId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        return sessionRepository.findById(sessionId)
+                .map(this::registerIfActive);
+    }
+
     // ************* 유틸리티 메서드 *************
 
+    /**
+     * 세션의 최종 시간/카운트를 확정하여 COMPLETED로 기록하고 후처리 Outbox 이벤트를 등록
+     * @param endAt 종료 시각 (사용자 종료: 현재 시각, 방치 세션: 마지막 활동 시각)
+     * @param useLiveCounters Redis 피드백 캐시의 누적 카운트 사용 여부
+     *                        (캐시가 이미 다른 세션의 것이면 false)
+     */
+    private void finalizeSession(MonitoringSession session, ActiveSessionState state, Long userId,
+                                 LocalDateTime endAt, boolean useLiveCounters) {
+        // 0. 아직 비동기 반영되지 않았을 수 있는 레지스트리 상태를 엔티티에 동기화
+        session.syncState(state.getStatus(), state.getPausedAt(),
+                state.getAccumulatedDurationSeconds(), state.getVersion() + 1);
+
+        // 1. 최종 진행 시간 계산 (PAUSED 상태면 0)
+        long lastRunningDuration = state.runningSeconds(endAt);
+
+        // 2. Redis에서 최종 카운트 조회
+        Long finalGood = 0L;
+        Long finalTotal = 0L;
+        Integer finalWarning = 0;
+        Double finalTrendScore = null;
+        Map<String, Integer> finalPostureCounts = Map.of();
+        if (useLiveCounters) {
+            Map<String, Long> finalCounts = realtimeFeedbackService.getFinalSessionCounts(userId);
+            finalGood = finalCounts.getOrDefault("finalGoodCount", 0L);
+            finalTotal = finalCounts.getOrDefault("finalTotalCount", 0L);
+            finalWarning = finalCounts.getOrDefault("finalWarningCount", 0L).intValue();
+            finalTrendScore = realtimeFeedbackService.getFinalTrendScore(userId);
+            finalPostureCounts = realtimeFeedbackService.getFinalPostureCounts(userId);
+        }
+
+        // 진단 로그 추가: Redis에서 가져온 카운트 확인
+        log.info("Redis Final Counts: Total={}, Good={}, Warning={}, Trend={}", finalTotal, finalGood, finalWarning, finalTrendScore);
+
+        // 3. Entity 최종 업데이트 및 DB 저장 (COMPLETED 상태로 변경)
+        session.complete(endAt, lastRunningDuration, finalGood, finalTotal, finalWarning, finalTrendScore, finalPostureCounts);
+        sessionRepository.save(session);
+
+        // 3-1. 세션 타임라인(Redis 비트맵)을 압축하여 세션과 함께 저장 (Redis 키는 후처리에서 삭제)
+        sessionTimelineService.persist(session, userId);
+
+        // 4. 후처리(통계 집계, 캐시 정리)는 같은 트랜잭션에 Outbox 이벤트로만 기록
+        // -> 세션 행이 커밋되면 즉시 응답하고, SessionOutboxDispatcher가 백그라운드에서 처리
+        outboxRepository.save(SessionOutboxEvent.sessionCompleted(session, userId));
+
+        // 5. 커밋 직후 레지스트리 제거 및 디스패처 즉시 처리 알림 (AFTER_COMMIT 리스너)
+        // -> 롤백되면 레지스트리 상태가 그대로 남아 세션을 계속 진행/재종료할 수 있음
+        eventPublisher.publishEvent(new SessionCompletedEvent(userId, session.getId()));
+
+        // 6. 리포트 캐시 무효화 (커밋 후) - 반영 대기 세션 카운트가 오늘 리포트에 바로 합산되도록 함
+        reportCache.invalidateUser(userId);
+    }
+
+    /**
+     * 사용자 소유의 세션 상태 조회 (레지스트리 우선, 미스 시 DB 적재)
+     * @param sessionId
+     * @param userId
+     * @return ActiveSessionState
+     */
+    private ActiveSessionState getActiveState(Long sessionId, Long userId) {
+        Optional<ActiveSessionState> cached = activeSessionRegistry.find(sessionId);
+        if (cached.isPresent()) {
+            // 보안상 세션 소유자 검증 (findByIdAndUserId와 동일한 정책)
+            if (!cached.get().getUserId().equals(userId)) {
+                throw new CustomException(ErrorCode.SESSION_NOT_FOUND);
+            }
+            return cached.get();
+        }
+        // 레지스트리 미스 (만료 또는 Redis 재시작): DB에서 적재 후 재등록
+        return registerIfActive(getSession(sessionId, userId));
+    }
+
+    /**
+     * 레지스트리 상태 전이 (Lua로 version 비교 후 저장)
+     * 다른 요청이 먼저 상태를 바꿨으면 최신 상태로 다시 검증하여, 동시에 들어온 pause/resume이 서로를 덮어쓰지 않게 함
+     * @param expectedStatus 전이 가능한 현재 상태
+     * @param transition 상태 변경 (version 증가 포함)
+     * @return 저장된 상태
+     */
+    private ActiveSessionState applyTransition(Long sessionId, Long userId, SessionStatus expectedStatus,
+                                               String invalidStatusMessage, Consumer<ActiveSessionState> transition) {
+        for (int attempt = 0; attempt < MAX_TRANSITION_ATTEMPTS; attempt++) {
+            ActiveSessionState state = getActiveState(sessionId, userId);
+            if (state.getStatus() != expectedStatus) {
+                throw new CustomException(ErrorCode.INVALID_SESSION_STATUS, invalidStatusMessage);
+            }
+
+            long expectedVersion = state.getVersion();
+            transition.accept(state);
+            if (activeSessionRegistry.compareAndSave(state, expectedVersion)) {
+                sessionStateWriter.persistTransition(state);
+                return state;
+            }
+            log.debug("Session state changed concurrently, retrying: SessionId={}, Version={}", sessionId, expectedVersion);
+        }
+        throw new CustomException(ErrorCode.INVALID_SESSION_STATUS, "세션 상태가 동시에 변경되었습니다. 다시 시도해 주세요.");
+    }
+
+    private ActiveSessionState registerIfActive(MonitoringSession session) {
+        ActiveSessionState state = ActiveSessionState.from(session);
+        if (state.isActive() && !activeSessionRegistry.saveIfAbsent(state)) {
+            // 그 사이 다른 요청이 먼저 등록 -> 레지스트리 상태(더 최신일 수 있음)를 사용
+            return activeSessionRegistry.find(session.getId()).orElse(state);
+        }
+        return state;
+    }
+
     /**
      * Session ID와 user ID를 사용하여 유효한 세션 엔티티 조회
      * @param sessionId
@@ -171,19 +299,4 @@ public class MonitoringService {
         return sessionRepository.findByIdAndUserId(sessionId, userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
     }
-
-    /**
-     * 마지막 기록된 시간부터 현재까지의 진행 시간을 계산
-     * @param session
-     * @return long
-     */
-    private long calculateRunningDuration(MonitoringSession session) {
-        LocalDateTime startTime = session.getPausedAt() != null
-                ? session.getPausedAt()
-                : session.getStartAt();
-        if (startTime == null) return 0; // 시작 시간이 없는 경우
-
-        // 시작 시간과 현재 시각의 차이를 초 단위로 반환
-        return ChronoUnit.SECONDS.between(startTime, LocalDateTime.now());
-    }
 }
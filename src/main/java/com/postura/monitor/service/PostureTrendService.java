@@ -0,0 +1,122 @@
+package com.postura.monitor.service;
+
+import com.postura.monitor.domain.PostureTrendEstimator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 사용자별 자세 악화 추세(PostureTrendEstimator)를 관리하는 서비스
+ *
+ * - 프레임 수신 시 PostureLogService에서 record()를 호출하여 O(1)로 갱신
+ * - 추정기 상태는 Redis 피드백 캐시 Hash(posture:feedback:<userId>)에 함께 보관하고 Lua로 원자적으로 갱신
+ *   -> 프레임이 어느 노드로 들어와도 같은 상태를 이어서 갱신
+ * - 세션 시작 시 RealtimeFeedbackService.clearUserCache가 Hash를 삭제하므로 새 세션은 항상 빈 상태에서 시작
+ *   (프레임이 끊기면 피드백 캐시와 함께 만료)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostureTrendService {
+
+    // 피드백 캐시 Hash 안의 추정기 상태 필드
+    private static final String FIELD_LEVEL = "trend_level";
+    private static final String FIELD_SLOPE = "trend_slope";
+    private static final String FIELD_LAST_TS = "trend_last_ts";
+    private static final String FIELD_FRAMES = "trend_frames";
+
+    // 피드백 캐시보다 먼저 생성된 경우의 만료 시간 (초, 이후 피드백 캐시 갱신 시 다시 설정됨)
+    private static final long STATE_EXPIRATION_SECONDS = 600;
+
+    // KEYS[1] = 피드백 Hash
+    // ARGV[1] = 경고 여부(0/1), ARGV[2] = 프레임 시각(ms),
+    // ARGV[3..6] = level/trend 시간 상수, dt 하한/상한 (초), ARGV[7] = 만료(초)
+    // 반환 = {trend, 프레임 수}
+    private static final DefaultRedisScript<List> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            local state = redis.call('hmget', KEYS[1], '%1$s', '%2$s', '%3$s', '%4$s')
+            local x = tonumber(ARGV[1])
+            local now = tonumber(ARGV[2])
+            local frames = (tonumber(state[4]) or 0) + 1
+            local level, trend, last
+            if not state[3] then
+                -- 첫 프레임: 기준값만 설정
+                level = x
+                trend = 0
+                last = now
+            else
+                level = tonumber(state[1])
+                trend = tonumber(state[2])
+                last = tonumber(state[3])
+                -- 역순 도착 프레임은 최소 간격으로 처리
+                local dt = math.max(tonumber(ARGV[5]), math.min(tonumber(ARGV[6]), (now - last) / 1000.0))
+                if now > last then last = now end
+                local alpha = 1 - math.exp(-dt / tonumber(ARGV[3]))
+                local beta = 1 - math.exp(-dt / tonumber(ARGV[4]))
+                -- Holt 갱신: 예측값 -> level 보정 -> 기울기 보정
+                local predicted = level + trend * dt
+                local newLevel = predicted + alpha * (x - predicted)
+                trend = trend + beta * ((newLevel - level) / dt - trend)
+                level = newLevel
+            end
+            redis.call('hset', KEYS[1], '%1$s', tostring(level), '%2$s', tostring(trend),
+                    '%3$s', tostring(last), '%4$s', tostring(frames))
+            if redis.call('ttl', KEYS[1]) == -1 then redis.call('expire', KEYS[1], ARGV[7]) end
+            return {tostring(trend), tostring(frames)}
+            """.formatted(FIELD_LEVEL, FIELD_SLOPE, FIELD_LAST_TS, FIELD_FRAMES), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 프레임 하나를 추정기에 반영하고 갱신된 추세 점수를 반환합니다.
+     */
+    public double record(Long userId, boolean warning, LocalDateTime frameTimestamp) {
+        // 상대 시간 차이만 사용하므로 오프셋은 UTC로 고정
+        long epochMillis = frameTimestamp.toEpochSecond(ZoneOffset.UTC) * 1000L
+                + frameTimestamp.getNano() / 1_000_000;
+
+        try {
+            List<?> result = redisTemplate.execute(UPDATE_SCRIPT,
+                    List.of(RealtimeFeedbackService.FEEDBACK_KEY_PREFIX + userId),
+                    warning ? "1" : "0",
+                    String.valueOf(epochMillis),
+                    String.valueOf(PostureTrendEstimator.LEVEL_TAU_SECONDS),
+                    String.valueOf(PostureTrendEstimator.TREND_TAU_SECONDS),
+                    String.valueOf(PostureTrendEstimator.MIN_DT_SECONDS),
+                    String.valueOf(PostureTrendEstimator.MAX_DT_SECONDS),
+                    String.valueOf(STATE_EXPIRATION_SECONDS));
+            if (result == null || result.size() < 2) {
+                return 0.0;
+            }
+            return PostureTrendEstimator.score(Double.parseDouble(result.get(0).toString()),
+                    Long.parseLong(result.get(1).toString()));
+        } catch (Exception e) {
+            // 추세는 부가 정보이므로 Redis 실패 시 0으로 처리 (로그 수신 파이프라인은 계속 진행)
+            log.warn("Failed to update posture trend for user {}: {}", userId, e.getMessage());
+            return 0.0;
+        }
+    }
+
+    /**
+     * 현재 추세 점수 조회 (상태가 없으면 0.0)
+     */
+    public double currentScore(Long userId) {
+        List<Object> state = redisTemplate.opsForHash().multiGet(
+                RealtimeFeedbackService.FEEDBACK_KEY_PREFIX + userId, List.of(FIELD_SLOPE, FIELD_FRAMES));
+        if (state.get(0) == null || state.get(1) == null) {
+            return 0.0;
+        }
+        try {
+            return PostureTrendEstimator.score(Double.parseDouble(state.get(0).toString()),
+                    Long.parseLong(state.get(1).toString()));
+        } catch (NumberFormatException e) {
+            log.warn("Malformed posture trend state for user {}: {}", userId, state);
+            return 0.0;
+        }
+    }
+}
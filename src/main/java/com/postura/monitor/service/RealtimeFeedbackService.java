@@ -1,11 +1,14 @@
 package com.postura.monitor.service;
 
 import com.postura.dto.ai.RealtimeFeedbackResponse;
+import com.postura.monitor.domain.PostureTrendEstimator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -17,9 +20,11 @@ import java.util.stream.Collectors;
 public class RealtimeFeedbackService {
 
     private final StringRedisTemplate redisTemplate;
+    private final PostureTrendService postureTrendService;
+    private final FeedbackStalenessMetrics feedbackStalenessMetrics;
 
-    // Redis에 저장할 키의 접두사: posture:feedback:<userId>
-    private static final String FEEDBACK_KEY_PREFIX = "posture:feedback:";
+    // Redis에 저장할 키의 접두사: posture:feedback:<userId> (PostureTrendService의 추정기 상태도 같은 Hash에 저장)
+    static final String FEEDBACK_KEY_PREFIX = "posture:feedback:";
 
     // List 직렬화/역직렬화를 위한 구분자
     private static final String STATE_DELIMITER = ",";
@@ -32,6 +37,14 @@ public class RealtimeFeedbackService {
     private static final String FIELD_LATEST_STATES = "states";
     private static final String FIELD_TIMESTAMP = "timestamp";
 
+    // 자세 악화 추세 점수 (PostureTrendService에서 계산, 분당 경고율 변화량 %p/min)
+    private static final String FIELD_TREND_SCORE = "trend_score";
+
+    // 자세 상태 신선도 측정용 시각 필드 (epoch ms)
+    private static final String FIELD_FRAME_TS = "frame_ts";       // FastAPI 프레임 촬영 시각
+    private static final String FIELD_ACCEPTED_AT = "accepted_at"; // 서버 수신 시각
+    private static final String FIELD_CACHED_AT = "cached_at";     // 캐시 기록 시각
+
     // 누적 통계를 위한 필드
     private static final String FIELD_GOOD_COUNT = "good_count";
     private static final String FIELD_WARNING_COUNT = "warning_count";
@@ -82,14 +95,58 @@ public class RealtimeFeedbackService {
 
         return finalCounts;
     }
-    
+
+    /**
+     * 세션 종료 시점에 Redis에 누적된 자세 유형별 경고 횟수 조회
+     * @param userId 사용자 ID
+     * @return 자세 유형 -> 횟수 (0인 항목 제외)
+     */
+    public Map<String, Integer> getFinalPostureCounts(Long userId) {
+        String redisKey = FEEDBACK_KEY_PREFIX + userId;
+
+        List<String> postureTypes = new ArrayList<>(POSTURE_FIELD_MAP.keySet());
+        List<Object> fields = new ArrayList<>();
+        for (String postureType : postureTypes) {
+            fields.add(POSTURE_FIELD_MAP.get(postureType));
+        }
+        List<Object> counts = redisTemplate.opsForHash().multiGet(redisKey, fields);
+
+        Map<String, Integer> postureCounts = new HashMap<>();
+        for (int i = 0; i < postureTypes.size(); i++) {
+            long count = safeParseLong(counts.get(i));
+            if (count > 0) {
+                postureCounts.put(postureTypes.get(i), (int) count);
+            }
+        }
+        return postureCounts;
+    }
+
+    /**
+     * 세션 종료 시점의 자세 악화 추세 점수 조회
+     * 마지막으로 캐시된 점수를 우선 사용하고, 없으면 Redis의 추정기 상태로 계산합니다.
+     * @param userId 사용자 ID
+     * @return 추세 점수 (%p/min)
+     */
+    public Double getFinalTrendScore(Long userId) {
+        String redisKey = FEEDBACK_KEY_PREFIX + userId;
+        Object cached = redisTemplate.opsForHash().get(redisKey, FIELD_TREND_SCORE);
+        if (cached != null) {
+            return parseTrendScore(cached);
+        }
+        return postureTrendService.currentScore(userId);
+    }
+
     /**
      * FastAPI 로그 수신 후, 최신 자세 상태와 누적 통계 카운트를 Redis에 저장/갱신합니다.
      * 이 메서드는 PostureLogService에 의해 비동기로 호출됩니다.
      * @param userId 사용자 ID
      * @param postureStates 현재 감지된 자세 상태 목록
+     * @param trendScore 이번 프레임까지 반영된 자세 악화 추세 점수
+     * @param frameTimestamp FastAPI 프레임 촬영 시각
+     * @param acceptedAtMillis 서버 수신 시각 (epoch ms)
      */
-    public void updatePostureCache(Long userId, List<String> postureStates) {
+    public void updatePostureCache(Long userId, List<String> postureStates, double trendScore,
+                                   LocalDateTime frameTimestamp, long acceptedAtMillis) {
         try {
             String redisKey = FEEDBACK_KEY_PREFIX + userId;
 
@@ -119,9 +176,21 @@ public class RealtimeFeedbackService {
             Map<String, String> latestData = new HashMap<>();
             latestData.put(FIELD_LATEST_STATES, statesString);
             latestData.put(FIELD_TIMESTAMP, LocalDateTime.now().toString());
+            latestData.put(FIELD_TREND_SCORE, String.valueOf(trendScore));
+
+            long frameMillis = toEpochMillis(frameTimestamp);
+            long cachedAtMillis = System.currentTimeMillis();
+            latestData.put(FIELD_FRAME_TS, String.valueOf(frameMillis));
+            latestData.put(FIELD_ACCEPTED_AT, String.valueOf(acceptedAtMillis));
+            latestData.put(FIELD_CACHED_AT, String.valueOf(cachedAtMillis));
 
             redisTemplate.opsForHash().putAll(redisKey, latestData);
 
+            // 구간별 지연 기록 (수신 지연 / 처리 지연 / 전체 지연, 프레임당 1회)
+            feedbackStalenessMetrics.recordAcceptLag(acceptedAtMillis - frameMillis);
+            feedbackStalenessMetrics.recordProcessingLag(cachedAtMillis - acceptedAtMillis);
+            feedbackStalenessMetrics.recordEndToEndLag(cachedAtMillis - frameMillis);
+
             // 만료 시간 설정
             redisTemplate.expire(redisKey, CACHE_EXPIRATION_MINUTES, TimeUnit.MINUTES);
 
@@ -133,12 +202,34 @@ public class RealtimeFeedbackService {
         }
     }
 
+    /**
+     * 마지막 프레임이 캐시에 기록된 시각 조회 (방치 세션 판단용)
+     * @param userId 사용자 ID
+     * @return 캐시 기록 시각 (캐시가 없거나 만료되었으면 empty)
+     */
+    public Optional<LocalDateTime> getLastCachedAt(Long userId) {
+        String redisKey = FEEDBACK_KEY_PREFIX + userId;
+        long cachedAtMillis = safeParseLong(redisTemplate.opsForHash().get(redisKey, FIELD_CACHED_AT));
+        if (cachedAtMillis <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.ofInstant(Instant.ofEpochMilli(cachedAtMillis), ZoneId.systemDefault()));
+    }
+
+    /**
+     * 일시정지 중에는 프레임이 들어오지 않으므로, 누적 카운트가 만료되지 않도록 캐시 유지 시간을 연장합니다.
+     * (재개 후 프레임이 들어오면 다시 CACHE_EXPIRATION_MINUTES로 갱신됨)
+     */
+    public void extendCacheExpiration(Long userId, long hours) {
+        redisTemplate.expire(FEEDBACK_KEY_PREFIX + userId, hours, TimeUnit.HOURS);
+    }
+
     /**
      * 모니터링 시작 시, 이전 세션의 누적 통계 데이터를 Redis에서 삭제합니다.
      */
     public void clearUserCache(Long userId) {
         String redisKey = FEEDBACK_KEY_PREFIX + userId;
-        // 키 자체를 삭제하여 모든 누적 카운트를 0으로 리셋합니다.
+        // 키 자체를 삭제하여 모든 누적 카운트와 자세 악화 추세 추정기 상태를 0으로 리셋합니다.
         redisTemplate.delete(redisKey);
         log.info("Redis cache cleared for user {}", userId);
     }
@@ -154,8 +245,8 @@ public class RealtimeFeedbackService {
         // 1. Redis에서 Hash 데이터 전체 조회
         Map<Object, Object> cachedData = redisTemplate.opsForHash().entries(redisKey);
 
-        // 2. 초기 데이터 없음 처리
-        if (cachedData.isEmpty()) {
+        // 2. 초기 데이터 없음 처리 (첫 프레임의 추세 상태만 먼저 기록된 경우 포함)
+        if (!cachedData.containsKey(FIELD_LATEST_STATES)) {
             return RealtimeFeedbackResponse.builder()
                     .currentPostureStates(Collections.singletonList("UNKNOWN"))
                     .feedbackMessages(Collections.singletonList("모니터링 데이터를 기다리는 중입니다."))
@@ -163,6 +254,8 @@ public class RealtimeFeedbackService {
                     .correctPostureRatio(0.0)
                     .totalWarningCount(0)
                     .postureTypeCounts(Collections.emptyMap()) // 추가된 필드 초기화
+                    .fatigueTrendScore(0.0)
+                    .postureDegrading(false)
                     .build();
         }
 
@@ -200,7 +293,19 @@ public class RealtimeFeedbackService {
             }
         });
 
-        // 8. DTO 빌드
+        // 8. 자세 악화 추세 점수 (소수점 1자리 반올림)
+        double trendScore = parseTrendScore(cachedData.get(FIELD_TREND_SCORE));
+        Double fatigueTrendScore = Math.round(trendScore * 10.0) / 10.0;
+
+        // 9. 자세 상태 신선도 (사용자가 보는 상태가 얼마나 오래된 프레임인지)
+        long frameMillis = safeParseLong(cachedData.get(FIELD_FRAME_TS));
+        Long stalenessMillis = null;
+        if (frameMillis > 0) {
+            // 응답에만 포함 (분포는 캐시 기록 시점에 프레임당 1회 기록)
+            stalenessMillis = System.currentTimeMillis() - frameMillis;
+        }
+
+        // 10. DTO 빌드
         return RealtimeFeedbackResponse.builder()
                 .currentPostureStates(postureStates)
                 .feedbackMessages(feedbackMessages)
@@ -208,6 +313,12 @@ public class RealtimeFeedbackService {
                 .correctPostureRatio(correctPostureRatio)
                 .totalWarningCount(totalWarningCount)
                 .postureTypeCounts(postureTypeCounts) // 최종 할당
+                .fatigueTrendScore(fatigueTrendScore)
+                .postureDegrading(PostureTrendEstimator.isDegrading(trendScore))
+                .frameTimestamp(frameMillis > 0 ? frameMillis : null)
+                .acceptedAt(nullIfZero(safeParseLong(cachedData.get(FIELD_ACCEPTED_AT))))
+                .cachedAt(nullIfZero(safeParseLong(cachedData.get(FIELD_CACHED_AT))))
+                .stalenessMillis(stalenessMillis)
                 .build();
     }
 
@@ -228,6 +339,32 @@ public class RealtimeFeedbackService {
         }
     }
 
+    /**
+     * FastAPI 프레임 시각(LocalDateTime, 존 정보 없음)을 epoch ms로 변환합니다.
+     * FastAPI 서버와 동일한 시스템 타임존을 사용한다고 가정합니다.
+     */
+    private long toEpochMillis(LocalDateTime timestamp) {
+        if (timestamp == null) return 0L;
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Long nullIfZero(long value) {
+        return value > 0 ? value : null;
+    }
+
+    /**
+     * Redis에서 가져온 추세 점수를 안전하게 double 타입으로 파싱합니다.
+     */
+    private double parseTrendScore(Object obj) {
+        if (obj == null) return 0.0;
+        try {
+            return Double.parseDouble(obj.toString());
+        } catch (NumberFormatException e) {
+            log.warn("NumberFormatException during parsing trend score: {}", obj);
+            return 0.0;
+        }
+    }
+
     /**
      * List<String> 문자열을 복원합니다.
      */
@@ -0,0 +1,88 @@
+package com.postura.monitor.service;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.dto.monitor.SessionHistoryResponse;
+import com.postura.dto.monitor.SessionSummaryResponse;
+import com.postura.monitor.repository.MonitoringSessionRepository;
+import com.postura.monitor.repository.SessionSummaryView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 사용자의 과거 모니터링 세션 이력 조회 서비스
+ *
+ * - (start_at desc, session_id desc) 순서의 keyset 페이지네이션
+ * - 커서는 이전 페이지 마지막 항목의 "start_at|session_id"를 Base64(URL-safe)로 인코딩한 값
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionHistoryService {
+
+    private final MonitoringSessionRepository sessionRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "|";
+
+    @Transactional(readOnly = true)
+    public SessionHistoryResponse getSessionHistory(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(MAX_PAGE_SIZE, size));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 없음)
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<SessionSummaryView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = sessionRepository.findSummariesFirstPage(userId, limit);
+        } else {
+            Cursor decoded = decodeCursor(cursor);
+            rows = sessionRepository.findSummariesAfter(userId, decoded.startAt(), decoded.sessionId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SessionSummaryView> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            SessionSummaryView last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getStartAt(), last.getId());
+        }
+
+        return SessionHistoryResponse.builder()
+                .sessions(page.stream().map(SessionSummaryResponse::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // ************* 커서 인코딩 *************
+
+    private record Cursor(LocalDateTime startAt, Long sessionId) {
+    }
+
+    private static String encodeCursor(LocalDateTime startAt, Long sessionId) {
+        String raw = startAt + CURSOR_DELIMITER + sessionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Cursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(CURSOR_DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.valueOf(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 cursor 값입니다.");
+        }
+    }
+}
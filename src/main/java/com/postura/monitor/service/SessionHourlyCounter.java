@@ -0,0 +1,103 @@
+package com.postura.monitor.service;
+
+import com.postura.common.posture.PostureType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 진행 중 시간대(시 단위)별 자세 카운트를 Redis에 누적하는 카운터
+ *
+ * - 키 : monitor:hourly:<sessionId> (Hash)
+ * - 필드 : <yyyyMMddHH>:<카운터> (good, total, warning, 자세 유형명)
+ * - 세션 종료 후 통계 반영 시 한 번에 읽어 hourly_stat에 더하고 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionHourlyCounter {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String HOURLY_KEY_PREFIX = "monitor:hourly:";
+    private static final long HOURLY_EXPIRATION_HOURS = 24;
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter HOUR_PARSE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    public static final String COUNTER_GOOD = "good";
+    public static final String COUNTER_TOTAL = "total";
+    public static final String COUNTER_WARNING = "warning";
+
+    /**
+     * 프레임 하나의 카운트를 프레임 시각의 시간대에 누적 (RealtimeFeedbackService의 누적 규칙과 동일)
+     */
+    public void record(Long sessionId, LocalDateTime frameTimestamp, List<String> postureStates) {
+        if (frameTimestamp == null) {
+            return;
+        }
+        String hour = frameTimestamp.format(HOUR_FORMAT) + ":";
+        byte[] key = (HOURLY_KEY_PREFIX + sessionId).getBytes(StandardCharsets.UTF_8);
+        long ttlSeconds = TimeUnit.HOURS.toSeconds(HOURLY_EXPIRATION_HOURS);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hIncrBy(key, bytes(hour + COUNTER_TOTAL), 1);
+            for (String state : postureStates) {
+                PostureType type = PostureType.from(state);
+                if (type == null) {
+                    continue;
+                }
+                if (type == PostureType.GOOD) {
+                    connection.hashCommands().hIncrBy(key, bytes(hour + COUNTER_GOOD), 1);
+                } else {
+                    connection.hashCommands().hIncrBy(key, bytes(hour + COUNTER_WARNING), 1);
+                    connection.hashCommands().hIncrBy(key, bytes(hour + type.name()), 1);
+                }
+            }
+            connection.keyCommands().expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    /**
+     * 세션의 시간대별 카운트 조회
+     * @return 시간대 시작 시각 -> (카운터 이름 -> 값), 시간 순 정렬
+     */
+    public Map<LocalDateTime, Map<String, Long>> read(Long sessionId) {
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries(HOURLY_KEY_PREFIX + sessionId);
+        Map<LocalDateTime, Map<String, Long>> byHour = new TreeMap<>();
+        for (Map.Entry<Object, Object> entry : hash.entrySet()) {
+            String field = entry.getKey().toString();
+            int idx = field.indexOf(':');
+            if (idx <= 0) continue;
+            try {
+                LocalDateTime hour = LocalDateTime.parse(field.substring(0, idx) + "0000", HOUR_PARSE_FORMAT);
+                byHour.computeIfAbsent(hour, h -> new TreeMap<>())
+                        .put(field.substring(idx + 1), Long.parseLong(entry.getValue().toString()));
+            } catch (RuntimeException e) {
+                log.warn("Invalid hourly counter field for SessionId {}: {}", sessionId, field);
+            }
+        }
+        return byHour;
+    }
+
+    /**
+     * 통계 반영 후 삭제
+     */
+    public void clear(Long sessionId) {
+        redisTemplate.delete(HOURLY_KEY_PREFIX + sessionId);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
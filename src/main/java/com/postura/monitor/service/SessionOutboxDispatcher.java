@@ -0,0 +1,182 @@
+package com.postura.monitor.service;
+
+import com.postura.monitor.domain.SessionCompletedEvent;
+import com.postura.monitor.entity.SessionOutboxEvent;
+import com.postura.monitor.repository.SessionOutboxRepository;
+import com.postura.report.service.StatAggregationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 세션 종료 Outbox 이벤트를 처리하는 백그라운드 디스패처
+ *
+ * 처리 경로
+ * 1. 즉시 처리 : 세션 종료 트랜잭션 커밋 직후(AFTER_COMMIT) 해당 사용자의 이벤트를 비동기로 처리
+ * 2. 주기 처리 : 실패/누락된 이벤트를 주기적으로 폴링하여 재시도
+ *
+ * 보장 사항
+ * - 사용자별 순서 : 같은 사용자의 앞선 이벤트가 DONE(또는 FAILED)이 되기 전에는 다음 이벤트를 처리하지 않음
+ * - 중복 처리 방지 : 조건부 UPDATE(claim)로 여러 노드 중 하나만 이벤트를 점유
+ * - 재시도 : 실패 시 지수 백오프 후 재처리 (점유 노드가 죽으면 lockedUntil 이후 재처리)
+ * - 격리 : MAX_ATTEMPTS 회 시도해도 실패하는 이벤트는 FAILED로 격리하여 같은 사용자의 이후 이벤트를 막지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionOutboxDispatcher {
+
+    private final SessionOutboxRepository outboxRepository;
+    private final StatAggregationService statAggregationService;
+    private final RealtimeFeedbackService realtimeFeedbackService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final SessionTimelineService sessionTimelineService;
+    private final SessionHourlyCounter sessionHourlyCounter;
+
+    // 한 번의 폴링에서 처리할 최대 이벤트 수
+    private static final int POLL_BATCH_SIZE = 100;
+
+    // 처리 중 점유 시간 (이 시간 안에 끝나지 않으면 다른 노드가 재처리)
+    private static final long LOCK_MINUTES = 5;
+
+    // 재시도 백오프 (5초부터 2배씩, 최대 30분)
+    private static final long BASE_BACKOFF_SECONDS = 5;
+    private static final long MAX_BACKOFF_SECONDS = 30 * 60;
+
+    // 최대 시도 횟수 (백오프 합계 약 43분, 점유 중 노드 종료도 시도로 계산)
+    private static final int MAX_ATTEMPTS = 10;
+
+    // 완료 이벤트 보관 기간
+    private static final long DONE_RETENTION_DAYS = 7;
+
+    /**
+     * 세션 종료 커밋 직후 해당 사용자의 이벤트를 순서대로 처리
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSessionCompleted(SessionCompletedEvent event) {
+        dispatchForUser(event.getUserId());
+    }
+
+    /**
+     * 재시도 대상 및 누락 이벤트 주기적 처리
+     */
+    @Scheduled(fixedDelay = 10000)
+    public void pollPendingEvents() {
+        List<SessionOutboxEvent> events = outboxRepository.findDispatchable(
+                LocalDateTime.now(), PageRequest.of(0, POLL_BATCH_SIZE));
+
+        for (SessionOutboxEvent event : events) {
+            // 조회된 이벤트는 사용자별 가장 앞선 미완료 이벤트이므로, 성공 시 같은 사용자의 다음 이벤트로 이어서 처리
+            if (process(event)) {
+                dispatchForUser(event.getUserId());
+            }
+        }
+    }
+
+    /**
+     * 처리 완료된 오래된 이벤트 정리
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeDoneEvents() {
+        int deleted = outboxRepository.deleteDoneBefore(LocalDateTime.now().minusDays(DONE_RETENTION_DAYS));
+        log.info("Session outbox purge completed. Total events deleted: {}", deleted);
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    /**
+     * 사용자의 미완료 이벤트를 id 순서대로 처리 (실패하거나 다른 노드가 점유 중이면 중단)
+     */
+    private void dispatchForUser(Long userId) {
+        while (true) {
+            List<SessionOutboxEvent> next = outboxRepository.findUnfinishedByUserId(userId, PageRequest.of(0, 1));
+            if (next.isEmpty() || !process(next.get(0))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 이벤트 하나를 점유 -> 처리 -> 완료/재시도/격리 기록
+     * @return 처리 성공 여부 (격리된 경우에도 같은 사용자의 다음 이벤트로 진행하도록 true)
+     */
+    private boolean process(SessionOutboxEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        if (outboxRepository.claim(event.getId(), now, now.plusMinutes(LOCK_MINUTES)) == 0) {
+            // 재시도 대기 중이거나 다른 노드가 이미 처리 중
+            return false;
+        }
+
+        int attempts = event.getAttempts() + 1;
+        if (attempts > MAX_ATTEMPTS) {
+            // 처리 도중 노드 종료가 반복된 이벤트 (claim만 반복되고 실패 기록이 남지 않은 경우)
+            quarantine(event, attempts, "Exceeded max attempts without completion");
+            return true;
+        }
+
+        try {
+            handle(event);
+            outboxRepository.markDone(event.getId(), LocalDateTime.now());
+            return true;
+        } catch (Exception e) {
+            String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            if (error.length() > 500) {
+                error = error.substring(0, 500);
+            }
+            if (attempts >= MAX_ATTEMPTS) {
+                quarantine(event, attempts, error);
+                return true;
+            }
+            long backoff = Math.min(MAX_BACKOFF_SECONDS, BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 20));
+            outboxRepository.markRetry(event.getId(), LocalDateTime.now().plusSeconds(backoff), error);
+            log.error("Outbox event {} failed (attempt {}), retry in {}s: {}", event.getId(), attempts, backoff, error);
+            return false;
+        }
+    }
+
+    private void quarantine(SessionOutboxEvent event, int attempts, String error) {
+        outboxRepository.markFailed(event.getId(), LocalDateTime.now(), error);
+        log.error("Outbox event {} (UserId {}, SessionId {}) moved to FAILED after {} attempts: {}",
+                event.getId(), event.getUserId(), event.getSessionId(), attempts, error);
+    }
+
+    /**
+     * 이벤트 유형별 후처리
+     */
+    private void handle(SessionOutboxEvent event) {
+        switch (event.getEventType()) {
+            case SESSION_COMPLETED -> handleSessionCompleted(event);
+        }
+    }
+
+    private void handleSessionCompleted(SessionOutboxEvent event) {
+        Long userId = event.getUserId();
+
+        // 1. 세션 카운트를 세션 시작일 통계 및 시간대별 통계에 증분 반영
+        // (일일 통계는 stat_applied, 시간대별 통계는 rollup_applied로 각각 중복 방지)
+        statAggregationService.applyCompletedSession(userId, event.getSessionId());
+
+        // 2. Redis 캐시 정리 - 데이터 유출 방지
+        // (사용자가 이미 새 세션을 시작했다면 새 세션의 누적 카운트를 지우지 않도록 건너뜀)
+        if (activeSessionRegistry.findActiveSessionId(userId).isEmpty()) {
+            realtimeFeedbackService.clearUserCache(userId);
+        }
+
+        // 3. 세션 타임라인은 session_timeline에 저장되었으므로 Redis 비트맵 삭제
+        sessionTimelineService.clearLiveTimeline(event.getSessionId());
+
+        // 4. 시간대별 카운트는 hourly_stat에 반영되었으므로 삭제 (stat_applied 여부와 무관하게 1에서 반영됨)
+        sessionHourlyCounter.clear(event.getSessionId());
+    }
+}
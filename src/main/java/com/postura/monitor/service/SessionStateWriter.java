@@ -0,0 +1,44 @@
+package com.postura.monitor.service;
+
+import com.postura.monitor.domain.ActiveSessionState;
+import com.postura.monitor.repository.MonitoringSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 세션 상태 전이(pause/resume)를 MonitoringSession 테이블에 비동기로 반영하는 Write-behind 서비스
+ *
+ * - 세션 제어 API는 Redis 레지스트리만 갱신하고 즉시 응답
+ * - DB 반영은 version 조건부 UPDATE로 처리하여 순서가 뒤바뀐 반영이나
+ *   이미 COMPLETED된 세션을 덮어쓰지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionStateWriter {
+
+    private final MonitoringSessionRepository sessionRepository;
+
+    @Async
+    @Transactional
+    public void persistTransition(ActiveSessionState state) {
+        try {
+            int updated = sessionRepository.updateTransition(
+                    state.getSessionId(),
+                    state.getStatus(),
+                    state.getPausedAt(),
+                    state.getAccumulatedDurationSeconds(),
+                    state.getVersion());
+
+            if (updated == 0) {
+                log.debug("Stale transition skipped: SessionId={}, Version={}", state.getSessionId(), state.getVersion());
+            }
+        } catch (Exception e) {
+            // 반영 실패 시에도 레지스트리가 기준이므로 세션 제어는 계속 동작 (종료 시 동기 반영으로 보정)
+            log.error("Failed to persist session transition for SessionId {}: {}", state.getSessionId(), e.getMessage());
+        }
+    }
+}
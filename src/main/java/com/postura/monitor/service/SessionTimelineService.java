@@ -0,0 +1,167 @@
+package com.postura.monitor.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.postura.common.posture.PostureType;
+import com.postura.monitor.domain.TimelineCodec;
+import com.postura.monitor.entity.MonitoringSession;
+import com.postura.monitor.entity.SessionTimeline;
+import com.postura.monitor.repository.SessionTimelineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션별 초당 자세 타임라인 기록/저장 서비스
+ *
+ * - 진행 중 : Redis 문자열 비트맵(monitor:timeline:<sessionId>)에 SETBIT로 기록
+ *             (세션 시작 후 n초의 프레임 -> n번째 바이트, 자세별 비트는 PostureType 참고)
+ * - 종료 시 : 비트맵을 RLE 압축하여 session_timeline에 1행으로 저장
+ * - 조회 시 : 1행만 읽어 요청 해상도로 다운샘플링
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SessionTimelineService {
+
+    private final StringRedisTemplate redisTemplate;
+    private final SessionTimelineRepository timelineRepository;
+    private final ObjectMapper objectMapper;
+
+    private static final String TIMELINE_KEY_PREFIX = "monitor:timeline:";
+
+    // 비정상 종료된 세션의 비트맵이 남지 않도록 레지스트리와 같은 만료 시간 사용
+    private static final long TIMELINE_EXPIRATION_HOURS = 24;
+
+    // 기록 가능한 최대 길이 (만료 시간과 동일, 비트맵 최대 86,400바이트)
+    private static final long MAX_TIMELINE_SECONDS = TIMELINE_EXPIRATION_HOURS * 3600;
+
+    /**
+     * 프레임 하나를 타임라인에 기록 (같은 초의 여러 프레임은 비트 OR로 합쳐짐)
+     * @param sessionStartAt 세션 시작 시각 (타임라인 0초)
+     */
+    public void record(Long sessionId, LocalDateTime sessionStartAt, LocalDateTime frameTimestamp, List<String> postureStates) {
+        int mask = PostureType.toMask(postureStates);
+        if (mask == 0 || sessionStartAt == null || frameTimestamp == null) {
+            // UNKNOWN만 있는 프레임은 "데이터 없음"으로 둠
+            return;
+        }
+
+        long second = Duration.between(sessionStartAt, frameTimestamp).getSeconds();
+        if (second < 0 || second >= MAX_TIMELINE_SECONDS) {
+            log.debug("Timeline skip: frame out of range for SessionId {} (offset {}s)", sessionId, second);
+            return;
+        }
+
+        byte[] key = key(sessionId);
+        long ttlSeconds = TimeUnit.HOURS.toSeconds(TIMELINE_EXPIRATION_HOURS);
+
+        // SETBIT 여러 번 + EXPIRE를 한 번의 왕복으로 전송
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (PostureType type : PostureType.values()) {
+                if ((mask & type.mask()) != 0) {
+                    // Redis 비트 오프셋은 바이트의 최상위 비트부터 시작하므로 (7 - bit)로 배치하여 바이트 값 = 마스크
+                    connection.stringCommands().setBit(key, second * 8 + (7 - type.getBit()), true);
+                }
+            }
+            connection.keyCommands().expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    /**
+     * 세션 종료 시 Redis 비트맵을 압축하여 저장 (MonitoringService.finalizeSession 트랜잭션 내부)
+     */
+    public void persist(MonitoringSession session, Long userId) {
+        SessionTimeline timeline = timelineRepository.save(readLiveTimeline(session, userId));
+
+        log.info("Timeline persisted: SessionId={}, Seconds={}, Bytes={}",
+                session.getId(), timeline.getTotalSeconds(), timeline.getTimelineData().length);
+    }
+
+    /**
+     * 진행 중인 세션의 Redis 비트맵을 압축한 타임라인 (저장하지 않음, 분 단위 조회의 실시간 합산용)
+     */
+    public SessionTimeline readLiveTimeline(MonitoringSession session, Long userId) {
+        byte[] raw = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key(session.getId())));
+
+        return SessionTimeline.builder()
+                .sessionId(session.getId())
+                .userId(userId)
+                .startAt(session.getStartAt())
+                .totalSeconds(raw == null ? 0 : raw.length)
+                .timelineData(TimelineCodec.encode(raw))
+                .build();
+    }
+
+    /**
+     * 저장 완료 후 Redis 비트맵 삭제 (SessionOutboxDispatcher에서 커밋 이후 호출)
+     */
+    public void clearLiveTimeline(Long sessionId) {
+        redisTemplate.delete(TIMELINE_KEY_PREFIX + sessionId);
+    }
+
+    /**
+     * 사용자 소유 세션의 저장된 타임라인 조회
+     */
+    public Optional<SessionTimeline> findTimeline(Long sessionId, Long userId) {
+        return timelineRepository.findBySessionIdAndUserId(sessionId, userId);
+    }
+
+    /**
+     * 타임라인을 요청 해상도로 다운샘플링하여 JSON으로 스트리밍
+     * (원본 배열을 복원하지 않고 RLE 런을 순회하며 바로 출력)
+     * @param resolutionSeconds 버킷 크기 (초), 버킷 안의 자세는 비트 OR로 합침
+     */
+    public void writeTimeline(SessionTimeline timeline, int resolutionSeconds, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 응답 스트림은 컨테이너가 닫음
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeNumberField("sessionId", timeline.getSessionId());
+            generator.writeStringField("startAt", timeline.getStartAt().toString());
+            generator.writeNumberField("totalSeconds", timeline.getTotalSeconds());
+            generator.writeNumberField("resolutionSeconds", resolutionSeconds);
+
+            // 마스크 해석용 비트 정보
+            generator.writeObjectFieldStart("postureBits");
+            for (PostureType type : PostureType.values()) {
+                generator.writeNumberField(type.name(), type.mask());
+            }
+            generator.writeEndObject();
+
+            generator.writeArrayFieldStart("masks");
+            try {
+                TimelineCodec.forEachBucket(timeline.getTimelineData(), resolutionSeconds, (bucket, mask) -> {
+                    try {
+                        generator.writeNumber(mask);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+    }
+
+    private static byte[] key(Long sessionId) {
+        return (TIMELINE_KEY_PREFIX + sessionId).getBytes(StandardCharsets.UTF_8);
+    }
+}
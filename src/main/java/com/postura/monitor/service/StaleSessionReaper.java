@@ -0,0 +1,159 @@
+package com.postura.monitor.service;
+
+import com.postura.common.lock.RedisJobLock;
+import com.postura.monitor.domain.AbandonedSession;
+import com.postura.monitor.domain.ActiveSessionState;
+import com.postura.monitor.entity.MonitoringSession;
+import com.postura.monitor.entity.SessionStatus;
+import com.postura.monitor.repository.MonitoringSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 브라우저 탭 종료 등으로 STARTED/PAUSED 상태에 방치된 세션을 찾아 일괄 종료하는 스케줄러
+ *
+ * - Redis 피드백 캐시(누적 카운트)가 만료되기 전에 종료하여 일일 통계 누락 방지
+ * - session_id 기준 keyset 스캔 + 배치 크기 제한으로 DB 부하 제한
+ * - RedisJobLock으로 여러 노드 중 한 곳에서만 실행
+ * - 세션마다 별도 트랜잭션으로 종료하여 한 세션의 실패가 같은 배치의 다른 세션 종료를 되돌리지 않음
+ * - 종료된 세션의 통계 집계는 세션별 Outbox 이벤트로 처리 (사용자/날짜별 재집계)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StaleSessionReaper {
+
+    private final MonitoringSessionRepository sessionRepository;
+    private final MonitoringService monitoringService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final RealtimeFeedbackService realtimeFeedbackService;
+    private final RedisJobLock redisJobLock;
+
+    private static final String JOB_NAME = "stale-session-reaper";
+
+    // STARTED 세션: 마지막 프레임 이후 이 시간이 지나면 방치로 판단
+    // (피드백 캐시 만료 시간 10분보다 짧게 설정하여 카운트 유실 방지)
+    private static final long STARTED_IDLE_MINUTES = 5;
+
+    // PAUSED 세션: 일시정지 후 이 시간이 지나면 방치로 판단
+    private static final long PAUSED_IDLE_HOURS = 6;
+
+    // 한 번에 조회/종료할 세션 수 및 1회 실행당 최대 배치 수
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES_PER_RUN = 50;
+
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void reapStaleSessions() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, this::reap);
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private void reap() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startedLimit = now.minusMinutes(STARTED_IDLE_MINUTES);
+        LocalDateTime pausedLimit = now.minusHours(PAUSED_IDLE_HOURS);
+        List<SessionStatus> activeStatuses = List.of(SessionStatus.STARTED, SessionStatus.PAUSED);
+
+        long afterId = 0L;
+        int scanned = 0;
+        int finalized = 0;
+        int failed = 0;
+
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            // 1. keyset 페이지 조회 (마지막으로 읽은 session_id 이후)
+            List<MonitoringSession> page = sessionRepository.findByStatusInAfterId(
+                    activeStatuses, afterId, PageRequest.of(0, BATCH_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+            scanned += page.size();
+
+            // 2. 방치 여부 판단
+            List<AbandonedSession> abandoned = new ArrayList<>();
+            for (MonitoringSession session : page) {
+                findAbandoned(session, startedLimit, pausedLimit).ifPresent(abandoned::add);
+            }
+
+            // 3. 세션별 종료 (실패한 세션은 다음 실행에서 다시 시도)
+            for (AbandonedSession session : abandoned) {
+                try {
+                    if (monitoringService.finalizeAbandonedSession(session)) {
+                        finalized++;
+                    }
+                } catch (Exception e) {
+                    failed++;
+                    log.error("Failed to finalize abandoned SessionId {}: {}", session.getSessionId(), e.getMessage(), e);
+                }
+            }
+
+            if (page.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (finalized > 0 || failed > 0) {
+            log.info("Stale session reaper finished. Scanned={}, Finalized={}, Failed={}", scanned, finalized, failed);
+        }
+    }
+
+    /**
+     * 세션의 마지막 활동 시각을 구하고 방치 기준을 넘었는지 판단
+     */
+    private Optional<AbandonedSession> findAbandoned(MonitoringSession session,
+                                                     LocalDateTime startedLimit,
+                                                     LocalDateTime pausedLimit) {
+        Long sessionId = session.getId();
+        Long userId = session.getUser().getId();
+
+        // 레지스트리 상태가 최신 (DB는 비동기 반영이므로 늦을 수 있음)
+        ActiveSessionState state = activeSessionRegistry.find(sessionId)
+                .orElseGet(() -> ActiveSessionState.from(session));
+        if (!state.isActive()) {
+            return Optional.empty();
+        }
+
+        // 사용자가 이미 다른 세션을 시작했다면 피드백 캐시는 새 세션 것이므로 사용하지 않음
+        boolean superseded = activeSessionRegistry.findActiveSessionId(userId)
+                .map(activeId -> !activeId.equals(sessionId))
+                .orElse(false);
+
+        // 시작/재개/일시정지 시각 (프레임이 없을 때의 마지막 활동 시각)
+        LocalDateTime lastTransitionAt = state.getPausedAt() != null ? state.getPausedAt() : state.getStartAt();
+
+        if (state.getStatus() == SessionStatus.PAUSED) {
+            if (superseded || lastTransitionAt.isBefore(pausedLimit)) {
+                return Optional.of(new AbandonedSession(sessionId, userId, lastTransitionAt, superseded));
+            }
+            return Optional.empty();
+        }
+
+        // STARTED: 마지막 프레임 캐시 시각과 재개/시작 시각 중 늦은 쪽
+        LocalDateTime lastActivityAt = lastTransitionAt;
+        if (!superseded) {
+            Optional<LocalDateTime> lastCachedAt = realtimeFeedbackService.getLastCachedAt(userId);
+            if (lastCachedAt.isPresent() && lastCachedAt.get().isAfter(lastActivityAt)) {
+                lastActivityAt = lastCachedAt.get();
+            }
+        }
+
+        if (superseded || lastActivityAt.isBefore(startedLimit)) {
+            return Optional.of(new AbandonedSession(sessionId, userId, lastActivityAt, superseded));
+        }
+        return Optional.empty();
+    }
+}
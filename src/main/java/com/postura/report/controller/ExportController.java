@@ -0,0 +1,158 @@
+package com.postura.report.controller;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.report.service.DataExportService;
+import com.postura.user.service.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * 자세 로그 / 일일 통계 내보내기 API (CSV, NDJSON 스트리밍)
+ * - /api/report/export/** : 본인 데이터
+ * - /api/admin/report/export/** : 분석용 관리자 내보내기 (SecurityConfig에서 ADMIN 권한만 허용)
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportController {
+
+    private final DataExportService dataExportService;
+
+    // *************************************************************
+    // JWT 인증된 사용자 ID를 SecurityContext에서 추출하는 헬퍼 메서드
+    // *************************************************************
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated() || authentication.getPrincipal().equals("anonymousUser")) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+
+        Object principal = authentication.getPrincipal();
+
+        if (principal instanceof CustomUserDetails) {
+            return ((CustomUserDetails) principal).getUserId();
+        }
+
+        throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "인증된 사용자 ID 추출 실패: Principal 타입 불일치");
+    }
+
+    /**
+     * [GET /api/report/export/logs] 본인 자세 로그 내보내기
+     * @param from 시작일 (YYYY-MM-DD), to 종료일 (YYYY-MM-DD, 포함)
+     * @param format csv | ndjson (기본값: csv)
+     * @param gzip true면 gzip 압축 파일(.gz)로 전송
+     */
+    @GetMapping("/report/export/logs")
+    public ResponseEntity<StreamingResponseBody> exportMyLogs(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip)
+    {
+        return exportLogs(getAuthenticatedUserId(), from, to, format, gzip);
+    }
+
+    /**
+     * [GET /api/report/export/stats] 본인 일일 통계 내보내기
+     */
+    @GetMapping("/report/export/stats")
+    public ResponseEntity<StreamingResponseBody> exportMyStats(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip)
+    {
+        return exportStats(getAuthenticatedUserId(), from, to, format, gzip);
+    }
+
+    /**
+     * [GET /api/admin/report/export/users/{userId}/logs] 관리자용 사용자 자세 로그 내보내기
+     */
+    @GetMapping("/admin/report/export/users/{userId}/logs")
+    public ResponseEntity<StreamingResponseBody> exportUserLogs(
+            @PathVariable Long userId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip)
+    {
+        log.info("Admin export of posture logs requested for UserId {} ({} ~ {})", userId, from, to);
+        return exportLogs(userId, from, to, format, gzip);
+    }
+
+    /**
+     * [GET /api/admin/report/export/users/{userId}/stats] 관리자용 사용자 일일 통계 내보내기
+     */
+    @GetMapping("/admin/report/export/users/{userId}/stats")
+    public ResponseEntity<StreamingResponseBody> exportUserStats(
+            @PathVariable Long userId,
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip)
+    {
+        log.info("Admin export of daily stats requested for UserId {} ({} ~ {})", userId, from, to);
+        return exportStats(userId, from, to, format, gzip);
+    }
+
+    // *************************************************************
+    // 응답 구성 (검증은 스트리밍 시작 전에 수행하여 오류 시 400 응답)
+    // *************************************************************
+
+    private ResponseEntity<StreamingResponseBody> exportLogs(Long userId, String from, String to, String format, boolean gzip) {
+        LocalDate startDate = parseDate(from);
+        LocalDate endDate = parseDate(to);
+        DataExportService.Format exportFormat = DataExportService.Format.parse(format);
+        dataExportService.validateRange(startDate, endDate, true);
+
+        StreamingResponseBody body = out -> dataExportService.exportLogs(userId, startDate, endDate, exportFormat, gzip, out);
+        return streaming(body, "posture-logs-" + startDate + "-" + endDate, exportFormat, gzip);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportStats(Long userId, String from, String to, String format, boolean gzip) {
+        LocalDate startDate = parseDate(from);
+        LocalDate endDate = parseDate(to);
+        DataExportService.Format exportFormat = DataExportService.Format.parse(format);
+        dataExportService.validateRange(startDate, endDate, false);
+
+        StreamingResponseBody body = out -> dataExportService.exportStats(userId, startDate, endDate, exportFormat, gzip, out);
+        return streaming(body, "daily-stats-" + startDate + "-" + endDate, exportFormat, gzip);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streaming(StreamingResponseBody body, String baseName,
+                                                            DataExportService.Format format, boolean gzip) {
+        String filename = baseName + "." + format.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    private LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "날짜 형식이 올바르지 않습니다.");
+        }
+    }
+}
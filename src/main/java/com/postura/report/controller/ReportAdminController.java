@@ -0,0 +1,70 @@
+package com.postura.report.controller;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.dto.report.AggregationProgressResponse;
+import com.postura.dto.report.BackfillRequest;
+import com.postura.dto.report.BackfillStatusResponse;
+import com.postura.report.domain.AggregationProgress;
+import com.postura.report.entity.AggregationJob;
+import com.postura.report.service.StatAggregationEngine;
+import com.postura.report.service.StatBackfillService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 통계 집계 배치 운영 지표 조회용 관리자 API
+ * (SecurityConfig에서 /api/admin/** 는 ADMIN 권한만 허용)
+ */
+@RestController
+@RequestMapping("/api/admin/report")
+@RequiredArgsConstructor
+@Slf4j
+public class ReportAdminController {
+
+    private final StatAggregationEngine statAggregationEngine;
+    private final StatBackfillService statBackfillService;
+
+    /**
+     * [GET /api/admin/report/aggregation] 사용자별 집계 작업 진행률 조회 (현재 노드 기준)
+     * 실행 이력이 없으면 204
+     */
+    @GetMapping("/aggregation")
+    public ResponseEntity<AggregationProgressResponse> getAggregationProgress() {
+        return statAggregationEngine.getProgress()
+                .map(progress -> ResponseEntity.ok(AggregationProgressResponse.from(progress)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * [POST /api/admin/report/backfill] 기간 통계 재집계(백필) 시작
+     * 작업은 백그라운드에서 실행되며, 응답의 jobId로 진행 상태를 조회
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<BackfillStatusResponse> startBackfill(@Valid @RequestBody BackfillRequest request) {
+        AggregationJob job = statBackfillService.createJob(request.getFrom(), request.getTo(), request.getUserIds());
+        statBackfillService.run(job.getId());
+        log.info("Backfill job {} requested: {} ~ {}", job.getId(), request.getFrom(), request.getTo());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(BackfillStatusResponse.of(job, null));
+    }
+
+    /**
+     * [GET /api/admin/report/backfill/{jobId}] 백필 작업 진행 상태 조회
+     */
+    @GetMapping("/backfill/{jobId}")
+    public ResponseEntity<BackfillStatusResponse> getBackfillStatus(@PathVariable Long jobId) {
+        AggregationJob job = statBackfillService.findJob(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_INPUT_VALUE, "백필 작업을 찾을 수 없습니다."));
+        AggregationProgress progress = statBackfillService.getProgress(jobId).orElse(null);
+        return ResponseEntity.ok(BackfillStatusResponse.of(job, progress));
+    }
+}
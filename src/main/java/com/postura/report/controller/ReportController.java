@@ -2,8 +2,16 @@ package com.postura.report.controller;
 
 import com.postura.common.exception.CustomException;
 import com.postura.common.exception.ErrorCode;
+import com.postura.dto.report.HourlyReportDto;
+import com.postura.dto.report.MinuteSeriesDto;
+import com.postura.dto.report.RangeReportDto;
 import com.postura.dto.report.StatReportDto;
+import com.postura.dto.report.TrendResponse;
+import com.postura.report.service.HourlyStatService;
+import com.postura.report.service.MinuteStatService;
+import com.postura.report.service.RangeReportService;
 import com.postura.report.service.SelfManagementService;
+import com.postura.report.service.TrendService;
 import com.postura.user.service.CustomUserDetails;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/report")
@@ -26,6 +35,13 @@ import java.time.LocalDate;
 public class ReportController {
 
     private final SelfManagementService selfManagementService;
+    private final HourlyStatService hourlyStatService;
+    private final RangeReportService rangeReportService;
+    private final TrendService trendService;
+    private final MinuteStatService minuteStatService;
+
+    // 시간대별 분석 기본 조회 기간 (일)
+    private static final long DEFAULT_HOURLY_RANGE_DAYS = 28;
 
     // *************************************************************
     // 💡 JWT 인증된 사용자 ID를 SecurityContext에서 추출하는 헬퍼 메서드
@@ -82,6 +98,127 @@ public class ReportController {
         return ResponseEntity.ok(report);
     }
 
-}
+    /**
+     * [GET /api/report/hourly] 시간대별 자세 분석 (하루 중 시간대 곡선 + 요일 x 시간대 히트맵)
+     * @param from 조회 시작일 (YYYY-MM-DD, 선택적 - 기본값: 종료일 기준 최근 28일)
+     * @param to 조회 종료일 (YYYY-MM-DD, 선택적 - 기본값: 오늘)
+     */
+    @GetMapping("/hourly")
+    public ResponseEntity<HourlyReportDto> getHourlyReport(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to)
+    {
+        Long userId = getAuthenticatedUserId();
+
+        LocalDate endDate = parseDateOrDefault(to, LocalDate.now());
+        LocalDate startDate = parseDateOrDefault(from, endDate.minusDays(DEFAULT_HOURLY_RANGE_DAYS - 1));
+
+        HourlyReportDto report = hourlyStatService.getHourlyReport(userId, startDate, endDate);
+
+        log.info("Hourly report generated for UserId {} from {} to {}", userId, startDate, endDate);
+
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * [GET /api/report/range] 장기 기간 통계 (일/주/월 중 포인트 수 제한에 맞는 단위를 자동 선택)
+     * @param from 조회 시작일 (YYYY-MM-DD, 필수)
+     * @param to 조회 종료일 (YYYY-MM-DD, 선택적 - 기본값: 오늘)
+     * @param maxPoints 최대 포인트 수 (선택적 - 기본값: 60)
+     */
+    @GetMapping("/range")
+    public ResponseEntity<RangeReportDto> getRangeReport(
+            @RequestParam String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false, defaultValue = "" + RangeReportService.DEFAULT_MAX_POINTS) int maxPoints)
+    {
+        Long userId = getAuthenticatedUserId();
+
+        LocalDate startDate = parseDateOrDefault(from, null);
+        LocalDate endDate = parseDateOrDefault(to, LocalDate.now());
+        if (startDate == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 시작일은 필수입니다.");
+        }
+
+        RangeReportDto report = rangeReportService.getRangeReport(userId, startDate, endDate, maxPoints);
 
+        log.info("Range report generated for UserId {} from {} to {} ({})",
+                userId, startDate, endDate, report.getResolution());
 
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * [GET /api/report/trend] 장기 추이 그래프 (서버 측 LTTB 다운샘플링)
+     * @param from 조회 시작일 (YYYY-MM-DD, 필수)
+     * @param to 조회 종료일 (YYYY-MM-DD, 선택적 - 기본값: 오늘)
+     * @param resolution 원본 데이터 단위 DAY | HOUR (기본값: DAY)
+     * @param metric RATIO(바른 자세 유지율) | WARNINGS(경고 횟수) (기본값: RATIO)
+     * @param points 반환할 최대 포인트 수 (기본값: 300)
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<TrendResponse> getTrend(
+            @RequestParam String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false, defaultValue = "DAY") String resolution,
+            @RequestParam(required = false, defaultValue = "RATIO") String metric,
+            @RequestParam(required = false, defaultValue = "" + TrendService.DEFAULT_POINTS) int points)
+    {
+        Long userId = getAuthenticatedUserId();
+
+        LocalDate startDate = parseDateOrDefault(from, null);
+        LocalDate endDate = parseDateOrDefault(to, LocalDate.now());
+        if (startDate == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 시작일은 필수입니다.");
+        }
+
+        TrendResponse trend = trendService.getTrend(userId, startDate, endDate, resolution, metric, points);
+
+        log.info("Trend generated for UserId {} from {} to {}: {} -> {} points",
+                userId, startDate, endDate, trend.getSourceCount(), trend.getPoints().size());
+
+        return ResponseEntity.ok(trend);
+    }
+
+    /**
+     * 분 단위 자세 흐름 조회 API (최대 3일)
+     * 분 단위 요약 + 아직 요약에 반영되지 않은 세션의 타임라인 (모든 카운트는 초 단위)
+     * GET /api/report/minutes?from=2025-01-01T09:00:00&to=2025-01-01T18:00:00
+     * @param from 조회 시작 시각 (ISO-8601, 포함)
+     * @param to 조회 종료 시각 (ISO-8601, 미포함)
+     */
+    @GetMapping("/minutes")
+    public ResponseEntity<MinuteSeriesDto> getMinuteSeries(
+            @RequestParam String from,
+            @RequestParam String to)
+    {
+        Long userId = getAuthenticatedUserId();
+
+        MinuteSeriesDto series = minuteStatService.getMinuteSeries(userId, parseDateTime(from), parseDateTime(to));
+
+        log.info("Minute series generated for UserId {} from {} to {}: {} points",
+                userId, from, to, series.getPoints().size());
+
+        return ResponseEntity.ok(series);
+    }
+
+    private LocalDate parseDateOrDefault(String value, LocalDate defaultValue) {
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "날짜 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private LocalDateTime parseDateTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "시각 형식이 올바르지 않습니다.");
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.postura.report.domain;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 집계 작업의 진행률 (여러 작업 스레드에서 동시에 갱신)
+ *
+ * - 처리량(users/sec)은 이번 실행에서 처리한 사용자 수 기준 (체크포인트로 건너뛴 사용자 제외)
+ * - ETA = 남은 사용자 수 / 처리량
+ */
+@Getter
+public class AggregationProgress {
+
+    private final String jobKey;
+    private final long totalUsers;
+    private final long resumedFrom;      // 이전 실행에서 처리된 사용자 수
+    private final LocalDateTime startedAt;
+    private final long startedAtNanos;
+
+    private final AtomicLong processed;
+    private final AtomicLong failed;
+    private volatile boolean finished;
+
+    public AggregationProgress(String jobKey, long totalUsers, long processedBefore, long failedBefore) {
+        this.jobKey = jobKey;
+        this.totalUsers = totalUsers;
+        this.resumedFrom = processedBefore + failedBefore;
+        this.startedAt = LocalDateTime.now();
+        this.startedAtNanos = System.nanoTime();
+        this.processed = new AtomicLong(processedBefore);
+        this.failed = new AtomicLong(failedBefore);
+    }
+
+    public void recordSuccess() {
+        processed.incrementAndGet();
+    }
+
+    public void recordFailure() {
+        failed.incrementAndGet();
+    }
+
+    public void recordSuccess(long users) {
+        processed.addAndGet(users);
+    }
+
+    public void recordFailure(long users) {
+        failed.addAndGet(users);
+    }
+
+    /**
+     * 실패로 기록된 사용자가 재시도에서 성공한 경우
+     */
+    public void recordRecovered(long users) {
+        failed.addAndGet(-users);
+        processed.addAndGet(users);
+    }
+
+    public void finish() {
+        this.finished = true;
+    }
+
+    public long getProcessedCount() {
+        return processed.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * 이번 실행의 처리량 (users/sec)
+     */
+    public double getUsersPerSecond() {
+        double elapsedSeconds = (System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+        long doneThisRun = processed.get() + failed.get() - resumedFrom;
+        return elapsedSeconds <= 0 ? 0.0 : doneThisRun / elapsedSeconds;
+    }
+
+    /**
+     * 남은 예상 시간 (처리량이 아직 없으면 null)
+     */
+    public Duration getEta() {
+        if (finished) {
+            return Duration.ZERO;
+        }
+        double rate = getUsersPerSecond();
+        if (rate <= 0) {
+            return null;
+        }
+        long remaining = Math.max(0, totalUsers - processed.get() - failed.get());
+        return Duration.ofMillis((long) (remaining / rate * 1000));
+    }
+}
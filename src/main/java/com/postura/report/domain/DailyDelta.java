@@ -0,0 +1,36 @@
+package com.postura.report.domain;
+
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 아직 일일 통계(aggregate_stat)에 반영되지 않은 하루치 카운트 누적기
+ * (종료 후 Outbox 반영 대기 중인 세션 + 진행 중인 세션의 피드백 캐시 카운트)
+ */
+@Getter
+public class DailyDelta {
+
+    private long goodCount;
+    private long analysisSeconds;
+    private int warningCount;
+    private final Map<String, Integer> postureCounts = new HashMap<>();
+
+    public void add(long goodCount, long analysisSeconds, int warningCount, Map<String, Integer> postureCounts) {
+        this.goodCount += goodCount;
+        this.analysisSeconds += analysisSeconds;
+        this.warningCount += warningCount;
+        if (postureCounts != null) {
+            postureCounts.forEach((type, count) -> this.postureCounts.merge(type, count, Integer::sum));
+        }
+    }
+
+    public boolean isEmpty() {
+        return analysisSeconds == 0;
+    }
+
+    public int postureCount(String postureType) {
+        return postureCounts.getOrDefault(postureType, 0);
+    }
+}
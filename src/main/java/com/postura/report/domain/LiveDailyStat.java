@@ -0,0 +1,93 @@
+package com.postura.report.domain;
+
+import com.postura.report.repository.DailyStatView;
+
+import java.time.LocalDate;
+
+/**
+ * 저장된 일일 통계에 미반영 카운트(DailyDelta)를 더한 오늘의 통계
+ *
+ * - 유지율/목표 달성은 합산된 카운트로 다시 계산 (applyCompletedSession의 UPSERT와 같은 규칙)
+ * - 연속 달성 일수는 전날 행 기준으로 계산 (StreakCalculator와 같은 규칙)
+ */
+public record LiveDailyStat(
+        LocalDate statDate,
+        Double correctRatio,
+        Integer totalWarningCount,
+        Long totalGoodCount,
+        Long totalAnalysisSeconds,
+        Boolean goalAchieved,
+        Integer consecutiveAchievedDays,
+        Integer forwardHeadCount,
+        Integer unequalShouldersCount,
+        Integer upperBodyTiltCount,
+        Integer tooCloseCount,
+        Integer asymmetricPostureCount,
+        Integer headTiltCount,
+        Integer leaningOnArmCount
+) implements DailyStatView {
+
+    /**
+     * @param persisted 저장된 오늘 통계 (없으면 null)
+     * @param yesterday 저장된 전날 통계 (없으면 null)
+     */
+    public static LiveDailyStat merge(LocalDate date, DailyStatView persisted, DailyStatView yesterday,
+                                      DailyDelta delta, double goalRatio) {
+        long persistedSeconds = persisted == null ? 0L : persisted.getTotalAnalysisSeconds();
+        long persistedGood = persisted == null ? 0L : persistedGoodCount(persisted);
+
+        long good = persistedGood + delta.getGoodCount();
+        long seconds = persistedSeconds + delta.getAnalysisSeconds();
+        double ratio = seconds == 0 ? 0.0 : Math.round((double) good / seconds * 10000.0) / 100.0;
+        boolean achieved = ratio >= goalRatio;
+
+        int consecutiveDays = 0;
+        if (achieved) {
+            boolean continued = yesterday != null
+                    && yesterday.getStatDate().plusDays(1).equals(date)
+                    && Boolean.TRUE.equals(yesterday.getGoalAchieved());
+            consecutiveDays = continued ? yesterday.getConsecutiveAchievedDays() + 1 : 1;
+        }
+
+        return new LiveDailyStat(
+                date,
+                ratio,
+                (persisted == null ? 0 : persisted.getTotalWarningCount()) + delta.getWarningCount(),
+                good,
+                seconds,
+                achieved,
+                consecutiveDays,
+                (persisted == null ? 0 : persisted.getForwardHeadCount()) + delta.postureCount("FORWARD_HEAD"),
+                (persisted == null ? 0 : persisted.getUnequalShouldersCount()) + delta.postureCount("UNEQUAL_SHOULDERS"),
+                (persisted == null ? 0 : persisted.getUpperBodyTiltCount()) + delta.postureCount("UPPER_BODY_TILT"),
+                (persisted == null ? 0 : persisted.getTooCloseCount()) + delta.postureCount("TOO_CLOSE"),
+                (persisted == null ? 0 : persisted.getAsymmetricPostureCount()) + delta.postureCount("ASYMMETRIC_POSTURE"),
+                (persisted == null ? 0 : persisted.getHeadTiltCount()) + delta.postureCount("HEAD_TILT"),
+                (persisted == null ? 0 : persisted.getLeaningOnArmCount()) + delta.postureCount("LEANING_ON_ARM"));
+    }
+
+    /**
+     * total_good_count 컬럼 추가 이전 행은 유지율로부터 복원
+     */
+    private static long persistedGoodCount(DailyStatView stat) {
+        if (stat.getTotalGoodCount() != null) {
+            return stat.getTotalGoodCount();
+        }
+        return Math.round(stat.getCorrectRatio() * stat.getTotalAnalysisSeconds() / 100.0);
+    }
+
+    @Override public LocalDate getStatDate() { return statDate; }
+    @Override public Double getCorrectRatio() { return correctRatio; }
+    @Override public Integer getTotalWarningCount() { return totalWarningCount; }
+    @Override public Long getTotalGoodCount() { return totalGoodCount; }
+    @Override public Long getTotalAnalysisSeconds() { return totalAnalysisSeconds; }
+    @Override public Boolean getGoalAchieved() { return goalAchieved; }
+    @Override public Integer getConsecutiveAchievedDays() { return consecutiveAchievedDays; }
+    @Override public Integer getForwardHeadCount() { return forwardHeadCount; }
+    @Override public Integer getUnequalShouldersCount() { return unequalShouldersCount; }
+    @Override public Integer getUpperBodyTiltCount() { return upperBodyTiltCount; }
+    @Override public Integer getTooCloseCount() { return tooCloseCount; }
+    @Override public Integer getAsymmetricPostureCount() { return asymmetricPostureCount; }
+    @Override public Integer getHeadTiltCount() { return headTiltCount; }
+    @Override public Integer getLeaningOnArmCount() { return leaningOnArmCount; }
+}
@@ -0,0 +1,175 @@
+package com.postura.report.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플러 (두 번의 스트리밍 패스, 메모리 O(목표 포인트 수))
+ *
+ * - 버킷 : 첫/마지막 포인트를 제외한 구간 [xMin, xMax]를 (points - 2)개의 같은 시간 폭 버킷으로 분할
+ *          (행 수를 미리 알 필요가 없도록 인덱스가 아닌 x 기준으로 분할, 빈 버킷은 건너뜀)
+ * - 1차 패스(observe) : 버킷별 x/y 평균, 첫/마지막 포인트 기록 (행 수가 목표 이하이면 원본을 그대로 보관)
+ * - 2차 패스(select) : 버킷마다 (이전 선택 포인트, 자신, 다음 버킷 평균)의 삼각형 넓이가 가장 큰 포인트 선택
+ * - 두 패스는 같은 x 오름차순으로 같은 행을 전달해야 함
+ */
+public class LttbDownsampler {
+
+    public record Point(double x, double y) {
+    }
+
+    private final int points;
+    private final int bucketCount;
+    private final double xMin;
+    private final double bucketWidth;
+
+    // 1차 패스 누적값
+    private final double[] sumX;
+    private final double[] sumY;
+    private final long[] count;
+    private final List<Point> raw;
+    private long observed;
+    private Point first;
+    private Point last;
+
+    // 2차 패스 상태
+    private Point[] nextAverage;
+    private final List<Point> selected;
+    private int currentBucket = -1;
+    private Point anchor;
+    private Point best;
+    private double bestArea;
+    private boolean firstSkipped;
+    private long selectedRows;
+
+    /**
+     * @param points 목표 포인트 수 (3 이상)
+     */
+    public LttbDownsampler(double xMin, double xMax, int points) {
+        if (points < 3) {
+            throw new IllegalArgumentException("points must be >= 3");
+        }
+        this.points = points;
+        this.bucketCount = points - 2;
+        this.xMin = xMin;
+        this.bucketWidth = Math.max(xMax - xMin, 1.0) / bucketCount;
+        this.sumX = new double[bucketCount];
+        this.sumY = new double[bucketCount];
+        this.count = new long[bucketCount];
+        this.raw = new ArrayList<>(points);
+        this.selected = new ArrayList<>(points);
+    }
+
+    // *************************************************************
+    // 1차 패스
+    // *************************************************************
+
+    public void observe(double x, double y) {
+        Point point = new Point(x, y);
+        if (first == null) {
+            first = point;
+        }
+        last = point;
+        observed++;
+
+        // 목표 이하일 때만 원본 보관 (초과하는 순간 버림)
+        if (raw.size() < points && observed <= points) {
+            raw.add(point);
+        } else if (!raw.isEmpty()) {
+            raw.clear();
+        }
+
+        int bucket = bucketOf(x);
+        sumX[bucket] += x;
+        sumY[bucket] += y;
+        count[bucket]++;
+    }
+
+    /**
+     * 2차 패스가 필요한지 여부 (행 수가 목표 포인트 수 이하이면 1차 패스 결과가 그대로 최종 결과)
+     */
+    public boolean needsSecondPass() {
+        return observed > points;
+    }
+
+    // *************************************************************
+    // 2차 패스
+    // *************************************************************
+
+    public void select(double x, double y) {
+        if (nextAverage == null) {
+            prepareSecondPass();
+        }
+        selectedRows++;
+
+        // 첫 포인트와 마지막 포인트는 항상 포함되므로 후보에서 제외
+        if (!firstSkipped) {
+            firstSkipped = true;
+            return;
+        }
+        if (selectedRows == observed) {
+            return;
+        }
+
+        int bucket = bucketOf(x);
+        if (bucket != currentBucket) {
+            closeBucket();
+            currentBucket = bucket;
+        }
+
+        Point c = nextAverage[bucket];
+        double area = Math.abs((anchor.x() - c.x()) * (y - anchor.y()) - (anchor.x() - x) * (c.y() - anchor.y()));
+        if (best == null || area > bestArea) {
+            best = new Point(x, y);
+            bestArea = area;
+        }
+    }
+
+    /**
+     * 최종 결과 (x 오름차순)
+     */
+    public List<Point> result() {
+        if (!needsSecondPass()) {
+            return List.copyOf(raw);
+        }
+        closeBucket();
+        List<Point> result = new ArrayList<>(selected.size() + 1);
+        result.addAll(selected);
+        result.add(last);
+        return result;
+    }
+
+    public long getObserved() {
+        return observed;
+    }
+
+    // *************************************************************
+    // 내부 처리
+    // *************************************************************
+
+    private void prepareSecondPass() {
+        // 버킷마다 "다음 비어있지 않은 버킷의 평균" (마지막 버킷은 마지막 포인트)
+        nextAverage = new Point[bucketCount];
+        Point next = last;
+        for (int i = bucketCount - 1; i >= 0; i--) {
+            nextAverage[i] = next;
+            if (count[i] > 0) {
+                next = new Point(sumX[i] / count[i], sumY[i] / count[i]);
+            }
+        }
+        selected.add(first);
+        anchor = first;
+    }
+
+    private void closeBucket() {
+        if (best != null) {
+            selected.add(best);
+            anchor = best;
+            best = null;
+        }
+    }
+
+    private int bucketOf(double x) {
+        int bucket = (int) ((x - xMin) / bucketWidth);
+        return Math.max(0, Math.min(bucketCount - 1, bucket));
+    }
+}
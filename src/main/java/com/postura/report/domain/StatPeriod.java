@@ -0,0 +1,80 @@
+package com.postura.report.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 통계 조회/롤업 단위
+ *
+ * - DAY   : aggregate_stat (일일 통계 원본)
+ * - WEEK  : weekly_stat (월요일 시작)
+ * - MONTH : monthly_stat (1일 시작)
+ */
+public enum StatPeriod {
+
+    DAY {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusDays(1);
+        }
+    },
+    WEEK {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusWeeks(1);
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate next(LocalDate periodStart) {
+            return periodStart.plusMonths(1);
+        }
+    };
+
+    /**
+     * 날짜가 속한 기간의 시작일
+     */
+    public abstract LocalDate startOf(LocalDate date);
+
+    /**
+     * 다음 기간의 시작일
+     */
+    public abstract LocalDate next(LocalDate periodStart);
+
+    /**
+     * 기간의 마지막 날
+     */
+    public LocalDate endOf(LocalDate periodStart) {
+        return next(periodStart).minusDays(1);
+    }
+
+    /**
+     * [from, to] 구간을 덮는 기간(포인트) 수
+     */
+    public long countPeriods(LocalDate from, LocalDate to) {
+        LocalDate first = startOf(from);
+        LocalDate last = startOf(to);
+        return switch (this) {
+            case DAY -> ChronoUnit.DAYS.between(first, last) + 1;
+            case WEEK -> ChronoUnit.WEEKS.between(first, last) + 1;
+            case MONTH -> ChronoUnit.MONTHS.between(first, last) + 1;
+        };
+    }
+}
@@ -16,6 +16,10 @@ import java.util.Map;
         // user_id와 stat_date를 묶어서 복합 유니크 키로 지정
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"user_id", "stat_date"})
+        },
+        // 날짜 단위 전체 사용자 조회 (주/월 롤업 재계산, 연속 일수 보정)
+        indexes = {
+                @Index(name = "idx_aggregate_stat_date", columnList = "stat_date")
         })
 public class AggregateStat {
 
@@ -44,6 +48,11 @@ public class AggregateStat {
     @Column(name = "total_analysis_seconds", nullable = false)
     private Long totalAnalysisSeconds; // -> 해당 날짜의 유지율 계산의 분모
 
+    // 바른 자세 누적 횟수 (유지율 계산의 분자, 세션 종료 시 증분 반영에 사용)
+    // 이 컬럼 추가 이전의 행은 null이며, 증분 반영 시 correct_ratio로부터 복원
+    @Column(name = "total_good_count")
+    private Long totalGoodCount;
+
     // 5. 목표 달성 기록
     @Column(name = "goal_achieved", nullable = false)
     private boolean goalAchieved; // -> 해당 날짜 유지율 달성 여부
@@ -78,13 +87,14 @@ public class AggregateStat {
      * 배치 작업 재실행 시 기존 AggregateStat 데이터를 새로운 값으로 갱신
      * @param postureCount 자세 유형별 발생 횟수를 담은 Map
      */
-    public void updateStats(double correctRatio, int totalWarningCount, long totalAnalysisSeconds,
+    public void updateStats(double correctRatio, int totalWarningCount, long totalAnalysisSeconds, long totalGoodCount,
                             boolean goalAchieved, int consecutiveAchievedDays, Map<String, Integer> postureCount) {
 
         // 1. 주요 지표 업데이트
         this.correctRatio = correctRatio;
         this.totalWarningCount = totalWarningCount;
         this.totalAnalysisSeconds = totalAnalysisSeconds;
+        this.totalGoodCount = totalGoodCount;
         this.goalAchieved = goalAchieved;
         this.consecutiveAchievedDays = consecutiveAchievedDays;
 
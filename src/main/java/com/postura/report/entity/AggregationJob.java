@@ -0,0 +1,222 @@
+package com.postura.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 통계 집계 배치 작업의 진행 상태 (체크포인트)
+ *
+ * - 사용자 ID 오름차순으로 처리하며, checkpointUserId 이하의 사용자는 모두 처리 완료를 의미
+ * - 서버가 작업 도중 종료되면 다음 실행 시 checkpointUserId 이후부터 이어서 처리
+ * - DAILY_AGGREGATION : 야간 일일 집계 (처리 단위 = 사용자)
+ * - BACKFILL          : 관리자 요청 기간 재집계 (처리 단위 = 사용자 청크 x 월)
+ *   QUEUED(다른 백필 실행 중) -> RUNNING -> COMPLETED / FAILED(재시도 후에도 실패한 파티션이 남음)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "aggregation_job",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_aggregation_job_key", columnNames = {"job_key"})
+        },
+        indexes = {
+                @Index(name = "idx_aggregation_job_status", columnList = "job_type, status")
+        })
+public class AggregationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long id;
+
+    // 작업 식별 키 (ex. DAILY:2025-11-24) - 같은 작업의 재실행 시 이어서 처리하기 위한 기준
+    @Column(name = "job_key", length = 100, nullable = false)
+    private String jobKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", length = 30, nullable = false)
+    private JobType jobType;
+
+    // 집계 대상 날짜 (기간 작업은 시작 날짜)
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate;
+
+    // 기간 작업(BACKFILL)의 종료 날짜 (포함)
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    // 기간 작업의 대상 사용자 ID 목록 (콤마 구분, null이면 전체 사용자)
+    @Column(name = "user_filter", columnDefinition = "TEXT")
+    private String userFilter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    // 처리 완료된 마지막 사용자 ID (이 값 이하의 사용자는 모두 처리됨)
+    @Column(name = "checkpoint_user_id", nullable = false)
+    private Long checkpointUserId;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount;
+
+    // 실패한 파티션 목록 (재시도 대상, "첫 사용자 ID-마지막 사용자 ID:시작일~종료일" 콤마 구분)
+    @Column(name = "failed_partitions", columnDefinition = "TEXT")
+    private String failedPartitionRanges;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum JobType {
+        DAILY_AGGREGATION,
+        BACKFILL
+    }
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * 실패한 백필 파티션 (사용자 ID 구간 x 기간)
+     */
+    public record FailedPartition(long firstUserId, long lastUserId, LocalDate from, LocalDate to) {
+
+        private String format() {
+            return firstUserId + "-" + lastUserId + ":" + from + "~" + to;
+        }
+
+        private static FailedPartition parse(String value) {
+            String[] parts = value.split(":");
+            String[] users = parts[0].split("-");
+            String[] dates = parts[1].split("~");
+            return new FailedPartition(Long.parseLong(users[0]), Long.parseLong(users[1]),
+                    LocalDate.parse(dates[0]), LocalDate.parse(dates[1]));
+        }
+    }
+
+    public static AggregationJob daily(LocalDate targetDate) {
+        LocalDateTime now = LocalDateTime.now();
+        return AggregationJob.builder()
+                .jobKey("DAILY:" + targetDate)
+                .jobType(JobType.DAILY_AGGREGATION)
+                .targetDate(targetDate)
+                .status(Status.RUNNING)
+                .checkpointUserId(0L)
+                .processedCount(0L)
+                .failedCount(0L)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public static AggregationJob backfill(LocalDate from, LocalDate to, List<Long> userIds) {
+        LocalDateTime now = LocalDateTime.now();
+        String filter = (userIds == null || userIds.isEmpty()) ? null
+                : userIds.stream().sorted().distinct().map(String::valueOf).collect(Collectors.joining(","));
+        return AggregationJob.builder()
+                .jobKey("BACKFILL:" + from + "~" + to + ":" + System.currentTimeMillis())
+                .jobType(JobType.BACKFILL)
+                .targetDate(from)
+                .endDate(to)
+                .userFilter(filter)
+                .status(Status.QUEUED)
+                .checkpointUserId(0L)
+                .processedCount(0L)
+                .failedCount(0L)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 대상 사용자 ID 목록 (전체 사용자 대상이면 빈 목록)
+     */
+    public List<Long> getUserIds() {
+        if (userFilter == null || userFilter.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(userFilter.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /**
+     * 재시도 대상 파티션 목록 (없으면 빈 목록)
+     */
+    public List<FailedPartition> getFailedPartitions() {
+        if (failedPartitionRanges == null || failedPartitionRanges.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(failedPartitionRanges.split(","))
+                .map(String::trim)
+                .filter(range -> !range.isEmpty())
+                .map(FailedPartition::parse)
+                .toList();
+    }
+
+    public void addFailedPartitions(List<FailedPartition> partitions) {
+        List<FailedPartition> merged = new ArrayList<>(getFailedPartitions());
+        merged.addAll(partitions);
+        replaceFailedPartitions(merged);
+    }
+
+    public void replaceFailedPartitions(List<FailedPartition> partitions) {
+        this.failedPartitionRanges = partitions.isEmpty() ? null
+                : partitions.stream().map(FailedPartition::format).collect(Collectors.joining(","));
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        this.status = Status.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 연속으로 처리 완료된 구간까지 체크포인트 갱신
+     */
+    public void checkpoint(long checkpointUserId, long processedCount, long failedCount) {
+        this.checkpointUserId = checkpointUserId;
+        this.processedCount = processedCount;
+        this.failedCount = failedCount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete(long processedCount, long failedCount) {
+        finish(Status.COMPLETED, processedCount, failedCount);
+    }
+
+    public void fail(long processedCount, long failedCount) {
+        finish(Status.FAILED, processedCount, failedCount);
+    }
+
+    private void finish(Status status, long processedCount, long failedCount) {
+        this.status = status;
+        this.processedCount = processedCount;
+        this.failedCount = failedCount;
+        this.updatedAt = LocalDateTime.now();
+        this.finishedAt = this.updatedAt;
+    }
+}
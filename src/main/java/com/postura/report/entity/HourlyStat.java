@@ -0,0 +1,70 @@
+package com.postura.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 시간대(시 단위) 자세 통계 롤업
+ *
+ * - (user_id, stat_date, stat_hour) 당 1행, AggregateStat과 같은 카운터를 시간 단위로 보관
+ * - 세션 종료 후 통계 반영 시 세션의 시간대별 카운트를 증분으로 더함 (posture_log 재스캔 없음)
+ * - 시간대/요일별 분석 조회 비용은 롤업 행 수(최대 일수 x 24)에 비례
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "hourly_stat",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_hourly_stat", columnNames = {"user_id", "stat_date", "stat_hour"})
+        })
+public class HourlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hourly_stat_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    // 0 ~ 23
+    @Column(name = "stat_hour", nullable = false)
+    private Integer statHour;
+
+    @Column(name = "good_count", nullable = false)
+    private Long goodCount;
+
+    @Column(name = "total_count", nullable = false)
+    private Long totalCount;
+
+    @Column(name = "warning_count", nullable = false)
+    private Integer warningCount;
+
+    @Column(name = "forward_head_count", nullable = false)
+    private Integer forwardHeadCount;
+
+    @Column(name = "unequal_shoulders_count", nullable = false)
+    private Integer unequalShouldersCount;
+
+    @Column(name = "upper_body_tilt_count", nullable = false)
+    private Integer upperBodyTiltCount;
+
+    @Column(name = "too_close_count", nullable = false)
+    private Integer tooCloseCount;
+
+    @Column(name = "asymmetric_posture_count", nullable = false)
+    private Integer asymmetricPostureCount;
+
+    @Column(name = "head_tilt_count", nullable = false)
+    private Integer headTiltCount;
+
+    @Column(name = "leaning_on_arm_count", nullable = false)
+    private Integer leaningOnArmCount;
+}
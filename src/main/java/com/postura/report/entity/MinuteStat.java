@@ -0,0 +1,72 @@
+package com.postura.report.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 분 단위 자세 요약 (원본 로그 보관 기간 이후에도 하루 중 세부 흐름을 유지하기 위한 다운샘플 계층)
+ *
+ * - (user_id, minute_at) 당 1행, 값은 해당 분의 초 수 (타임라인 1초 = 1칸, 최대 60)
+ * - 세션 종료 후 통계 반영 시 세션 타임라인(session_timeline)을 분 단위로 접어 증분 upsert
+ * - 보관 기간은 app.retention.minute-stat-days (원본 posture_log보다 길게 유지)
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "minute_stat",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_minute_stat", columnNames = {"user_id", "minute_at"})
+        },
+        indexes = {
+                // 보관 기간 정리용 범위 스캔
+                @Index(name = "idx_minute_stat_minute", columnList = "minute_at")
+        })
+public class MinuteStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "minute_stat_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 분 시작 시각 (초 이하 0)
+    @Column(name = "minute_at", nullable = false)
+    private LocalDateTime minuteAt;
+
+    // 자세가 감지된 초 수
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+
+    @Column(name = "good_count", nullable = false)
+    private Integer goodCount;
+
+    @Column(name = "warning_count", nullable = false)
+    private Integer warningCount;
+
+    @Column(name = "forward_head_count", nullable = false)
+    private Integer forwardHeadCount;
+
+    @Column(name = "unequal_shoulders_count", nullable = false)
+    private Integer unequalShouldersCount;
+
+    @Column(name = "upper_body_tilt_count", nullable = false)
+    private Integer upperBodyTiltCount;
+
+    @Column(name = "too_close_count", nullable = false)
+    private Integer tooCloseCount;
+
+    @Column(name = "asymmetric_posture_count", nullable = false)
+    private Integer asymmetricPostureCount;
+
+    @Column(name = "head_tilt_count", nullable = false)
+    private Integer headTiltCount;
+
+    @Column(name = "leaning_on_arm_count", nullable = false)
+    private Integer leaningOnArmCount;
+}
@@ -0,0 +1,80 @@
+package com.postura.report.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 월간(1일 시작) 통계 롤업
+ *
+ * - aggregate_stat의 해당 기간 행을 합산한 결과 (PeriodStatRollup이 INSERT ... SELECT로 재계산)
+ * - 일일 통계가 upsert될 때마다 해당 날짜가 속한 기간만 다시 계산하므로 항상 일일 통계와 일치
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "monthly_stat",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_monthly_stat", columnNames = {"user_id", "period_start"})
+        })
+public class MonthlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "monthly_stat_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 기간 시작일
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    // 통계가 있는 날 수 / 목표를 달성한 날 수
+    @Column(name = "recorded_days", nullable = false)
+    private Integer recordedDays;
+
+    @Column(name = "achieved_days", nullable = false)
+    private Integer achievedDays;
+
+    @Column(name = "correct_ratio", columnDefinition = "DECIMAL(5, 2)", nullable = false)
+    private Double correctRatio; // 기간 전체 바른 자세 유지율 (%) = 바른 자세 합계 / 분석 시간 합계
+
+    @Column(name = "total_good_count", nullable = false)
+    private Long totalGoodCount;
+
+    @Column(name = "total_analysis_seconds", nullable = false)
+    private Long totalAnalysisSeconds;
+
+    @Column(name = "total_warning_count", nullable = false)
+    private Long totalWarningCount;
+
+    @Column(name = "forward_head_count", nullable = false)
+    private Long forwardHeadCount;
+
+    @Column(name = "unequal_shoulders_count", nullable = false)
+    private Long unequalShouldersCount;
+
+    @Column(name = "upper_body_tilt_count", nullable = false)
+    private Long upperBodyTiltCount;
+
+    @Column(name = "too_close_count", nullable = false)
+    private Long tooCloseCount;
+
+    @Column(name = "asymmetric_posture_count", nullable = false)
+    private Long asymmetricPostureCount;
+
+    @Column(name = "head_tilt_count", nullable = false)
+    private Long headTiltCount;
+
+    @Column(name = "leaning_on_arm_count", nullable = false)
+    private Long leaningOnArmCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
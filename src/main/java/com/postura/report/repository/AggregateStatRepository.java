@@ -2,6 +2,9 @@ package com.postura.report.repository;
 
 import com.postura.report.entity.AggregateStat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -32,6 +35,26 @@ public interface AggregateStatRepository extends JpaRepository<AggregateStat, Lo
             LocalDate endDate
     );
 
+    /**
+     * 리포트 조립용: 기간 내 일일 통계를 프로젝션으로 조회 (User 로딩 없음, 날짜 순)
+     */
+    @Query("""
+        select a.statDate as statDate, a.correctRatio as correctRatio, a.totalWarningCount as totalWarningCount,
+               a.totalGoodCount as totalGoodCount, a.totalAnalysisSeconds as totalAnalysisSeconds,
+               a.goalAchieved as goalAchieved, a.consecutiveAchievedDays as consecutiveAchievedDays,
+               a.forwardHeadCount as forwardHeadCount, a.unequalShouldersCount as unequalShouldersCount,
+               a.upperBodyTiltCount as upperBodyTiltCount, a.tooCloseCount as tooCloseCount,
+               a.asymmetricPostureCount as asymmetricPostureCount, a.headTiltCount as headTiltCount,
+               a.leaningOnArmCount as leaningOnArmCount
+          from AggregateStat a
+         where a.user.id = :userId
+           and a.statDate between :from and :to
+         order by a.statDate asc
+        """)
+    List<DailyStatView> findViewsByUserIdAndStatDateBetween(@Param("userId") Long userId,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to);
+
     /**
      * 연속 목표 달성 일수를 계산하기 위해, 특정 날짜 이전의 가장 최근 통계 데이터를 조회
      */
@@ -39,4 +62,54 @@ public interface AggregateStatRepository extends JpaRepository<AggregateStat, Lo
             Long userId,
             LocalDate statDate
     );
+
+    /**
+     * 세션 1건의 카운트를 일일 통계에 원자적으로 더함 (행이 없으면 생성)
+     *
+     * - ON DUPLICATE KEY UPDATE 절은 왼쪽부터 순서대로 평가되며, 뒤의 식은 앞에서 갱신된 값을 사용
+     *   -> total_good_count(이전 값 기준 복원) -> 분모/카운트 누적 -> 유지율/목표 달성 재계산 순서 유지 필요
+     * - 연속 달성 일수는 이 쿼리 이후 서비스에서 별도로 갱신
+     * @return 영향받은 행 수 (INSERT 1, UPDATE 2)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+        INSERT INTO aggregate_stat (
+            user_id, stat_date, correct_ratio, total_warning_count, total_analysis_seconds, total_good_count,
+            goal_achieved, consecutive_achieved_days,
+            forward_head_count, unequal_shoulders_count, upper_body_tilt_count, too_close_count,
+            asymmetric_posture_count, head_tilt_count, leaning_on_arm_count)
+        VALUES (
+            :userId, :statDate,
+            ROUND(:goodCount * 100 / :analysisSeconds, 2),
+            :warningCount, :analysisSeconds, :goodCount,
+            ROUND(:goodCount * 100 / :analysisSeconds, 2) >= :goalRatio, 0,
+            :forwardHead, :unequalShoulders, :upperBodyTilt, :tooClose,
+            :asymmetricPosture, :headTilt, :leaningOnArm)
+        ON DUPLICATE KEY UPDATE
+            total_good_count = COALESCE(total_good_count, ROUND(correct_ratio * total_analysis_seconds / 100)) + :goodCount,
+            total_analysis_seconds = total_analysis_seconds + :analysisSeconds,
+            total_warning_count = total_warning_count + :warningCount,
+            correct_ratio = ROUND(total_good_count * 100 / total_analysis_seconds, 2),
+            goal_achieved = correct_ratio >= :goalRatio,
+            forward_head_count = forward_head_count + :forwardHead,
+            unequal_shoulders_count = unequal_shoulders_count + :unequalShoulders,
+            upper_body_tilt_count = upper_body_tilt_count + :upperBodyTilt,
+            too_close_count = too_close_count + :tooClose,
+            asymmetric_posture_count = asymmetric_posture_count + :asymmetricPosture,
+            head_tilt_count = head_tilt_count + :headTilt,
+            leaning_on_arm_count = leaning_on_arm_count + :leaningOnArm
+        """, nativeQuery = true)
+    int upsertSessionDelta(@Param("userId") Long userId,
+                           @Param("statDate") LocalDate statDate,
+                           @Param("goodCount") long goodCount,
+                           @Param("analysisSeconds") long analysisSeconds,
+                           @Param("warningCount") int warningCount,
+                           @Param("goalRatio") double goalRatio,
+                           @Param("forwardHead") int forwardHead,
+                           @Param("unequalShoulders") int unequalShoulders,
+                           @Param("upperBodyTilt") int upperBodyTilt,
+                           @Param("tooClose") int tooClose,
+                           @Param("asymmetricPosture") int asymmetricPosture,
+                           @Param("headTilt") int headTilt,
+                           @Param("leaningOnArm") int leaningOnArm);
 }
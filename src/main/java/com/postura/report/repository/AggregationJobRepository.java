@@ -0,0 +1,28 @@
+package com.postura.report.repository;
+
+import com.postura.report.entity.AggregationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AggregationJobRepository extends JpaRepository<AggregationJob, Long> {
+
+    Optional<AggregationJob> findByJobKey(String jobKey);
+
+    /**
+     * 중단된(RUNNING 상태로 남은) 작업 조회 - 재시작 시 이어서 처리
+     */
+    List<AggregationJob> findAllByJobTypeAndStatusOrderByTargetDateAsc(AggregationJob.JobType jobType,
+                                                                       AggregationJob.Status status);
+
+    /**
+     * 대기 중인(QUEUED) 백필 작업 요청 순 조회
+     */
+    List<AggregationJob> findAllByJobTypeAndStatusOrderByIdAsc(AggregationJob.JobType jobType,
+                                                               AggregationJob.Status status);
+
+    boolean existsByJobTypeAndStatus(AggregationJob.JobType jobType, AggregationJob.Status status);
+}
@@ -0,0 +1,37 @@
+package com.postura.report.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 리포트 조립용 일일 통계 프로젝션 (User 연관 없이 필요한 컬럼만 조회)
+ */
+public interface DailyStatView {
+
+    LocalDate getStatDate();
+
+    Double getCorrectRatio();
+
+    Integer getTotalWarningCount();
+
+    Long getTotalGoodCount(); // 컬럼 추가 이전 행은 null
+
+    Long getTotalAnalysisSeconds();
+
+    Boolean getGoalAchieved();
+
+    Integer getConsecutiveAchievedDays();
+
+    Integer getForwardHeadCount();
+
+    Integer getUnequalShouldersCount();
+
+    Integer getUpperBodyTiltCount();
+
+    Integer getTooCloseCount();
+
+    Integer getAsymmetricPostureCount();
+
+    Integer getHeadTiltCount();
+
+    Integer getLeaningOnArmCount();
+}
@@ -0,0 +1,17 @@
+package com.postura.report.repository;
+
+/**
+ * 요일 x 시간대별 hourly_stat 합계 프로젝션
+ */
+public interface HourlyBucketView {
+
+    Integer getWeekday(); // 0 = 월요일 ~ 6 = 일요일 (MySQL WEEKDAY)
+
+    Integer getHour();
+
+    Long getGoodCount();
+
+    Long getTotalCount();
+
+    Long getWarningCount();
+}
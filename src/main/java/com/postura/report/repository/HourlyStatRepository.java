@@ -0,0 +1,69 @@
+package com.postura.report.repository;
+
+import com.postura.report.entity.HourlyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HourlyStatRepository extends JpaRepository<HourlyStat, Long> {
+
+    /**
+     * 세션의 한 시간대 카운트를 원자적으로 더함 (행이 없으면 생성)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO hourly_stat (
+            user_id, stat_date, stat_hour, good_count, total_count, warning_count,
+            forward_head_count, unequal_shoulders_count, upper_body_tilt_count, too_close_count,
+            asymmetric_posture_count, head_tilt_count, leaning_on_arm_count)
+        VALUES (
+            :userId, :statDate, :statHour, :goodCount, :totalCount, :warningCount,
+            :forwardHead, :unequalShoulders, :upperBodyTilt, :tooClose,
+            :asymmetricPosture, :headTilt, :leaningOnArm)
+        ON DUPLICATE KEY UPDATE
+            good_count = good_count + :goodCount,
+            total_count = total_count + :totalCount,
+            warning_count = warning_count + :warningCount,
+            forward_head_count = forward_head_count + :forwardHead,
+            unequal_shoulders_count = unequal_shoulders_count + :unequalShoulders,
+            upper_body_tilt_count = upper_body_tilt_count + :upperBodyTilt,
+            too_close_count = too_close_count + :tooClose,
+            asymmetric_posture_count = asymmetric_posture_count + :asymmetricPosture,
+            head_tilt_count = head_tilt_count + :headTilt,
+            leaning_on_arm_count = leaning_on_arm_count + :leaningOnArm
+        """, nativeQuery = true)
+    int upsertDelta(@Param("userId") Long userId,
+                    @Param("statDate") LocalDate statDate,
+                    @Param("statHour") int statHour,
+                    @Param("goodCount") long goodCount,
+                    @Param("totalCount") long totalCount,
+                    @Param("warningCount") int warningCount,
+                    @Param("forwardHead") int forwardHead,
+                    @Param("unequalShoulders") int unequalShoulders,
+                    @Param("upperBodyTilt") int upperBodyTilt,
+                    @Param("tooClose") int tooClose,
+                    @Param("asymmetricPosture") int asymmetricPosture,
+                    @Param("headTilt") int headTilt,
+                    @Param("leaningOnArm") int leaningOnArm);
+
+    /**
+     * 기간 내 요일 x 시간대별 합계 (최대 7 x 24행, 유니크 키 인덱스 범위 스캔)
+     */
+    @Query(value = """
+        SELECT WEEKDAY(stat_date) AS weekday, stat_hour AS hour,
+               SUM(good_count) AS goodCount, SUM(total_count) AS totalCount, SUM(warning_count) AS warningCount
+          FROM hourly_stat
+         WHERE user_id = :userId
+           AND stat_date BETWEEN :from AND :to
+         GROUP BY WEEKDAY(stat_date), stat_hour
+        """, nativeQuery = true)
+    List<HourlyBucketView> sumByWeekdayAndHour(@Param("userId") Long userId,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to);
+}
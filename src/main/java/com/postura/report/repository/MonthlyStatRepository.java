@@ -0,0 +1,17 @@
+package com.postura.report.repository;
+
+import com.postura.report.entity.MonthlyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface MonthlyStatRepository extends JpaRepository<MonthlyStat, Long> {
+
+    /**
+     * 기간 시작일이 [from, to]에 포함되는 롤업 행 조회 (시작일 순)
+     */
+    List<MonthlyStat> findAllByUserIdAndPeriodStartBetweenOrderByPeriodStartAsc(Long userId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,17 @@
+package com.postura.report.repository;
+
+import com.postura.report.entity.WeeklyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface WeeklyStatRepository extends JpaRepository<WeeklyStat, Long> {
+
+    /**
+     * 기간 시작일이 [from, to]에 포함되는 롤업 행 조회 (시작일 순)
+     */
+    List<WeeklyStat> findAllByUserIdAndPeriodStartBetweenOrderByPeriodStartAsc(Long userId, LocalDate from, LocalDate to);
+}
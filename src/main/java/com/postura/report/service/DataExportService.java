@@ -0,0 +1,304 @@
+package com.postura.report.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자 자세 로그(posture_log) / 일일 통계(aggregate_stat) 내보내기 서비스
+ *
+ * - MySQL 스트리밍 결과셋(forward-only, fetchSize = Integer.MIN_VALUE)으로 한 행씩 읽어 바로 응답에 기록
+ *   -> 행 수와 무관하게 메모리 사용량 일정 (엔티티/리스트 적재 없음)
+ * - 형식 : CSV(헤더 포함) 또는 NDJSON(한 줄에 JSON 객체 하나)
+ * - gzip 요청 시 응답 스트림을 GZIPOutputStream으로 감싸 전송 중 압축
+ * - 스트리밍 조회는 연결을 점유하므로 트랜잭션 밖(StreamingResponseBody 스레드)에서 실행
+ */
+@Service
+@Slf4j
+public class DataExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (Exception e) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "format 값이 올바르지 않습니다: " + value);
+            }
+        }
+    }
+
+    // 자세 로그는 행이 많으므로 한 번에 내보낼 수 있는 기간 제한
+    private static final long MAX_LOG_RANGE_DAYS = 366;
+    private static final long MAX_STAT_RANGE_DAYS = 3660;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private static final String LOG_SQL = """
+        SELECT log_id, session_id, `timestamp`, posture_states
+          FROM posture_log
+         WHERE user_id = ? AND `timestamp` >= ? AND `timestamp` < ?
+         ORDER BY `timestamp`, log_id
+        """;
+
+    private static final String STAT_SQL = """
+        SELECT stat_date, correct_ratio, total_analysis_seconds, total_good_count, total_warning_count,
+               goal_achieved, consecutive_achieved_days,
+               forward_head_count, unequal_shoulders_count, upper_body_tilt_count, too_close_count,
+               asymmetric_posture_count, head_tilt_count, leaning_on_arm_count
+          FROM aggregate_stat
+         WHERE user_id = ? AND stat_date BETWEEN ? AND ?
+         ORDER BY stat_date
+        """;
+
+    private static final String[] LOG_COLUMNS = {"log_id", "session_id", "timestamp", "posture_states"};
+
+    private static final String[] STAT_COLUMNS = {
+            "stat_date", "correct_ratio", "total_analysis_seconds", "total_good_count", "total_warning_count",
+            "goal_achieved", "consecutive_achieved_days",
+            "forward_head_count", "unequal_shoulders_count", "upper_body_tilt_count", "too_close_count",
+            "asymmetric_posture_count", "head_tilt_count", "leaning_on_arm_count"
+    };
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DataExportService(DataSource dataSource, ObjectMapper objectMapper) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 요청 기간 검증 (스트리밍 시작 전에 호출하여 400 응답이 가능하도록 함)
+     */
+    public void validateRange(LocalDate from, LocalDate to, boolean logs) {
+        if (to.isBefore(from)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        long maxDays = logs ? MAX_LOG_RANGE_DAYS : MAX_STAT_RANGE_DAYS;
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "내보내기 기간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+
+    /**
+     * 자세 로그 내보내기 ([from 00:00, to + 1일 00:00))
+     * @return 기록한 행 수
+     */
+    public long exportLogs(Long userId, LocalDate from, LocalDate to, Format format, boolean gzip, OutputStream out)
+            throws IOException {
+        return export(LOG_SQL, LOG_COLUMNS, format, gzip, out,
+                userId, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * 일일 통계 내보내기 ([from, to])
+     * @return 기록한 행 수
+     */
+    public long exportStats(Long userId, LocalDate from, LocalDate to, Format format, boolean gzip, OutputStream out)
+            throws IOException {
+        return export(STAT_SQL, STAT_COLUMNS, format, gzip, out,
+                userId, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private long export(String sql, String[] columns, Format format, boolean gzip, OutputStream out, Object... args)
+            throws IOException {
+        long startedAt = System.currentTimeMillis();
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip ? gzipOut : out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+        RowWriter rowWriter = format == Format.CSV
+                ? new CsvRowWriter(writer, columns)
+                : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(writer), columns);
+
+        long[] rows = {0};
+        try {
+            rowWriter.begin();
+            streamingJdbcTemplate.query(sql, ps -> {
+                for (int i = 0; i < args.length; i++) {
+                    ps.setObject(i + 1, args[i]);
+                }
+            }, rs -> {
+                try {
+                    rowWriter.write(rs);
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 -> 스트리밍 조회 중단
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            rowWriter.end();
+            writer.flush();
+            if (gzipOut != null) {
+                gzipOut.finish();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("Export finished: {} rows, format={}, gzip={}, {}ms",
+                rows[0], format, gzip, System.currentTimeMillis() - startedAt);
+        return rows[0];
+    }
+
+    /**
+     * 날짜/시각은 ISO-8601 형식으로 통일 (드라이버 버전에 따라 Timestamp 또는 LocalDateTime으로 반환됨)
+     */
+    private static String toText(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        return value.toString();
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(ResultSet rs) throws IOException, SQLException;
+
+        void end() throws IOException;
+    }
+
+    /**
+     * CSV (RFC 4180 : 쉼표/따옴표/개행이 포함된 값은 따옴표로 감싸고 따옴표는 두 번 기록)
+     */
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private final String[] columns;
+
+        CsvRowWriter(Writer writer, String[] columns) {
+            this.writer = writer;
+            this.columns = columns;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(String.join(",", columns));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = rs.getObject(i + 1);
+                if (value != null) {
+                    writeField(toText(value));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void end() {
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * NDJSON (한 행 = 한 줄의 JSON 객체, 날짜/시각은 ISO-8601 문자열)
+     */
+    private static class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final String[] columns;
+
+        NdjsonRowWriter(JsonGenerator generator, String[] columns) {
+            this.generator = generator;
+            this.columns = columns;
+            // 응답 스트림 종료는 서블릿 컨테이너가 담당
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 루트 값 사이 기본 구분자(공백) 대신 직접 개행을 기록
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(ResultSet rs) throws IOException, SQLException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = rs.getObject(i + 1);
+                generator.writeFieldName(columns[i]);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.toString());
+                } else if (value instanceof Boolean bool) {
+                    generator.writeBoolean(bool);
+                } else {
+                    generator.writeString(toText(value));
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void end() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.postura.report.service;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.dto.report.HourlyReportDto;
+import com.postura.monitor.service.SessionHourlyCounter;
+import com.postura.report.repository.HourlyBucketView;
+import com.postura.report.repository.HourlyStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간대(시 단위) 자세 통계 서비스
+ *
+ * - 반영 : 세션 종료 시 Redis에 누적된 세션의 시간대별 카운트를 hourly_stat에 증분 upsert
+ * - 조회 : 기간 내 hourly_stat을 요일 x 시간대로 합산 (결과 최대 168행)하여
+ *          하루 중 시간대별 곡선, 요일 x 시간대 히트맵, 가장 자세가 나쁜 시간대를 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HourlyStatService {
+
+    private final HourlyStatRepository hourlyStatRepository;
+    private final SessionHourlyCounter sessionHourlyCounter;
+
+    // 조회 가능한 최대 기간 (일)
+    private static final long MAX_RANGE_DAYS = 366;
+
+    // 가장 나쁜 시간대 판단에 필요한 최소 프레임 수 (표본이 적은 시간대 제외)
+    private static final long MIN_FRAMES_FOR_WORST_HOUR = 60;
+
+    /**
+     * 세션 1건의 시간대별 카운트를 hourly_stat에 더합니다.
+     * (StatAggregationService.applyCompletedSession 트랜잭션 안에서 호출, 중복 반영은 rollup_applied로 방지)
+     */
+    @Transactional
+    public void applySessionCounts(Long userId, Long sessionId) {
+        Map<LocalDateTime, Map<String, Long>> byHour = sessionHourlyCounter.read(sessionId);
+        if (byHour.isEmpty()) {
+            log.debug("No hourly counters for SessionId {}. Skipping hourly stat.", sessionId);
+            return;
+        }
+
+        for (Map.Entry<LocalDateTime, Map<String, Long>> entry : byHour.entrySet()) {
+            LocalDateTime hour = entry.getKey();
+            Map<String, Long> counts = entry.getValue();
+            hourlyStatRepository.upsertDelta(
+                    userId, hour.toLocalDate(), hour.getHour(),
+                    counts.getOrDefault(SessionHourlyCounter.COUNTER_GOOD, 0L),
+                    counts.getOrDefault(SessionHourlyCounter.COUNTER_TOTAL, 0L),
+                    count(counts, SessionHourlyCounter.COUNTER_WARNING),
+                    count(counts, "FORWARD_HEAD"),
+                    count(counts, "UNEQUAL_SHOULDERS"),
+                    count(counts, "UPPER_BODY_TILT"),
+                    count(counts, "TOO_CLOSE"),
+                    count(counts, "ASYMMETRIC_POSTURE"),
+                    count(counts, "HEAD_TILT"),
+                    count(counts, "LEANING_ON_ARM"));
+        }
+        log.debug("Hourly stats applied for SessionId {} ({} hours).", sessionId, byHour.size());
+    }
+
+    /**
+     * 기간 내 시간대별 자세 분석 조회
+     */
+    @Transactional(readOnly = true)
+    public HourlyReportDto getHourlyReport(Long userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        // 1. 요일 x 시간대 합계 (0 = 월요일)
+        long[][] good = new long[7][24];
+        long[][] total = new long[7][24];
+        long[][] warning = new long[7][24];
+        for (HourlyBucketView bucket : hourlyStatRepository.sumByWeekdayAndHour(userId, from, to)) {
+            int day = bucket.getWeekday();
+            int hour = bucket.getHour();
+            good[day][hour] = nullToZero(bucket.getGoodCount());
+            total[day][hour] = nullToZero(bucket.getTotalCount());
+            warning[day][hour] = nullToZero(bucket.getWarningCount());
+        }
+
+        // 2. 하루 중 시간대별 곡선 (요일 합산) 및 가장 나쁜 시간대
+        List<HourlyReportDto.HourlyPoint> intraday = new ArrayList<>(24);
+        Integer worstHour = null;
+        double worstRatio = Double.MAX_VALUE;
+        for (int hour = 0; hour < 24; hour++) {
+            long hourGood = 0, hourTotal = 0, hourWarning = 0;
+            for (int day = 0; day < 7; day++) {
+                hourGood += good[day][hour];
+                hourTotal += total[day][hour];
+                hourWarning += warning[day][hour];
+            }
+            Double ratio = ratio(hourGood, hourTotal);
+            intraday.add(HourlyReportDto.HourlyPoint.builder()
+                    .hour(hour)
+                    .totalCount(hourTotal)
+                    .goodCount(hourGood)
+                    .warningCount(hourWarning)
+                    .goodPostureRatio(ratio)
+                    .build());
+            if (ratio != null && hourTotal >= MIN_FRAMES_FOR_WORST_HOUR && ratio < worstRatio) {
+                worstRatio = ratio;
+                worstHour = hour;
+            }
+        }
+
+        // 3. 요일 x 시간대 히트맵 (데이터가 없는 칸은 null)
+        List<List<Double>> heatmap = new ArrayList<>(7);
+        for (int day = 0; day < 7; day++) {
+            List<Double> row = new ArrayList<>(24);
+            for (int hour = 0; hour < 24; hour++) {
+                row.add(ratio(good[day][hour], total[day][hour]));
+            }
+            heatmap.add(row);
+        }
+
+        return HourlyReportDto.builder()
+                .from(from)
+                .to(to)
+                .intraday(intraday)
+                .weekdayHourHeatmap(heatmap)
+                .worstHour(worstHour)
+                .build();
+    }
+
+    // *************************************************************
+    // 헬퍼 메서드
+    // *************************************************************
+
+    private static int count(Map<String, Long> counts, String name) {
+        return counts.getOrDefault(name, 0L).intValue();
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    /**
+     * 바른 자세 유지율 (%), 소수점 첫째 자리 반올림 (프레임이 없으면 null)
+     */
+    private static Double ratio(long good, long total) {
+        if (total == 0) return null;
+        return Math.round((double) good / total * 1000.0) / 10.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.postura.report.service;
+
+import com.postura.monitor.domain.ActiveSessionState;
+import com.postura.monitor.entity.MonitoringSession;
+import com.postura.monitor.repository.MonitoringSessionRepository;
+import com.postura.monitor.service.ActiveSessionRegistry;
+import com.postura.monitor.service.RealtimeFeedbackService;
+import com.postura.report.domain.DailyDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 아직 일일 통계에 반영되지 않은 오늘의 카운트를 모으는 서비스 (리포트 실시간 합산용)
+ *
+ * - 종료 후 Outbox 반영 대기 중인 세션 : monitoring_session의 최종 카운트 (stat_applied = false)
+ * - 진행 중인 세션 : Redis 피드백 캐시의 누적 카운트
+ * - 레지스트리 제거는 COMPLETED 커밋 이후(AFTER_COMMIT)에 일어나므로, 그 사이에는 같은 세션이 두 출처에 모두 보일 수 있음
+ *   -> 반영 대기 목록에 이미 있는 세션이면 진행 중 카운트를 더하지 않음
+ * - 세션은 applyCompletedSession과 같이 시작일 기준으로 귀속
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LiveStatDeltaService {
+
+    private final MonitoringSessionRepository sessionRepository;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final RealtimeFeedbackService realtimeFeedbackService;
+
+    /**
+     * 오늘 시작된 진행 중인 세션 조회 (Redis만 조회)
+     */
+    public Optional<ActiveSessionState> findActiveSessionStartedOn(Long userId, LocalDate date) {
+        try {
+            return activeSessionRegistry.findActiveSessionId(userId)
+                    .flatMap(activeSessionRegistry::find)
+                    .filter(ActiveSessionState::isActive)
+                    .filter(state -> state.getStartAt().toLocalDate().equals(date));
+        } catch (Exception e) {
+            // Redis 장애 시 저장된 통계만으로 리포트 생성
+            log.warn("Failed to read active session for user {}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 날짜의 미반영 카운트 합계
+     */
+    public DailyDelta collect(Long userId, LocalDate date) {
+        DailyDelta delta = new DailyDelta();
+
+        // 1. 종료되었지만 아직 반영되지 않은 세션
+        Set<Long> unappliedSessionIds = new HashSet<>();
+        for (MonitoringSession session : sessionRepository.findUnappliedCompleted(
+                userId, date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+            unappliedSessionIds.add(session.getId());
+            delta.add(
+                    session.getFinalGoodCount() == null ? 0L : session.getFinalGoodCount(),
+                    session.getFinalTotalCount() == null ? 0L : session.getFinalTotalCount(),
+                    session.getFinalWarningCount() == null ? 0 : session.getFinalWarningCount(),
+                    session.getFinalPostureCounts());
+        }
+
+        // 2. 진행 중인 세션의 피드백 캐시 카운트 (커밋 직후 레지스트리 제거 전인 세션은 1에서 이미 합산)
+        boolean live = findActiveSessionStartedOn(userId, date)
+                .filter(state -> !unappliedSessionIds.contains(state.getSessionId()))
+                .isPresent();
+        if (live) {
+            try {
+                Map<String, Long> counts = realtimeFeedbackService.getFinalSessionCounts(userId);
+                delta.add(
+                        counts.getOrDefault("finalGoodCount", 0L),
+                        counts.getOrDefault("finalTotalCount", 0L),
+                        counts.getOrDefault("finalWarningCount", 0L).intValue(),
+                        realtimeFeedbackService.getFinalPostureCounts(userId));
+            } catch (Exception e) {
+                log.warn("Failed to read live counters for user {}: {}", userId, e.getMessage());
+            }
+        }
+        return delta;
+    }
+}
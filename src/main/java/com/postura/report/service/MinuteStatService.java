@@ -0,0 +1,271 @@
+package com.postura.report.service;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.common.lock.RedisJobLock;
+import com.postura.common.posture.PostureType;
+import com.postura.common.retention.RetentionEngine;
+import com.postura.common.retention.RetentionTask;
+import com.postura.config.properties.AppProperties;
+import com.postura.dto.report.MinuteSeriesDto;
+import com.postura.monitor.domain.TimelineCodec;
+import com.postura.monitor.entity.MonitoringSession;
+import com.postura.monitor.entity.SessionStatus;
+import com.postura.monitor.entity.SessionTimeline;
+import com.postura.monitor.repository.MonitoringSessionRepository;
+import com.postura.monitor.service.SessionTimelineService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 분 단위 자세 요약(minute_stat) 서비스
+ *
+ * - 반영 : 세션 종료 후 통계 반영 시 세션 타임라인의 런을 분 단위로 접어 배치 upsert (세션당 분 수만큼의 행)
+ * - 조회 : minute_stat에 아직 반영되지 않은 세션(진행 중, Outbox 반영 대기)은 타임라인을 같은 규칙으로 즉석에서 접어 합산
+ *          -> 원본 로그 보관 기간과 무관하게 항상 같은 단위(타임라인 초)와 같은 필드로 응답
+ * - 보관 : app.retention.minute-stat-days가 지난 요약은 RetentionEngine으로 청크 삭제
+ */
+@Service
+@Slf4j
+public class MinuteStatService {
+
+    private static final String JOB_NAME = "minute-stat-retention";
+    private static final Duration LOCK_TTL = Duration.ofHours(2);
+
+    // 한 번에 조회할 수 있는 최대 기간
+    private static final long MAX_RANGE_MINUTES = 3 * 24 * 60;
+
+    // 분 카운터 인덱스 (경고 자세는 PostureType 비트 순서로 3 ~ 9)
+    static final int TOTAL = 0;
+    static final int GOOD = 1;
+    static final int WARNING = 2;
+    static final int COUNTER_SIZE = 10;
+
+    static final PostureType[] WARNING_TYPES = {
+            PostureType.FORWARD_HEAD, PostureType.UNEQUAL_SHOULDERS, PostureType.UPPER_BODY_TILT,
+            PostureType.TOO_CLOSE, PostureType.ASYMMETRIC_POSTURE, PostureType.HEAD_TILT, PostureType.LEANING_ON_ARM
+    };
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO minute_stat (user_id, minute_at, total_count, good_count, warning_count,
+                                 forward_head_count, unequal_shoulders_count, upper_body_tilt_count, too_close_count,
+                                 asymmetric_posture_count, head_tilt_count, leaning_on_arm_count)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            total_count = total_count + VALUES(total_count),
+            good_count = good_count + VALUES(good_count),
+            warning_count = warning_count + VALUES(warning_count),
+            forward_head_count = forward_head_count + VALUES(forward_head_count),
+            unequal_shoulders_count = unequal_shoulders_count + VALUES(unequal_shoulders_count),
+            upper_body_tilt_count = upper_body_tilt_count + VALUES(upper_body_tilt_count),
+            too_close_count = too_close_count + VALUES(too_close_count),
+            asymmetric_posture_count = asymmetric_posture_count + VALUES(asymmetric_posture_count),
+            head_tilt_count = head_tilt_count + VALUES(head_tilt_count),
+            leaning_on_arm_count = leaning_on_arm_count + VALUES(leaning_on_arm_count)
+        """;
+
+    private static final String SUMMARY_SQL = """
+        SELECT minute_at, total_count, good_count, warning_count,
+               forward_head_count, unequal_shoulders_count, upper_body_tilt_count, too_close_count,
+               asymmetric_posture_count, head_tilt_count, leaning_on_arm_count
+          FROM minute_stat
+         WHERE user_id = ? AND minute_at >= ? AND minute_at < ?
+        """;
+
+    private static final String[] POSTURE_COLUMNS = {
+            "forward_head_count", "unequal_shoulders_count", "upper_body_tilt_count", "too_close_count",
+            "asymmetric_posture_count", "head_tilt_count", "leaning_on_arm_count"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionTimelineService sessionTimelineService;
+    private final MonitoringSessionRepository sessionRepository;
+    private final RetentionEngine retentionEngine;
+    private final RedisJobLock redisJobLock;
+    private final AppProperties appProperties;
+
+    public MinuteStatService(DataSource dataSource,
+                             SessionTimelineService sessionTimelineService,
+                             MonitoringSessionRepository sessionRepository,
+                             RetentionEngine retentionEngine,
+                             RedisJobLock redisJobLock,
+                             AppProperties appProperties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.sessionTimelineService = sessionTimelineService;
+        this.sessionRepository = sessionRepository;
+        this.retentionEngine = retentionEngine;
+        this.redisJobLock = redisJobLock;
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * 세션 1건의 타임라인을 분 단위 요약에 더합니다.
+     * (StatAggregationService.applyCompletedSession 트랜잭션 안에서 호출, 중복 반영은 rollup_applied로 방지)
+     */
+    public void applySessionCounts(Long userId, Long sessionId) {
+        Optional<SessionTimeline> found = sessionTimelineService.findTimeline(sessionId, userId);
+        if (found.isEmpty()) {
+            log.debug("No timeline for SessionId {}. Skipping minute stat.", sessionId);
+            return;
+        }
+
+        Map<LocalDateTime, int[]> counters = new TreeMap<>();
+        fold(found.get(), counters);
+
+        // 데이터가 있는 분만 배치 upsert
+        List<Object[]> rows = new ArrayList<>(counters.size());
+        counters.forEach((minute, c) -> rows.add(new Object[]{
+                userId, Timestamp.valueOf(minute), c[TOTAL], c[GOOD], c[WARNING],
+                c[3], c[4], c[5], c[6], c[7], c[8], c[9]}));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+        log.debug("Minute stats applied for SessionId {} ({} minutes).", sessionId, rows.size());
+    }
+
+    /**
+     * 분 단위 자세 흐름 조회 ([from, to), 최대 3일)
+     * minute_stat + 아직 반영되지 않은 세션의 타임라인 (진행 중 세션은 Redis 비트맵)
+     */
+    @Transactional(readOnly = true)
+    public MinuteSeriesDto getMinuteSeries(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 종료 시각은 시작 시각보다 늦어야 합니다.");
+        }
+        if (Duration.between(from, to).toMinutes() > MAX_RANGE_MINUTES) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "분 단위 조회 기간은 최대 3일입니다.");
+        }
+        LocalDateTime start = from.truncatedTo(ChronoUnit.MINUTES);
+        Map<LocalDateTime, int[]> counters = new TreeMap<>();
+
+        // 1. 반영된 세션 (minute_stat)
+        jdbcTemplate.query(SUMMARY_SQL, (RowCallbackHandler) rs -> {
+            int[] c = counters.computeIfAbsent(rs.getTimestamp("minute_at").toLocalDateTime(), m -> new int[COUNTER_SIZE]);
+            c[TOTAL] += rs.getInt("total_count");
+            c[GOOD] += rs.getInt("good_count");
+            c[WARNING] += rs.getInt("warning_count");
+            for (int i = 0; i < POSTURE_COLUMNS.length; i++) {
+                c[3 + i] += rs.getInt(POSTURE_COLUMNS[i]);
+            }
+        }, userId, Timestamp.valueOf(start), Timestamp.valueOf(to));
+
+        // 2. 반영 대기 세션 (rollup_applied = false) - 반영과 같은 규칙으로 접어서 합산
+        for (MonitoringSession session : sessionRepository.findRollupPending(userId, start, to)) {
+            Optional<SessionTimeline> timeline = session.getStatus() == SessionStatus.COMPLETED
+                    ? sessionTimelineService.findTimeline(session.getId(), userId)
+                    : Optional.of(sessionTimelineService.readLiveTimeline(session, userId));
+            timeline.ifPresent(t -> fold(t, counters));
+        }
+
+        // 3. 요청 구간의 분만 응답 형식으로 변환
+        List<MinuteSeriesDto.MinutePoint> points = new ArrayList<>();
+        counters.forEach((minute, c) -> {
+            if (!minute.isBefore(start) && minute.isBefore(to)) {
+                points.add(toPoint(minute, c));
+            }
+        });
+
+        return MinuteSeriesDto.builder()
+                .from(start)
+                .to(to)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * 보관 기간이 지난 분 단위 요약 삭제
+     */
+    @Scheduled(cron = "0 15 4 * * *")
+    public void purgeExpired() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, () -> {
+            try {
+                LocalDateTime limit = LocalDateTime.now().minusDays(appProperties.getRetention().getMinuteStatDays());
+                retentionEngine.run(RetentionTask.builder()
+                        .taskKey(JOB_NAME)
+                        .table("minute_stat")
+                        .idColumn("minute_stat_id")
+                        .condition("minute_at < ?")
+                        .param(Timestamp.valueOf(limit))
+                        .build());
+            } catch (Exception e) {
+                log.error("Minute stat retention failed: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    /**
+     * 타임라인 런을 분 경계로 잘라 분별 초 수를 누적 (세션 시작 시각의 초 오프셋 반영)
+     * @param counters 분 시작 시각 -> 카운터 (TOTAL, GOOD, WARNING, 경고 자세 7종)
+     */
+    static void fold(SessionTimeline timeline, Map<LocalDateTime, int[]> counters) {
+        LocalDateTime firstMinute = timeline.getStartAt().truncatedTo(ChronoUnit.MINUTES);
+        int offset = timeline.getStartAt().getSecond();
+
+        TimelineCodec.forEachRun(timeline.getTimelineData(), (startSecond, length, mask) -> {
+            if (mask == 0) {
+                return;
+            }
+            int second = offset + startSecond;
+            int end = second + length;
+            while (second < end) {
+                int minute = second / 60;
+                int segmentEnd = Math.min(end, (minute + 1) * 60);
+                add(counters.computeIfAbsent(firstMinute.plusMinutes(minute), m -> new int[COUNTER_SIZE]),
+                        mask, segmentEnd - second);
+                second = segmentEnd;
+            }
+        });
+    }
+
+    private static void add(int[] counter, int mask, int seconds) {
+        counter[TOTAL] += seconds;
+        boolean warning = false;
+        for (int i = 0; i < WARNING_TYPES.length; i++) {
+            if ((mask & WARNING_TYPES[i].mask()) != 0) {
+                counter[3 + i] += seconds;
+                warning = true;
+            }
+        }
+        if (warning) {
+            counter[WARNING] += seconds;
+        } else if ((mask & PostureType.GOOD.mask()) != 0) {
+            counter[GOOD] += seconds;
+        }
+    }
+
+    private static MinuteSeriesDto.MinutePoint toPoint(LocalDateTime minute, int[] c) {
+        Map<String, Integer> postureCounts = new LinkedHashMap<>();
+        for (int i = 0; i < WARNING_TYPES.length; i++) {
+            if (c[3 + i] > 0) {
+                postureCounts.put(WARNING_TYPES[i].name(), c[3 + i]);
+            }
+        }
+        return MinuteSeriesDto.MinutePoint.builder()
+                .minute(minute)
+                .totalCount(c[TOTAL])
+                .goodCount(c[GOOD])
+                .warningCount(c[WARNING])
+                .postureCounts(postureCounts)
+                .build();
+    }
+}
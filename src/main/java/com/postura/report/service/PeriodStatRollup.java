@@ -0,0 +1,145 @@
+package com.postura.report.service;
+
+import com.postura.report.domain.StatPeriod;
+import com.postura.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일일 통계(aggregate_stat)로부터 주간/월간 롤업(weekly_stat, monthly_stat)을 다시 계산하는 컴포넌트
+ *
+ * - 일일 통계가 바뀐 날짜가 속한 주/월만 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE로 재계산
+ *   (증분 더하기가 아니라 해당 기간의 일일 행(최대 31행)을 다시 합산하므로 재실행/재집계에도 값이 어긋나지 않음)
+ * - 사용자 1명 갱신은 호출 측 트랜잭션에 참여 (세션 증분 반영/사용자별 재집계 직후)
+ * - 전체 사용자 갱신은 사용자 ID 청크 단위로 나누어 실행 (aggregate_stat 잠금 범위 제한)
+ */
+@Component
+@Slf4j
+public class PeriodStatRollup {
+
+    // 전체 사용자 갱신 시 한 번의 INSERT ... SELECT에 포함할 사용자 수
+    private static final int USER_CHUNK_SIZE = 1000;
+
+    private static final String REFRESH_SQL_TEMPLATE = """
+        INSERT INTO %s (
+            user_id, period_start, recorded_days, achieved_days, correct_ratio,
+            total_good_count, total_analysis_seconds, total_warning_count,
+            forward_head_count, unequal_shoulders_count, upper_body_tilt_count, too_close_count,
+            asymmetric_posture_count, head_tilt_count, leaning_on_arm_count, updated_at)
+        SELECT d.user_id, ?, d.recorded_days, d.achieved_days,
+               COALESCE(ROUND(d.good_count * 100 / NULLIF(d.analysis_seconds, 0), 2), 0),
+               d.good_count, d.analysis_seconds, d.warning_count,
+               d.fh, d.us, d.ut, d.tc, d.ap, d.ht, d.la, NOW()
+          FROM (SELECT user_id,
+                       COUNT(*) AS recorded_days,
+                       SUM(goal_achieved) AS achieved_days,
+                       SUM(COALESCE(total_good_count, ROUND(correct_ratio * total_analysis_seconds / 100))) AS good_count,
+                       SUM(total_analysis_seconds) AS analysis_seconds,
+                       SUM(total_warning_count) AS warning_count,
+                       SUM(forward_head_count) AS fh, SUM(unequal_shoulders_count) AS us,
+                       SUM(upper_body_tilt_count) AS ut, SUM(too_close_count) AS tc,
+                       SUM(asymmetric_posture_count) AS ap, SUM(head_tilt_count) AS ht,
+                       SUM(leaning_on_arm_count) AS la
+                  FROM aggregate_stat
+                 WHERE stat_date BETWEEN ? AND ?
+                   AND user_id BETWEEN ? AND ?
+                 GROUP BY user_id) d
+        ON DUPLICATE KEY UPDATE
+            recorded_days = VALUES(recorded_days),
+            achieved_days = VALUES(achieved_days),
+            correct_ratio = VALUES(correct_ratio),
+            total_good_count = VALUES(total_good_count),
+            total_analysis_seconds = VALUES(total_analysis_seconds),
+            total_warning_count = VALUES(total_warning_count),
+            forward_head_count = VALUES(forward_head_count),
+            unequal_shoulders_count = VALUES(unequal_shoulders_count),
+            upper_body_tilt_count = VALUES(upper_body_tilt_count),
+            too_close_count = VALUES(too_close_count),
+            asymmetric_posture_count = VALUES(asymmetric_posture_count),
+            head_tilt_count = VALUES(head_tilt_count),
+            leaning_on_arm_count = VALUES(leaning_on_arm_count),
+            updated_at = VALUES(updated_at)
+        """;
+
+    private static final String WEEKLY_REFRESH_SQL = REFRESH_SQL_TEMPLATE.formatted("weekly_stat");
+    private static final String MONTHLY_REFRESH_SQL = REFRESH_SQL_TEMPLATE.formatted("monthly_stat");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+
+    public PeriodStatRollup(DataSource dataSource, UserRepository userRepository) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 사용자 1명의, 날짜가 속한 주/월 롤업 재계산 (호출 측 트랜잭션에 참여)
+     */
+    public void refreshForUser(Long userId, LocalDate date) {
+        refresh(StatPeriod.WEEK, date, userId, userId);
+        refresh(StatPeriod.MONTH, date, userId, userId);
+    }
+
+    /**
+     * 사용자 1명의 [from, to] 기간에 걸친 모든 주/월 롤업 재계산
+     */
+    public void refreshRangeForUser(Long userId, LocalDate from, LocalDate to) {
+        refreshRange(from, to, userId, userId);
+    }
+
+    /**
+     * 전체 사용자의, 날짜가 속한 주/월 롤업 재계산 (야간 집합 단위 집계 후)
+     */
+    public void refreshAllUsers(LocalDate date) {
+        refreshAllUsers(date, date);
+    }
+
+    /**
+     * 전체 사용자의 [from, to] 기간에 걸친 모든 주/월 롤업 재계산 (백필 후, 트랜잭션 밖에서 호출)
+     */
+    public void refreshAllUsers(LocalDate from, LocalDate to) {
+        long startedAt = System.currentTimeMillis();
+        long afterId = 0L;
+        int chunks = 0;
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, USER_CHUNK_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            refreshRange(from, to, userIds.get(0), userIds.get(userIds.size() - 1));
+            afterId = userIds.get(userIds.size() - 1);
+            chunks++;
+        }
+        log.info("Period rollups refreshed for {} ~ {} ({} user chunks, {}ms)",
+                from, to, chunks, System.currentTimeMillis() - startedAt);
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private void refreshRange(LocalDate from, LocalDate to, long fromUserId, long toUserId) {
+        for (StatPeriod period : List.of(StatPeriod.WEEK, StatPeriod.MONTH)) {
+            for (LocalDate start = period.startOf(from); !start.isAfter(to); start = period.next(start)) {
+                refresh(period, start, fromUserId, toUserId);
+            }
+        }
+    }
+
+    private void refresh(StatPeriod period, LocalDate date, long fromUserId, long toUserId) {
+        LocalDate start = period.startOf(date);
+        jdbcTemplate.update(period == StatPeriod.WEEK ? WEEKLY_REFRESH_SQL : MONTHLY_REFRESH_SQL,
+                Date.valueOf(start),
+                Date.valueOf(start),
+                Date.valueOf(period.endOf(start)),
+                fromUserId,
+                toUserId);
+    }
+}
@@ -0,0 +1,126 @@
+package com.postura.report.service;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.dto.report.RangeReportDto;
+import com.postura.report.domain.StatPeriod;
+import com.postura.report.entity.AggregateStat;
+import com.postura.report.entity.MonthlyStat;
+import com.postura.report.entity.WeeklyStat;
+import com.postura.report.repository.AggregateStatRepository;
+import com.postura.report.repository.MonthlyStatRepository;
+import com.postura.report.repository.WeeklyStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 장기 기간 통계 조회 서비스
+ *
+ * - 요청 기간을 포인트 수 제한 안에서 표현할 수 있는 가장 세밀한 단위(일 -> 주 -> 월)를 선택
+ * - 주/월 단위는 weekly_stat / monthly_stat 롤업을 그대로 읽으므로 1년 조회도 수십 행
+ * - 주/월 포인트는 기간 전체를 집계한 값 (요청 시작/종료일이 기간 중간이어도 해당 기간 전체 포함)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RangeReportService {
+
+    private final AggregateStatRepository aggregateStatRepository;
+    private final WeeklyStatRepository weeklyStatRepository;
+    private final MonthlyStatRepository monthlyStatRepository;
+
+    // 조회 가능한 최대 기간 (약 10년, 월 단위 120포인트)
+    private static final long MAX_RANGE_DAYS = 3660;
+
+    public static final int DEFAULT_MAX_POINTS = 60;
+    private static final int MIN_POINTS = 2;
+    private static final int MAX_POINTS = 400;
+
+    @Transactional(readOnly = true)
+    public RangeReportDto getRangeReport(Long userId, LocalDate from, LocalDate to, int maxPoints) {
+        if (to.isBefore(from)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        if (maxPoints < MIN_POINTS || maxPoints > MAX_POINTS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "maxPoints는 " + MIN_POINTS + " ~ " + MAX_POINTS + " 사이여야 합니다.");
+        }
+
+        StatPeriod resolution = chooseResolution(from, to, maxPoints);
+        List<RangeReportDto.RangePoint> points = switch (resolution) {
+            case DAY -> aggregateStatRepository
+                    .findAllByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, from, to)
+                    .stream().map(RangeReportService::toPoint).toList();
+            case WEEK -> weeklyStatRepository
+                    .findAllByUserIdAndPeriodStartBetweenOrderByPeriodStartAsc(userId, StatPeriod.WEEK.startOf(from), to)
+                    .stream().map(RangeReportService::toPoint).toList();
+            case MONTH -> monthlyStatRepository
+                    .findAllByUserIdAndPeriodStartBetweenOrderByPeriodStartAsc(userId, StatPeriod.MONTH.startOf(from), to)
+                    .stream().map(RangeReportService::toPoint).toList();
+        };
+
+        return RangeReportDto.builder()
+                .from(from)
+                .to(to)
+                .resolution(resolution)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * 포인트 수 제한을 만족하는 가장 세밀한 단위 (월 단위는 항상 허용)
+     */
+    private static StatPeriod chooseResolution(LocalDate from, LocalDate to, int maxPoints) {
+        for (StatPeriod period : List.of(StatPeriod.DAY, StatPeriod.WEEK)) {
+            if (period.countPeriods(from, to) <= maxPoints) {
+                return period;
+            }
+        }
+        return StatPeriod.MONTH;
+    }
+
+    private static RangeReportDto.RangePoint toPoint(AggregateStat stat) {
+        return RangeReportDto.RangePoint.builder()
+                .periodStart(stat.getStatDate())
+                .periodEnd(stat.getStatDate())
+                .correctRatio(stat.getCorrectRatio())
+                .totalAnalysisSeconds(stat.getTotalAnalysisSeconds())
+                .totalWarningCount(stat.getTotalWarningCount())
+                .recordedDays(1)
+                .achievedDays(stat.isGoalAchieved() ? 1 : 0)
+                .build();
+    }
+
+    private static RangeReportDto.RangePoint toPoint(WeeklyStat stat) {
+        return RangeReportDto.RangePoint.builder()
+                .periodStart(stat.getPeriodStart())
+                .periodEnd(StatPeriod.WEEK.endOf(stat.getPeriodStart()))
+                .correctRatio(stat.getCorrectRatio())
+                .totalAnalysisSeconds(stat.getTotalAnalysisSeconds())
+                .totalWarningCount(stat.getTotalWarningCount())
+                .recordedDays(stat.getRecordedDays())
+                .achievedDays(stat.getAchievedDays())
+                .build();
+    }
+
+    private static RangeReportDto.RangePoint toPoint(MonthlyStat stat) {
+        return RangeReportDto.RangePoint.builder()
+                .periodStart(stat.getPeriodStart())
+                .periodEnd(StatPeriod.MONTH.endOf(stat.getPeriodStart()))
+                .correctRatio(stat.getCorrectRatio())
+                .totalAnalysisSeconds(stat.getTotalAnalysisSeconds())
+                .totalWarningCount(stat.getTotalWarningCount())
+                .recordedDays(stat.getRecordedDays())
+                .achievedDays(stat.getAchievedDays())
+                .build();
+    }
+}
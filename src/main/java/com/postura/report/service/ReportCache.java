@@ -0,0 +1,213 @@
+package com.postura.report.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.postura.dto.report.StatReportDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 주간 리포트(StatReportDto) 2단계 캐시
+ *
+ * - L1 : 노드 메모리 (userId -> referenceDate -> 리포트), 조회 시 네트워크 왕복 없음
+ * - L2 : Redis JSON (report:weekly:<userId>:<version>:<epoch>:<date>), 노드 간 공유
+ *
+ * 무효화
+ * - 사용자 단위 : 세션 반영/재집계 커밋 후 report:version:<userId> INCR + Pub/Sub로 모든 노드의 L1 삭제
+ * - 전체 : 야간 집합 단위 집계/백필 후 report:version:global INCR + Pub/Sub로 L1 전체 삭제
+ * - L2 키에 버전이 포함되므로 이전 버전 값은 읽히지 않고 TTL로 정리됨
+ * - 계산 중 무효화가 들어오면 계산 결과를 L1에 넣지 않음 (오래된 값 재적재 방지)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReportCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private static final String INVALIDATION_CHANNEL = "report:invalidate";
+    private static final String ALL_USERS = "*";
+
+    private static final String VERSION_KEY_PREFIX = "report:version:";
+    private static final String GLOBAL_VERSION_KEY = VERSION_KEY_PREFIX + "global";
+    private static final String REPORT_KEY_PREFIX = "report:weekly:";
+
+    // 데이터 변경 없이도 오늘 날짜 기준 리포트가 너무 오래 남지 않도록 제한
+    private static final long L1_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    private static final long L2_TTL_MINUTES = 60;
+
+    // L1에 보관할 최대 사용자 수 (초과 시 만료 항목 정리 후에도 넘치면 전체 비움)
+    private static final int L1_MAX_USERS = 10_000;
+
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<LocalDate, CachedReport>> local = new ConcurrentHashMap<>();
+
+    // 이 노드가 받은 무효화 횟수 (계산 중 무효화 감지용)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private record CachedReport(StatReportDto report, long expiresAt) {
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            if (ALL_USERS.equals(body)) {
+                evictAllLocal();
+            } else {
+                try {
+                    evictLocal(Long.parseLong(body));
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid report invalidation message: {}", body);
+                }
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시 조회 (L1 -> L2 -> loader 순), loader 결과는 두 단계 모두에 저장
+     */
+    public StatReportDto get(Long userId, LocalDate referenceDate, Supplier<StatReportDto> loader) {
+        // 1. L1
+        Map<LocalDate, CachedReport> userReports = local.get(userId);
+        if (userReports != null) {
+            CachedReport cached = userReports.get(referenceDate);
+            if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.report();
+            }
+        }
+
+        long invalidationsBefore = invalidations.get();
+
+        // 2. L2
+        String redisKey = null;
+        try {
+            redisKey = reportKey(userId, referenceDate);
+            String json = redisTemplate.opsForValue().get(redisKey);
+            if (json != null) {
+                StatReportDto report = objectMapper.readValue(json, StatReportDto.class);
+                putLocal(userId, referenceDate, report, invalidationsBefore);
+                return report;
+            }
+        } catch (Exception e) {
+            log.warn("Report cache read failed for user {}: {}", userId, e.getMessage());
+        }
+
+        // 3. 원본 계산
+        StatReportDto report = loader.get();
+        putLocal(userId, referenceDate, report, invalidationsBefore);
+        if (redisKey != null) {
+            try {
+                redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(report),
+                        L2_TTL_MINUTES, TimeUnit.MINUTES);
+            } catch (Exception e) {
+                log.warn("Report cache write failed for user {}: {}", userId, e.getMessage());
+            }
+        }
+        return report;
+    }
+
+    /**
+     * 사용자 리포트 무효화 (트랜잭션 안이면 커밋 후 실행)
+     */
+    public void invalidateUser(Long userId) {
+        afterCommit(() -> {
+            evictLocal(userId);
+            redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + userId);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+        });
+    }
+
+    /**
+     * 전체 사용자 리포트 무효화 (야간 집계/백필 후)
+     */
+    public void invalidateAll() {
+        afterCommit(() -> {
+            evictAllLocal();
+            redisTemplate.opsForValue().increment(GLOBAL_VERSION_KEY);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, ALL_USERS);
+        });
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private String reportKey(Long userId, LocalDate referenceDate) {
+        List<String> versions = redisTemplate.opsForValue().multiGet(List.of(VERSION_KEY_PREFIX + userId, GLOBAL_VERSION_KEY));
+        String userVersion = versions == null || versions.get(0) == null ? "0" : versions.get(0);
+        String globalVersion = versions == null || versions.get(1) == null ? "0" : versions.get(1);
+        return REPORT_KEY_PREFIX + userId + ":" + userVersion + ":" + globalVersion + ":" + referenceDate;
+    }
+
+    private void putLocal(Long userId, LocalDate referenceDate, StatReportDto report, long invalidationsBefore) {
+        if (local.size() >= L1_MAX_USERS) {
+            trimLocal();
+        }
+        local.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+                .put(referenceDate, new CachedReport(report, System.currentTimeMillis() + L1_TTL_MILLIS));
+        // 조회/계산 중에 무효화가 들어왔다면 방금 넣은 값이 오래된 값일 수 있으므로 제거
+        if (invalidations.get() != invalidationsBefore) {
+            Map<LocalDate, CachedReport> userReports = local.get(userId);
+            if (userReports != null) {
+                userReports.remove(referenceDate);
+            }
+        }
+    }
+
+    private void evictLocal(Long userId) {
+        invalidations.incrementAndGet();
+        local.remove(userId);
+    }
+
+    private void evictAllLocal() {
+        invalidations.incrementAndGet();
+        local.clear();
+    }
+
+    private void trimLocal() {
+        long now = System.currentTimeMillis();
+        local.values().forEach(reports -> reports.values().removeIf(cached -> cached.expiresAt() <= now));
+        local.values().removeIf(Map::isEmpty);
+        if (local.size() >= L1_MAX_USERS) {
+            local.clear();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        Runnable safe = () -> {
+            try {
+                action.run();
+            } catch (Exception e) {
+                // Redis 장애 시에도 통계 반영은 성공해야 함 (L1/L2 TTL로 결국 갱신됨)
+                log.warn("Report cache invalidation failed: {}", e.getMessage());
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safe.run();
+                }
+            });
+        } else {
+            safe.run();
+        }
+    }
+}
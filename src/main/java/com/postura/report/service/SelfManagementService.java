@@ -2,16 +2,16 @@ package com.postura.report.service;
 
 import com.postura.common.exception.CustomException;
 import com.postura.common.exception.ErrorCode;
-import com.postura.content.entity.Content;
-import com.postura.content.service.ContentService;
+import com.postura.content.service.ContentCatalog;
 import com.postura.dto.report.RecommendationDto;
 import com.postura.dto.report.StatReportDto;
-import com.postura.report.entity.AggregateStat;
+import com.postura.report.domain.DailyDelta;
+import com.postura.report.domain.LiveDailyStat;
 import com.postura.report.repository.AggregateStatRepository;
+import com.postura.report.repository.DailyStatView;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -24,65 +24,117 @@ import java.util.stream.Collectors;
 @Slf4j
 public class SelfManagementService {
     private final AggregateStatRepository aggregateStatRepository;
-    private final ContentService contentService;
+    private final ContentCatalog contentCatalog;
+    private final ReportCache reportCache;
+    private final LiveStatDeltaService liveStatDeltaService;
+
+    // 목표 유지율 (80%)
+    private static final double GOAL_RATIO = 80.0;
 
     /**
      * 주간 리포트 데이터 조회 (하이브리드 로직)
      * - 그래프/추천: 최근 7일(Rolling) 데이터 사용 (끊김 방지)
      * - 요약 카드: 이번 주 월요일 ~ 오늘(Calendar) 데이터 사용
+     *
+     * 최근 7일 / 이번 주 / 지난 주 / 이번 달 구간을 모두 덮는 범위를 프로젝션 쿼리 1회로 조회한 뒤
+     * 한 번의 순회로 구간별 값을 계산 (추천은 메모리 카탈로그 사용 -> DB 왕복 1회)
+     *
+     * 결과는 ReportCache에 (userId, referenceDate) 단위로 캐시되며, 세션 종료/반영/야간 집계 시 무효화됨
+     * (캐시 적중 시 트랜잭션/DB 연결 없이 반환하도록 트랜잭션을 걸지 않음)
+     *
+     * 오늘이 포함된 리포트는 아직 반영되지 않은 오늘의 카운트(반영 대기 세션 + 진행 중 세션)를 합산하며,
+     * 진행 중인 세션이 있으면 값이 계속 바뀌므로 캐시를 거치지 않음
      */
-    @Transactional(readOnly = true)
     public StatReportDto getWeeklyReport(Long userId, LocalDate referenceDate) {
+        LocalDate today = LocalDate.now();
+        boolean coversToday = !today.isBefore(unionStart(referenceDate)) && !today.isAfter(unionEnd(referenceDate));
+        if (coversToday && liveStatDeltaService.findActiveSessionStartedOn(userId, today).isPresent()) {
+            return buildWeeklyReport(userId, referenceDate, today);
+        }
+        return reportCache.get(userId, referenceDate,
+                () -> buildWeeklyReport(userId, referenceDate, coversToday ? today : null));
+    }
 
-        // 1. [그래프 & 추천용] 최근 7일 (오늘 포함 과거 6일 ~ 오늘)
-        LocalDate rollingStart = referenceDate.minusDays(6);
-        List<AggregateStat> rollingStats = aggregateStatRepository
-                .findAllByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, rollingStart, referenceDate);
-
-        // 2. [요약 카드용] 이번 주 월요일 ~ 오늘
-        LocalDate calendarMonday = referenceDate.with(DayOfWeek.MONDAY);
-        List<AggregateStat> calendarWeekStats = aggregateStatRepository
-                .findAllByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, calendarMonday, referenceDate);
+    /**
+     * @param liveDate 미반영 카운트를 합산할 날짜 (오늘이 리포트 범위 밖이면 null)
+     */
+    private StatReportDto buildWeeklyReport(Long userId, LocalDate referenceDate, LocalDate liveDate) {
 
-        // 3. [전주 대비 비교용] 지난 주 월요일 ~ 지난 주 일요일
-        LocalDate lastMonday = calendarMonday.minusWeeks(1);
+        // 1. 구간 계산
+        LocalDate rollingStart = referenceDate.minusDays(6);                                    // [그래프 & 추천용] 최근 7일
+        LocalDate calendarMonday = referenceDate.with(DayOfWeek.MONDAY);                        // [요약 카드용] 이번 주 월요일 ~ 오늘
+        LocalDate lastMonday = calendarMonday.minusWeeks(1);                                    // [전주 대비 비교용] 지난 주 월 ~ 일
         LocalDate lastSunday = calendarMonday.minusDays(1);
-        List<AggregateStat> lastWeekStats = aggregateStatRepository
-                .findAllByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, lastMonday, lastSunday);
-
-        // 4. [달력용] 해당 월 전체 (1일 ~ 말일)
-        LocalDate monthStart = referenceDate.with(TemporalAdjusters.firstDayOfMonth());
+        LocalDate monthStart = referenceDate.with(TemporalAdjusters.firstDayOfMonth());         // [달력용] 해당 월 전체
         LocalDate monthEnd = referenceDate.with(TemporalAdjusters.lastDayOfMonth());
-        List<AggregateStat> monthlyStats = aggregateStatRepository
-                .findAllByUserIdAndStatDateBetweenOrderByStatDateAsc(userId, monthStart, monthEnd);
+
+        // 2. 모든 구간을 덮는 범위를 한 번에 조회
+        List<DailyStatView> stats = aggregateStatRepository
+                .findViewsByUserIdAndStatDateBetween(userId, unionStart(referenceDate), unionEnd(referenceDate));
+
+        // 2-1. 미반영 카운트를 오늘 행에 합산 (동기 집계 없이 실시간 반영)
+        if (liveDate != null) {
+            stats = mergeLiveDelta(userId, liveDate, stats);
+        }
+
+        // 3. 한 번의 순회로 구간별 집계
+        List<LocalDate> dates = new ArrayList<>();
+        List<Double> correctRatios = new ArrayList<>();
+        List<Integer> warningCounts = new ArrayList<>();
+        List<StatReportDto.CalendarAchievementDto> monthlyAchievements = new ArrayList<>();
+        Map<String, Integer> rollingDistribution = new HashMap<>();
+        RatioSum calendarWeek = new RatioSum();
+        RatioSum lastWeek = new RatioSum();
+        DailyStatView latestStat = null;
+
+        for (DailyStatView stat : stats) {
+            LocalDate date = stat.getStatDate();
+
+            if (!date.isBefore(rollingStart) && !date.isAfter(referenceDate)) {
+                dates.add(date);
+                correctRatios.add(stat.getCorrectRatio());
+                warningCounts.add(stat.getTotalWarningCount());
+                addPostureDistribution(rollingDistribution, stat);
+                latestStat = stat; // 날짜 순 정렬이므로 마지막 값이 최신
+            }
+            if (!date.isBefore(calendarMonday) && !date.isAfter(referenceDate)) {
+                calendarWeek.add(stat);
+            }
+            if (!date.isBefore(lastMonday) && !date.isAfter(lastSunday)) {
+                lastWeek.add(stat);
+            }
+            if (!date.isBefore(monthStart) && !date.isAfter(monthEnd)) {
+                monthlyAchievements.add(StatReportDto.CalendarAchievementDto.builder()
+                        .date(date)
+                        .ratio(stat.getCorrectRatio())
+                        .achieved(Boolean.TRUE.equals(stat.getGoalAchieved()))
+                        .build());
+            }
+        }
 
         // 데이터가 아예 없는 경우 처리
-        if (rollingStats.isEmpty()) {
+        if (latestStat == null) {
             throw new CustomException(ErrorCode.SESSION_NOT_FOUND, "조회된 통계 데이터가 없습니다.");
         }
 
         // --- 데이터 분석 및 가공 ---
 
         // A. 그래프 및 추천 (사용자 경험 연속성을 위해 Rolling 7일 기준)
-        Map<String, Integer> rollingDistribution = calculatePostureDistribution(rollingStats);
+        rollingDistribution.values().removeIf(count -> count <= 0);
         List<String> top3Issues = findTop3FrequentIssues(rollingDistribution);
 
         // B. 요약 카드 (기획 의도에 맞게 이번 주 월요일부터 기준)
-        Double calendarAvgRatio = calculateAverageRatio(calendarWeekStats);
-        Integer calendarTotalWarning = calculateTotalWarning(calendarWeekStats);
+        Double calendarAvgRatio = calendarWeek.averageRatio();
+        Integer calendarTotalWarning = calendarWeek.totalWarning;
 
         // C. 전주 대비 변화율 계산 (이번 주 월~오늘 평균 vs 지난 주 월~일 평균)
-        Double lastWeekAvg = calculateAverageRatio(lastWeekStats);
-        Double ratioChangeVsLastWeek = calculateComparison(calendarAvgRatio, lastWeekAvg);
-
-        // D. 최신 상태 (가장 최근 기록)
-        AggregateStat latestStat = rollingStats.get(rollingStats.size() - 1);
+        Double ratioChangeVsLastWeek = calculateComparison(calendarAvgRatio, lastWeek.averageRatio());
 
         return StatReportDto.builder()
                 // [그래프 데이터] 최근 7일치를 넘겨주어 월요일에도 그래프가 이어짐
-                .dates(rollingStats.stream().map(AggregateStat::getStatDate).collect(Collectors.toList()))
-                .correctRatios(rollingStats.stream().map(AggregateStat::getCorrectRatio).collect(Collectors.toList()))
-                .warningCounts(rollingStats.stream().map(AggregateStat::getTotalWarningCount).collect(Collectors.toList()))
+                .dates(dates)
+                .correctRatios(correctRatios)
+                .warningCounts(warningCounts)
 
                 // [요약 데이터] 월요일마다 갱신되는 "이번 주" 수치
                 .currentAvgRatio(latestStat.getCorrectRatio()) // 오늘 수치
@@ -97,16 +149,10 @@ public class SelfManagementService {
 
                 // [분포 및 추천] 데이터가 풍부한 최근 7일 기준 분석 결과
                 .postureDistribution(rollingDistribution)
-                .recommendations(generateRecommendationsForTopIssues(top3Issues))
+                .recommendations(generateRecommendationsForTopIssues(top3Issues, new Random(Objects.hash(userId, referenceDate))))
 
                 // [달력] 한 달간의 성취도 목록
-                .monthlyAchievements(monthlyStats.stream()
-                        .map(s -> StatReportDto.CalendarAchievementDto.builder()
-                                .date(s.getStatDate())
-                                .ratio(s.getCorrectRatio())
-                                .achieved(s.isGoalAchieved())
-                                .build())
-                        .collect(Collectors.toList()))
+                .monthlyAchievements(monthlyAchievements)
                 .build();
     }
 
@@ -126,44 +172,16 @@ public class SelfManagementService {
     }
 
     /**
-     * 목록의 평균 유지율을 계산합니다.
+     * 자세 유형별 발생 횟수를 분포 맵에 더합니다.
      */
-    private Double calculateAverageRatio(List<AggregateStat> stats) {
-        if (stats == null || stats.isEmpty()) return 0.0;
-        double avg = stats.stream()
-                .mapToDouble(AggregateStat::getCorrectRatio)
-                .average()
-                .orElse(0.0);
-        return Math.round(avg * 100.0) / 100.0;
-    }
-
-    /**
-     * 목록의 총 경고 횟수를 합산합니다.
-     */
-    private Integer calculateTotalWarning(List<AggregateStat> stats) {
-        if (stats == null) return 0;
-        return stats.stream()
-                .mapToInt(AggregateStat::getTotalWarningCount)
-                .sum();
-    }
-
-    /**
-     * 자세 유형별 총 발생 횟수를 계산합니다.
-     */
-    private Map<String, Integer> calculatePostureDistribution(List<AggregateStat> stats) {
-        Map<String, Integer> distribution = new HashMap<>();
-        for (AggregateStat stat : stats) {
-            distribution.merge("FORWARD_HEAD", stat.getForwardHeadCount(), Integer::sum);
-            distribution.merge("UNEQUAL_SHOULDERS", stat.getUnequalShouldersCount(), Integer::sum);
-            distribution.merge("UPPER_BODY_TILT", stat.getUpperBodyTiltCount(), Integer::sum);
-            distribution.merge("TOO_CLOSE", stat.getTooCloseCount(), Integer::sum);
-            distribution.merge("ASYMMETRIC_POSTURE", stat.getAsymmetricPostureCount(), Integer::sum);
-            distribution.merge("HEAD_TILT", stat.getHeadTiltCount(), Integer::sum);
-            distribution.merge("LEANING_ON_ARM", stat.getLeaningOnArmCount(), Integer::sum);
-        }
-        return distribution.entrySet().stream()
-                .filter(entry -> entry.getValue() > 0)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private void addPostureDistribution(Map<String, Integer> distribution, DailyStatView stat) {
+        distribution.merge("FORWARD_HEAD", stat.getForwardHeadCount(), Integer::sum);
+        distribution.merge("UNEQUAL_SHOULDERS", stat.getUnequalShouldersCount(), Integer::sum);
+        distribution.merge("UPPER_BODY_TILT", stat.getUpperBodyTiltCount(), Integer::sum);
+        distribution.merge("TOO_CLOSE", stat.getTooCloseCount(), Integer::sum);
+        distribution.merge("ASYMMETRIC_POSTURE", stat.getAsymmetricPostureCount(), Integer::sum);
+        distribution.merge("HEAD_TILT", stat.getHeadTiltCount(), Integer::sum);
+        distribution.merge("LEANING_ON_ARM", stat.getLeaningOnArmCount(), Integer::sum);
     }
 
     /**
@@ -179,23 +197,95 @@ public class SelfManagementService {
     }
 
     /**
-     * 문제 유형에 맞는 스트레칭 가이드를 무작위로 추천합니다.
+     * 문제 유형에 맞는 스트레칭 가이드를 무작위로 추천합니다. (메모리 카탈로그, DB 조회 없음)
+     * 난수는 (userId, referenceDate)로 시드하여 캐시 무효화 후 다시 계산해도 같은 추천 유지
      */
-    private List<RecommendationDto> generateRecommendationsForTopIssues(List<String> top3ProblemTypes) {
+    private List<RecommendationDto> generateRecommendationsForTopIssues(List<String> top3ProblemTypes, Random random) {
         List<RecommendationDto> recommendations = new ArrayList<>();
-        Random random = new Random();
 
         for (String problemType : top3ProblemTypes) {
-            List<Content> guides = contentService.getGuidesByProblemType(problemType);
-            if (!guides.isEmpty()) {
-                Content randomGuide = guides.get(random.nextInt(guides.size()));
+            ContentCatalog.GuideRef randomGuide = contentCatalog.pickRandomGuide(problemType, random);
+            if (randomGuide != null) {
                 recommendations.add(RecommendationDto.builder()
                         .problemType(problemType)
-                        .recommendedGuideTitle(randomGuide.getTitle())
-                        .guideId(randomGuide.getGuideId())
+                        .recommendedGuideTitle(randomGuide.title())
+                        .guideId(randomGuide.guideId())
                         .build());
             }
         }
         return recommendations;
     }
-}
\ No newline at end of file
+
+    /**
+     * 오늘의 미반영 카운트를 저장된 오늘 행에 더한 목록 반환 (미반영 카운트가 없으면 그대로)
+     */
+    private List<DailyStatView> mergeLiveDelta(Long userId, LocalDate today, List<DailyStatView> stats) {
+        DailyDelta delta = liveStatDeltaService.collect(userId, today);
+        if (delta.isEmpty()) {
+            return stats;
+        }
+
+        DailyStatView persistedToday = null;
+        DailyStatView yesterday = null;
+        int insertAt = stats.size();
+        for (int i = 0; i < stats.size(); i++) {
+            LocalDate date = stats.get(i).getStatDate();
+            if (date.equals(today.minusDays(1))) {
+                yesterday = stats.get(i);
+            } else if (date.equals(today)) {
+                persistedToday = stats.get(i);
+                insertAt = i;
+            } else if (date.isAfter(today) && insertAt == stats.size()) {
+                insertAt = i;
+            }
+        }
+
+        List<DailyStatView> merged = new ArrayList<>(stats);
+        LiveDailyStat live = LiveDailyStat.merge(today, persistedToday, yesterday, delta, GOAL_RATIO);
+        if (persistedToday != null) {
+            merged.set(insertAt, live);
+        } else {
+            merged.add(insertAt, live);
+        }
+        return merged;
+    }
+
+    /**
+     * 리포트의 모든 구간(최근 7일, 지난 주, 이번 달)을 덮는 범위의 시작일
+     */
+    private static LocalDate unionStart(LocalDate referenceDate) {
+        LocalDate rollingStart = referenceDate.minusDays(6);
+        LocalDate lastMonday = referenceDate.with(DayOfWeek.MONDAY).minusWeeks(1);
+        LocalDate monthStart = referenceDate.with(TemporalAdjusters.firstDayOfMonth());
+        LocalDate start = rollingStart.isBefore(lastMonday) ? rollingStart : lastMonday;
+        return start.isBefore(monthStart) ? start : monthStart;
+    }
+
+    /**
+     * 리포트의 모든 구간을 덮는 범위의 종료일
+     */
+    private static LocalDate unionEnd(LocalDate referenceDate) {
+        LocalDate monthEnd = referenceDate.with(TemporalAdjusters.lastDayOfMonth());
+        return referenceDate.isAfter(monthEnd) ? referenceDate : monthEnd;
+    }
+
+    /**
+     * 구간별 유지율 평균 / 경고 합계 누적기
+     */
+    private static class RatioSum {
+        private double ratioSum;
+        private int days;
+        private int totalWarning;
+
+        void add(DailyStatView stat) {
+            ratioSum += stat.getCorrectRatio();
+            days++;
+            totalWarning += stat.getTotalWarningCount();
+        }
+
+        Double averageRatio() {
+            if (days == 0) return 0.0;
+            return Math.round(ratioSum / days * 100.0) / 100.0;
+        }
+    }
+}
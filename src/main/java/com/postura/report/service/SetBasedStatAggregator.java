@@ -0,0 +1,493 @@
+package com.postura.report.service;
+
+import com.postura.common.util.PostureCountConverter;
+import com.postura.config.properties.AppProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 전체 사용자의 일일 통계를 집합 단위(set-based)로 계산하는 야간 집계기
+ *
+ * - 사용자별 조회(세션/로그/기존 통계/전날 통계) 대신, BATCH_SIZE 명의 사용자 청크마다 GROUP BY 쿼리 1회로 집계
+ *   (메모리 사용량은 청크 크기에만 비례)
+ * - aggregate_stat 쓰기는 청크 단위 다중 행 INSERT ... ON DUPLICATE KEY UPDATE
+ * - 청크 하나는 한 트랜잭션에서 처리:
+ *   대상 세션 잠금(SELECT ... FOR UPDATE) -> 잠근 세션 중 COMPLETED ID만으로 집계/저장 -> 같은 ID만 stat_applied 표시
+ *   -> 집계에 포함된 세션과 반영 완료로 표시된 세션이 정확히 일치하고,
+ *      집계 중 종료/증분 반영(Outbox)되는 세션은 커밋까지 대기한 뒤 재계산된 행 위에 증분으로 반영됨
+ *
+ * 연속 달성 일수는 전날(stat_date = 대상일 - 1) 행을 LEFT JOIN 하여 계산
+ * (기간 재집계 aggregateRange는 (사용자, 날짜) 단위로 집계하며 연속 일수는 StreakCalculator에 맡김,
+ *  기간 안에서 더 이상 세션이 없는 날짜의 기존 행은 삭제)
+ *
+ * 자세별/경고 카운트 출처
+ * - 야간 집계(전날) : 원본 로그(posture_log)
+ * - 기간 재집계 : 세션에 확정 저장된 final_posture_counts / final_warning_count (원본 로그는 보관 기간 후 삭제되므로)
+ *   자세별 카운트가 없는 이전 세션이 포함된 날짜는 원본 로그 보관 기간 안이면 로그로 계산하고,
+ *   보관 기간 밖이면 기존 행의 경고/자세별 카운트를 그대로 둠 (0으로 덮어쓰지 않음)
+ */
+@Component
+@Slf4j
+public class SetBasedStatAggregator {
+
+    private static final double GOAL_RATIO = 80.0;
+
+    // 다중 행 UPSERT 한 번에 포함할 행 수
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] POSTURE_TYPES = {
+            "FORWARD_HEAD", "UNEQUAL_SHOULDERS", "UPPER_BODY_TILT", "TOO_CLOSE",
+            "ASYMMETRIC_POSTURE", "HEAD_TILT", "LEANING_ON_ARM"
+    };
+
+    private static final String[] POSTURE_COLUMNS = {
+            "forward_head_count", "unequal_shoulders_count", "upper_body_tilt_count", "too_close_count",
+            "asymmetric_posture_count", "head_tilt_count", "leaning_on_arm_count"
+    };
+
+    // 전체 사용자 keyset 청크
+    private static final String USER_CHUNK_SQL = """
+        SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?
+        """;
+
+    // 청크 사용자의 대상일 세션 잠금 (idx_session_user_start 범위 잠금, 집계 중 종료/증분 반영 차단)
+    private static final String LOCK_SESSIONS_SQL = """
+        SELECT session_id, status
+          FROM monitoring_session
+         WHERE user_id IN (:userIds)
+           AND start_at >= :start AND start_at < :end
+           FOR UPDATE
+        """;
+
+    // 잠근 세션 합계 + 로그 자세별 합계 + 전날 통계를 사용자별로 조회
+    private static final String AGGREGATE_SQL = """
+        SELECT s.user_id, s.good_count, s.total_count,
+               COALESCE(l.fh, 0) AS fh, COALESCE(l.us, 0) AS us, COALESCE(l.ut, 0) AS ut, COALESCE(l.tc, 0) AS tc,
+               COALESCE(l.ap, 0) AS ap, COALESCE(l.ht, 0) AS ht, COALESCE(l.la, 0) AS la,
+               p.goal_achieved AS prev_achieved, p.consecutive_achieved_days AS prev_days
+          FROM (SELECT user_id,
+                       SUM(COALESCE(final_good_count, 0)) AS good_count,
+                       SUM(final_total_count) AS total_count
+                  FROM monitoring_session
+                 WHERE session_id IN (:sessionIds)
+                   AND final_total_count IS NOT NULL
+                 GROUP BY user_id) s
+          LEFT JOIN (SELECT user_id,
+                            SUM(FIND_IN_SET('FORWARD_HEAD', posture_states) > 0) AS fh,
+                            SUM(FIND_IN_SET('UNEQUAL_SHOULDERS', posture_states) > 0) AS us,
+                            SUM(FIND_IN_SET('UPPER_BODY_TILT', posture_states) > 0) AS ut,
+                            SUM(FIND_IN_SET('TOO_CLOSE', posture_states) > 0) AS tc,
+                            SUM(FIND_IN_SET('ASYMMETRIC_POSTURE', posture_states) > 0) AS ap,
+                            SUM(FIND_IN_SET('HEAD_TILT', posture_states) > 0) AS ht,
+                            SUM(FIND_IN_SET('LEANING_ON_ARM', posture_states) > 0) AS la
+                       FROM posture_log
+                      WHERE user_id IN (:userIds)
+                        AND `timestamp` >= :start AND `timestamp` < :end
+                      GROUP BY user_id) l ON l.user_id = s.user_id
+          LEFT JOIN aggregate_stat p ON p.user_id = s.user_id AND p.stat_date = :prevDate
+         WHERE s.total_count > 0
+         ORDER BY s.user_id
+        """;
+
+    // 기간 재집계: 잠근 세션의 최종 카운트 (자세별 카운트는 세션에 확정 저장된 값, 원본 로그 보관 기간과 무관)
+    private static final String RANGE_SESSIONS_SQL = """
+        SELECT user_id, DATE(start_at) AS stat_date, final_good_count, final_total_count,
+               final_warning_count, final_posture_counts
+          FROM monitoring_session
+         WHERE session_id IN (:sessionIds)
+           AND final_total_count IS NOT NULL
+         ORDER BY user_id, start_at
+        """;
+
+    // 기간 재집계: 자세별 카운트가 없는 이전 세션이 포함된 날짜용 로그 기준 (사용자, 날짜)별 자세 카운트
+    private static final String RANGE_LOG_COUNTS_SQL = """
+        SELECT user_id, DATE(`timestamp`) AS stat_date,
+               SUM(FIND_IN_SET('FORWARD_HEAD', posture_states) > 0) AS fh,
+               SUM(FIND_IN_SET('UNEQUAL_SHOULDERS', posture_states) > 0) AS us,
+               SUM(FIND_IN_SET('UPPER_BODY_TILT', posture_states) > 0) AS ut,
+               SUM(FIND_IN_SET('TOO_CLOSE', posture_states) > 0) AS tc,
+               SUM(FIND_IN_SET('ASYMMETRIC_POSTURE', posture_states) > 0) AS ap,
+               SUM(FIND_IN_SET('HEAD_TILT', posture_states) > 0) AS ht,
+               SUM(FIND_IN_SET('LEANING_ON_ARM', posture_states) > 0) AS la
+          FROM posture_log
+         WHERE user_id IN (:userIds)
+           AND `timestamp` >= :logStart AND `timestamp` < :end
+         GROUP BY user_id, DATE(`timestamp`)
+        """;
+
+    private static final String MARK_APPLIED_SQL = """
+        UPDATE monitoring_session
+           SET stat_applied = 1
+         WHERE session_id IN (:sessionIds)
+        """;
+
+    // 기간 재집계 시 기존 행 (재계산 결과에 없으면 삭제 대상)
+    private static final String EXISTING_STATS_SQL = """
+        SELECT user_id, stat_date
+          FROM aggregate_stat
+         WHERE user_id IN (:userIds)
+           AND stat_date >= :fromDate AND stat_date <= :toDate
+        """;
+
+    private static final String DELETE_STAT_SQL = "DELETE FROM aggregate_stat WHERE user_id = ? AND stat_date = ?";
+
+    private static final String UPSERT_PREFIX;
+    private static final String UPSERT_ROW;
+    private static final String UPSERT_SUFFIX;
+    private static final String UPSERT_SUFFIX_KEEP_STREAK; // 기존 행의 연속 일수는 유지
+    private static final String UPSERT_SUFFIX_KEEP_COUNTS; // 기존 행의 연속 일수 + 경고/자세별 카운트 유지
+    private static final int UPSERT_PARAMS = 8 + POSTURE_COLUMNS.length;
+
+    static {
+        StringBuilder prefix = new StringBuilder("INSERT INTO aggregate_stat (user_id, stat_date, correct_ratio, "
+                + "total_warning_count, total_analysis_seconds, total_good_count, goal_achieved, consecutive_achieved_days");
+        String ratioSuffix = " ON DUPLICATE KEY UPDATE "
+                + "correct_ratio = VALUES(correct_ratio), "
+                + "total_analysis_seconds = VALUES(total_analysis_seconds), "
+                + "total_good_count = VALUES(total_good_count), "
+                + "goal_achieved = VALUES(goal_achieved)";
+        StringBuilder suffix = new StringBuilder(ratioSuffix + ", total_warning_count = VALUES(total_warning_count)");
+        for (String column : POSTURE_COLUMNS) {
+            prefix.append(", ").append(column);
+            suffix.append(", ").append(column).append(" = VALUES(").append(column).append(")");
+        }
+        prefix.append(") VALUES ");
+        UPSERT_PREFIX = prefix.toString();
+        UPSERT_SUFFIX_KEEP_STREAK = suffix.toString();
+        UPSERT_SUFFIX_KEEP_COUNTS = ratioSuffix;
+        UPSERT_SUFFIX = suffix + ", consecutive_achieved_days = VALUES(consecutive_achieved_days)";
+        UPSERT_ROW = "(" + "?, ".repeat(UPSERT_PARAMS - 1) + "?)";
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
+    private final PostureCountConverter postureCountConverter = new PostureCountConverter();
+
+    public SetBasedStatAggregator(DataSource dataSource, PlatformTransactionManager transactionManager,
+                                  AppProperties appProperties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * 대상 날짜의 전 사용자 일일 통계를 재계산하여 저장 (사용자 청크마다 별도 트랜잭션)
+     * @return 저장된 통계 행 수
+     */
+    public int aggregate(LocalDate date) {
+        long startedAt = System.currentTimeMillis();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("start", Timestamp.valueOf(date.atStartOfDay()))
+                .addValue("end", Timestamp.valueOf(date.plusDays(1).atStartOfDay()))
+                .addValue("prevDate", date.minusDays(1));
+
+        int written = 0;
+        long afterUserId = 0;
+        while (true) {
+            List<Long> userIds = jdbcTemplate.queryForList(USER_CHUNK_SQL, Long.class, afterUserId, BATCH_SIZE);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            afterUserId = userIds.get(userIds.size() - 1);
+            Integer rows = transactionTemplate.execute(status -> aggregateChunk(userIds, date, params));
+            written += rows == null ? 0 : rows;
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("Set-based aggregation for {} complete. Users={}, Elapsed={}ms ({} users/sec)",
+                date, written, elapsed, written * 1000L / elapsed);
+        return written;
+    }
+
+    /**
+     * 사용자 목록의 [from, to] 기간 일일 통계를 (사용자, 날짜) 단위로 재계산하여 저장 (백필용, 한 트랜잭션)
+     * - aggregate와 같이 세션 잠금 -> 잠근 COMPLETED 세션만 집계/표시
+     * - 경고/자세별 카운트는 세션의 확정값 합계 (원본 로그 보관 기간 밖의 날짜도 기존 값을 잃지 않음)
+     * - 재계산 결과에 없는 기간 내 기존 행(세션이 삭제/변경된 날짜)은 삭제
+     * - 연속 달성 일수는 갱신하지 않으므로 호출 측에서 StreakCalculator로 보정
+     * @return 저장된 통계 행 수
+     */
+    public int aggregateRange(List<Long> userIds, LocalDate from, LocalDate to) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", userIds)
+                .addValue("start", Timestamp.valueOf(from.atStartOfDay()))
+                .addValue("end", Timestamp.valueOf(to.plusDays(1).atStartOfDay()))
+                .addValue("fromDate", from)
+                .addValue("toDate", to);
+
+        Integer written = transactionTemplate.execute(status -> {
+            // 1. 대상 세션 잠금
+            List<Long> sessionIds = lockCompletedSessions(params);
+
+            // 2. 잠근 세션 기준 (사용자, 날짜)별 집계
+            Map<StatKey, DayTotals> days = sessionIds.isEmpty()
+                    ? Map.of()
+                    : sumSessions(new MapSqlParameterSource(params.getValues()).addValue("sessionIds", sessionIds));
+
+            // 3. 자세별 카운트가 없는 이전 세션이 포함된 날짜 : 보관 기간 안이면 로그로 계산, 밖이면 기존 값 유지
+            fillCountsFromLogs(params, days, to);
+            List<Object[]> rows = new ArrayList<>();
+            List<Object[]> rowsKeepingCounts = new ArrayList<>();
+            for (DayTotals day : days.values()) {
+                (day.countsKnown ? rows : rowsKeepingCounts).add(day.toUpsertRow());
+            }
+
+            // 4. 재계산 결과에 없는 기존 행 삭제 -> UPSERT -> 반영 완료 표시
+            List<Object[]> recomputed = new ArrayList<>(rows);
+            recomputed.addAll(rowsKeepingCounts);
+            deleteStaleStats(params, recomputed);
+            int upserted = upsert(rows, UPSERT_SUFFIX_KEEP_STREAK) + upsert(rowsKeepingCounts, UPSERT_SUFFIX_KEEP_COUNTS);
+            if (!sessionIds.isEmpty()) {
+                namedJdbcTemplate.update(MARK_APPLIED_SQL, new MapSqlParameterSource("sessionIds", sessionIds));
+            }
+            return upserted;
+        });
+        return written == null ? 0 : written;
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    /**
+     * 사용자 청크 하나의 대상일 집계 (트랜잭션 안에서 호출)
+     */
+    private int aggregateChunk(List<Long> userIds, LocalDate date, MapSqlParameterSource dateParams) {
+        MapSqlParameterSource params = new MapSqlParameterSource(dateParams.getValues())
+                .addValue("userIds", userIds);
+
+        // 1. 청크 사용자의 대상일 세션 잠금 -> 이 시점에 종료된 세션만 집계/표시 대상
+        List<Long> sessionIds = lockCompletedSessions(params);
+        if (sessionIds.isEmpty()) {
+            return 0;
+        }
+        params.addValue("sessionIds", sessionIds);
+
+        // 2. 잠근 세션 기준 집계 -> 다중 행 UPSERT
+        List<Object[]> rows = namedJdbcTemplate.query(AGGREGATE_SQL, params,
+                (rs, rowNum) -> toUpsertRow(rs, date, true));
+        int written = upsert(rows, UPSERT_SUFFIX);
+
+        // 3. 집계에 포함된 세션만 반영 완료로 표시 (커밋 후 도착한 증분 이벤트의 중복 반영 방지)
+        namedJdbcTemplate.update(MARK_APPLIED_SQL, params);
+        return written;
+    }
+
+    /**
+     * 조건에 맞는 세션을 모두 잠그고 그중 COMPLETED 세션 ID 반환
+     */
+    private List<Long> lockCompletedSessions(MapSqlParameterSource params) {
+        List<Long> sessionIds = new ArrayList<>();
+        namedJdbcTemplate.query(LOCK_SESSIONS_SQL, params, (RowCallbackHandler) rs -> {
+            if ("COMPLETED".equals(rs.getString("status"))) {
+                sessionIds.add(rs.getLong("session_id"));
+            }
+        });
+        return sessionIds;
+    }
+
+    /**
+     * 잠근 세션의 최종 카운트를 (사용자, 날짜)별로 합산
+     */
+    private Map<StatKey, DayTotals> sumSessions(MapSqlParameterSource params) {
+        Map<StatKey, DayTotals> days = new LinkedHashMap<>();
+        namedJdbcTemplate.query(RANGE_SESSIONS_SQL, params, (RowCallbackHandler) rs -> {
+            StatKey key = new StatKey(rs.getLong("user_id"), rs.getDate("stat_date").toLocalDate());
+            DayTotals day = days.computeIfAbsent(key, DayTotals::new);
+            day.goodCount += rs.getLong("final_good_count");
+            day.totalCount += rs.getLong("final_total_count");
+            day.warningCount += rs.getInt("final_warning_count");
+
+            // final_posture_counts가 NULL인 세션(자세별 카운트 저장 이전)이 있으면 세션 값만으로는 알 수 없음
+            String postureCounts = rs.getString("final_posture_counts");
+            if (postureCounts == null) {
+                day.countsKnown = false;
+                return;
+            }
+            Map<String, Integer> counts = postureCountConverter.convertToEntityAttribute(postureCounts);
+            for (int i = 0; i < POSTURE_TYPES.length; i++) {
+                day.postureCounts[i] += counts.getOrDefault(POSTURE_TYPES[i], 0);
+            }
+        });
+        days.values().removeIf(day -> day.totalCount <= 0);
+        return days;
+    }
+
+    /**
+     * 세션 값만으로 자세별 카운트를 알 수 없는 날짜 중 원본 로그 보관 기간 안의 날짜는 로그로 다시 계산
+     * (보관 기간 경계일은 삭제가 진행 중일 수 있으므로 제외)
+     */
+    private void fillCountsFromLogs(MapSqlParameterSource params, Map<StatKey, DayTotals> days, LocalDate to) {
+        LocalDate firstCompleteLogDate = LocalDate.now()
+                .minusDays(appProperties.getRetention().getPostureLogDays()).plusDays(1);
+        boolean needsLogs = days.values().stream()
+                .anyMatch(day -> !day.countsKnown && !day.key.statDate().isBefore(firstCompleteLogDate));
+        if (!needsLogs || firstCompleteLogDate.isAfter(to)) {
+            return;
+        }
+
+        MapSqlParameterSource logParams = new MapSqlParameterSource(params.getValues())
+                .addValue("logStart", Timestamp.valueOf(firstCompleteLogDate.atStartOfDay()));
+        Map<StatKey, int[]> logCounts = new HashMap<>();
+        namedJdbcTemplate.query(RANGE_LOG_COUNTS_SQL, logParams, (RowCallbackHandler) rs -> logCounts.put(
+                new StatKey(rs.getLong("user_id"), rs.getDate("stat_date").toLocalDate()),
+                new int[]{rs.getInt("fh"), rs.getInt("us"), rs.getInt("ut"), rs.getInt("tc"),
+                        rs.getInt("ap"), rs.getInt("ht"), rs.getInt("la")}));
+
+        for (DayTotals day : days.values()) {
+            if (day.countsKnown || day.key.statDate().isBefore(firstCompleteLogDate)) {
+                continue;
+            }
+            // 로그 기준 경고 수 = 자세별 카운트 합 (야간 집계와 동일)
+            int[] counts = logCounts.getOrDefault(day.key, new int[POSTURE_TYPES.length]);
+            day.postureCounts = counts;
+            day.warningCount = 0;
+            for (int count : counts) {
+                day.warningCount += count;
+            }
+            day.countsKnown = true;
+        }
+    }
+
+    /**
+     * 기간 내 기존 행 중 재계산 결과(rows)에 없는 (사용자, 날짜) 삭제
+     */
+    private void deleteStaleStats(MapSqlParameterSource params, List<Object[]> rows) {
+        Set<StatKey> recomputed = new HashSet<>();
+        for (Object[] row : rows) {
+            recomputed.add(new StatKey((Long) row[0], (LocalDate) row[1]));
+        }
+        List<Object[]> stale = new ArrayList<>();
+        namedJdbcTemplate.query(EXISTING_STATS_SQL, params, (RowCallbackHandler) rs -> {
+            StatKey key = new StatKey(rs.getLong("user_id"), rs.getDate("stat_date").toLocalDate());
+            if (!recomputed.contains(key)) {
+                stale.add(new Object[]{key.userId(), key.statDate()});
+            }
+        });
+        if (!stale.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_STAT_SQL, stale);
+        }
+    }
+
+    /**
+     * @param withStreak 전날 통계(prev_achieved, prev_days) 컬럼으로 연속 일수를 계산할지 여부
+     *                   (false면 신규 행은 0으로 저장)
+     */
+    private Object[] toUpsertRow(ResultSet rs, LocalDate date, boolean withStreak) throws SQLException {
+        long goodCount = rs.getLong("good_count");
+        long totalCount = rs.getLong("total_count");
+
+        int[] postureCounts = {
+                rs.getInt("fh"), rs.getInt("us"), rs.getInt("ut"), rs.getInt("tc"),
+                rs.getInt("ap"), rs.getInt("ht"), rs.getInt("la")
+        };
+        int warningCount = 0;
+        for (int count : postureCounts) {
+            warningCount += count;
+        }
+
+        // 전날 목표 달성 시 전날 연속 일수 + 1, 아니면 1 (오늘 실패 시 0)
+        int consecutiveDays = 0;
+        if (withStreak && ratioOf(goodCount, totalCount) >= GOAL_RATIO) {
+            boolean prevAchieved = rs.getBoolean("prev_achieved");
+            int prevDays = rs.getInt("prev_days");
+            consecutiveDays = prevAchieved ? prevDays + 1 : 1;
+        }
+        return toUpsertRow(rs.getLong("user_id"), date, goodCount, totalCount, warningCount, postureCounts,
+                consecutiveDays);
+    }
+
+    private static Object[] toUpsertRow(long userId, LocalDate date, long goodCount, long totalCount,
+                                        int warningCount, int[] postureCounts, int consecutiveDays) {
+        double ratio = ratioOf(goodCount, totalCount);
+        boolean goalAchieved = ratio >= GOAL_RATIO;
+
+        Object[] row = new Object[UPSERT_PARAMS];
+        row[0] = userId;
+        row[1] = date;
+        row[2] = ratio;
+        row[3] = warningCount;
+        row[4] = totalCount;
+        row[5] = goodCount;
+        row[6] = goalAchieved;
+        row[7] = consecutiveDays;
+        for (int i = 0; i < postureCounts.length; i++) {
+            row[8 + i] = postureCounts[i];
+        }
+        return row;
+    }
+
+    private static double ratioOf(long goodCount, long totalCount) {
+        return Math.round((double) goodCount / totalCount * 10000.0) / 100.0; // 소수점 2자리 반올림
+    }
+
+    /**
+     * 행들을 BATCH_SIZE 단위 다중 행 UPSERT로 저장
+     */
+    private int upsert(List<Object[]> rows, String upsertSuffix) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            StringBuilder sql = new StringBuilder(UPSERT_PREFIX.length() + batch.size() * (UPSERT_ROW.length() + 2));
+            sql.append(UPSERT_PREFIX);
+            Object[] params = new Object[batch.size() * UPSERT_PARAMS];
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0) sql.append(", ");
+                sql.append(UPSERT_ROW);
+                System.arraycopy(batch.get(i), 0, params, i * UPSERT_PARAMS, UPSERT_PARAMS);
+            }
+            sql.append(upsertSuffix);
+            jdbcTemplate.update(sql.toString(), params);
+        }
+        return rows.size();
+    }
+
+    private record StatKey(long userId, LocalDate statDate) {
+    }
+
+    /**
+     * 기간 재집계의 (사용자, 날짜)별 합계
+     */
+    private static final class DayTotals {
+        private final StatKey key;
+        private long goodCount;
+        private long totalCount;
+        private int warningCount;
+        private int[] postureCounts = new int[POSTURE_TYPES.length];
+        private boolean countsKnown = true; // false면 경고/자세별 카운트를 알 수 없음 (기존 행 값 유지)
+
+        private DayTotals(StatKey key) {
+            this.key = key;
+        }
+
+        // 신규 행의 연속 일수는 0 (StreakCalculator가 보정)
+        private Object[] toUpsertRow() {
+            return SetBasedStatAggregator.toUpsertRow(key.userId(), key.statDate(), goodCount, totalCount,
+                    warningCount, postureCounts, 0);
+        }
+    }
+}
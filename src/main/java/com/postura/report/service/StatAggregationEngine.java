@@ -0,0 +1,200 @@
+package com.postura.report.service;
+
+import com.postura.common.lock.RedisJobLock;
+import com.postura.config.properties.AppProperties;
+import com.postura.report.domain.AggregationProgress;
+import com.postura.report.entity.AggregationJob;
+import com.postura.report.repository.AggregationJobRepository;
+import com.postura.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 야간 일일 통계 집계 엔진
+ *
+ * - SET_BASED 모드 : SetBasedStatAggregator로 전체 사용자를 쿼리 몇 번에 집계
+ * - PER_USER 모드  : 사용자 ID를 keyset으로 읽어 청크로 나누고, 작업 풀에서 병렬 처리
+ *   - 사용자마다 StatAggregationService 프록시를 통해 호출하므로 각자 독립된 트랜잭션에서 실행
+ *   - 앞에서부터 연속으로 끝난 청크까지 AggregationJob에 체크포인트를 기록하여, 중단 시 이어서 처리
+ *   - 진행률(처리량, 실패 수, ETA)은 getProgress()로 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatAggregationEngine {
+
+    private final UserRepository userRepository;
+    private final StatAggregationService statAggregationService;
+    private final SetBasedStatAggregator setBasedStatAggregator;
+    private final StreakCalculator streakCalculator;
+    private final PeriodStatRollup periodStatRollup;
+    private final ReportCache reportCache;
+    private final AggregationJobRepository jobRepository;
+    private final RedisJobLock redisJobLock;
+    private final AppProperties appProperties;
+
+    private static final String JOB_NAME = "daily-aggregation";
+    private static final Duration LOCK_TTL = Duration.ofHours(3);
+
+    // 현재 노드에서 실행 중(또는 마지막으로 실행된) 작업의 진행률
+    private volatile AggregationProgress progress;
+
+    /**
+     * 매일 새벽 3시 전날 통계 검증/보정
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void runDailyAggregation() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, () -> {
+            resumeUnfinishedJobs();
+            aggregate(LocalDate.now().minusDays(1));
+        });
+    }
+
+    /**
+     * 서버 재시작 시 중단된 작업 이어서 처리
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, this::resumeUnfinishedJobs);
+    }
+
+    /**
+     * 대상 날짜의 일일 통계 집계 (모드에 따라 집합 단위 또는 사용자별 병렬 처리)
+     */
+    public void aggregate(LocalDate targetDate) {
+        log.info("Starting daily aggregation for target date: {}", targetDate);
+
+        if (appProperties.getStat().getAggregationMode() == AppProperties.Stat.AggregationMode.SET_BASED) {
+            setBasedStatAggregator.aggregate(targetDate);
+            // 대상 날짜 이후(오늘) 이미 증분 반영된 행의 연속 일수까지 한 번의 스캔으로 보정
+            streakCalculator.recompute(targetDate, LocalDate.now());
+            // 대상 날짜가 속한 주/월 롤업 재계산 (사용자별 모드는 aggregateStatsForUser에서 처리)
+            periodStatRollup.refreshAllUsers(targetDate);
+            reportCache.invalidateAll();
+            return;
+        }
+
+        AggregationJob job = jobRepository.findByJobKey("DAILY:" + targetDate)
+                .orElseGet(() -> jobRepository.save(AggregationJob.daily(targetDate)));
+        if (job.getStatus() == AggregationJob.Status.COMPLETED) {
+            log.info("Daily aggregation for {} already completed. Skipping.", targetDate);
+            return;
+        }
+        runPerUser(job);
+    }
+
+    /**
+     * 현재 노드의 진행률 조회 (실행 이력이 없으면 empty)
+     */
+    public Optional<AggregationProgress> getProgress() {
+        return Optional.ofNullable(progress);
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private void resumeUnfinishedJobs() {
+        List<AggregationJob> unfinished = jobRepository.findAllByJobTypeAndStatusOrderByTargetDateAsc(
+                AggregationJob.JobType.DAILY_AGGREGATION, AggregationJob.Status.RUNNING);
+        for (AggregationJob job : unfinished) {
+            log.info("Resuming daily aggregation {} from UserId {}", job.getJobKey(), job.getCheckpointUserId());
+            runPerUser(job);
+        }
+    }
+
+    /**
+     * 사용자 ID 청크를 작업 풀에 제출하고, 가장 오래된 청크부터 완료를 기다리며 체크포인트 갱신
+     * (동시에 진행 중인 청크 수를 parallelism * 2로 제한하여 ID 목록이 메모리에 쌓이지 않도록 함)
+     */
+    private void runPerUser(AggregationJob job) {
+        AppProperties.Stat config = appProperties.getStat();
+        int parallelism = Math.max(1, config.getParallelism());
+        int chunkSize = Math.max(1, config.getChunkSize());
+        int maxInFlight = parallelism * 2;
+        LocalDate targetDate = job.getTargetDate();
+
+        AggregationProgress current = new AggregationProgress(
+                job.getJobKey(), userRepository.count(), job.getProcessedCount(), job.getFailedCount());
+        this.progress = current;
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Deque<Chunk> inFlight = new ArrayDeque<>();
+        try {
+            long afterId = job.getCheckpointUserId();
+            while (true) {
+                // 1. keyset 방식으로 다음 사용자 ID 청크 조회
+                List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                afterId = userIds.get(userIds.size() - 1);
+
+                // 2. 청크 제출
+                inFlight.addLast(new Chunk(afterId,
+                        CompletableFuture.runAsync(() -> processChunk(userIds, targetDate, current), pool)));
+
+                // 3. 진행 중인 청크가 많으면 가장 오래된 청크 완료 후 체크포인트
+                if (inFlight.size() >= maxInFlight) {
+                    checkpoint(job, inFlight.removeFirst(), current);
+                }
+                if (userIds.size() < chunkSize) {
+                    break;
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                checkpoint(job, inFlight.removeFirst(), current);
+            }
+
+            job.complete(current.getProcessedCount(), current.getFailedCount());
+            jobRepository.save(job);
+            log.info("Daily aggregation {} complete. Processed={}, Failed={}, Throughput={} users/sec",
+                    job.getJobKey(), current.getProcessedCount(), current.getFailedCount(),
+                    String.format("%.1f", current.getUsersPerSecond()));
+        } finally {
+            current.finish();
+            pool.shutdown();
+        }
+    }
+
+    private void checkpoint(AggregationJob job, Chunk chunk, AggregationProgress current) {
+        chunk.future().join();
+        job.checkpoint(chunk.lastUserId(), current.getProcessedCount(), current.getFailedCount());
+        jobRepository.save(job);
+    }
+
+    /**
+     * 청크 내 사용자별 집계 (사용자 하나의 실패가 다른 사용자에게 영향을 주지 않음)
+     */
+    private void processChunk(List<Long> userIds, LocalDate targetDate, AggregationProgress current) {
+        for (Long userId : userIds) {
+            try {
+                // 프록시 호출 -> 사용자별 독립 트랜잭션
+                statAggregationService.aggregateStatsForUser(userId, targetDate);
+                current.recordSuccess();
+            } catch (Exception e) {
+                current.recordFailure();
+                log.error("Error aggregating stats for user {}: {}", userId, e.getMessage(), e);
+            }
+        }
+    }
+
+    private record Chunk(long lastUserId, CompletableFuture<Void> future) {
+    }
+}
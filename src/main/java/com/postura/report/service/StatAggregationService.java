@@ -7,11 +7,9 @@ import com.postura.monitor.entity.SessionStatus;
 import com.postura.monitor.repository.MonitoringSessionRepository;
 import com.postura.report.entity.AggregateStat;
 import com.postura.report.repository.AggregateStatRepository;
-import com.postura.user.entity.User;
 import com.postura.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,50 +29,98 @@ public class StatAggregationService {
     private final AggregateStatRepository aggregateStatRepository;
     private final UserRepository userRepository;
     private final MonitoringSessionRepository sessionRepository;
+    private final StreakCalculator streakCalculator;
+    private final HourlyStatService hourlyStatService;
+    private final MinuteStatService minuteStatService;
+    private final PeriodStatRollup periodStatRollup;
+    private final ReportCache reportCache;
 
     // 목표 유지율 (80%)
     private static final double GOAL_RATIO = 80.0;
 
     // *************************************************************
-    // 1. 메인 배치 실행 메서드
+    // 1. 세션 종료 시 증분 반영 (SessionOutboxDispatcher에서 호출)
     // *************************************************************
-    @Scheduled(cron = "0 0 3 * * *")
-    public void runDailyAggregation() {
+    /**
+     * 종료된 세션 1건의 최종 카운트를 세션 시작일의 AggregateStat에 더합니다.
+     * - 하루 전체를 다시 읽지 않고 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 반영
+     * - stat_applied 조건부 UPDATE로 같은 세션이 두 번 반영되지 않도록 보장 (Outbox 재시도 대비)
+     * - 시간대별 카운트/분 단위 요약은 세션 자체 데이터로만 만들 수 있으므로 rollup_applied로 따로 반영
+     *   (야간 재집계/백필이 stat_applied를 먼저 표시해도 이후 Outbox 처리에서 hourly_stat에 반영된 뒤 삭제됨)
+     */
+    @Transactional
+    public void applyCompletedSession(Long userId, Long sessionId) {
+        // 1. 세션 진행 중 누적한 시간대별 카운트와 타임라인을 hourly_stat, minute_stat에 반영
+        // (같은 트랜잭션, rollup_applied로 중복 방지)
+        if (sessionRepository.markRollupApplied(sessionId) == 1) {
+            hourlyStatService.applySessionCounts(userId, sessionId);
+            minuteStatService.applySessionCounts(userId, sessionId);
+        }
 
-        LocalDate targetDate = LocalDate.now().minusDays(1);
-        log.info("Starting daily aggregation for target date: {}", targetDate);
+        // 2. 일일 통계 반영 권한 획득 (이미 반영된 세션이면 종료)
+        if (sessionRepository.markStatApplied(sessionId) == 0) {
+            log.debug("Session {} already applied to daily stats. Skipping.", sessionId);
+            return;
+        }
 
-        // 실제로는 페이징 처리 등을 하지만, 데모를 위해 모든 사용자 조회
-        List<User> allUsers = userRepository.findAll();
+        MonitoringSession session = sessionRepository.findById(sessionId)
+                .orElseThrow(() -> new IllegalStateException("Session not found: " + sessionId));
 
-        for (User user : allUsers) {
-            try {
-                aggregateStatsForUser(user.getId(), targetDate);
-            } catch (Exception e) {
-                log.error("Error aggregating stats for user {}: {}", user.getId(), e.getMessage(), e);
-                // 다음 사용자로 넘어갑니다. (트랜잭션은 사용자별로 분리되거나, 이 메서드 밖에서 관리되어야 함)
-            }
+        long goodCount = session.getFinalGoodCount() == null ? 0L : session.getFinalGoodCount();
+        long analysisSeconds = session.getFinalTotalCount() == null ? 0L : session.getFinalTotalCount();
+        if (analysisSeconds == 0) {
+            // 분석된 프레임이 없는 세션은 통계에 영향 없음 (반영 완료로만 표시)
+            log.debug("Session {} has no analyzed frames. Skipping stat delta.", sessionId);
+            return;
         }
+
+        LocalDate statDate = session.getStartAt().toLocalDate();
+        Map<String, Integer> postureCount = session.getFinalPostureCounts() == null
+                ? Map.of() : session.getFinalPostureCounts();
+        int warningCount = session.getFinalWarningCount() == null ? 0 : session.getFinalWarningCount();
+
+        // 3. 일일 통계에 원자적으로 누적 (행이 없으면 생성, 경고 0건인 날도 행 생성)
+        aggregateStatRepository.upsertSessionDelta(
+                userId, statDate, goodCount, analysisSeconds, warningCount, GOAL_RATIO,
+                postureCount.getOrDefault("FORWARD_HEAD", 0),
+                postureCount.getOrDefault("UNEQUAL_SHOULDERS", 0),
+                postureCount.getOrDefault("UPPER_BODY_TILT", 0),
+                postureCount.getOrDefault("TOO_CLOSE", 0),
+                postureCount.getOrDefault("ASYMMETRIC_POSTURE", 0),
+                postureCount.getOrDefault("HEAD_TILT", 0),
+                postureCount.getOrDefault("LEANING_ON_ARM", 0));
+
+        // 4. 해당 날짜가 속한 주/월 롤업 재계산
+        periodStatRollup.refreshForUser(userId, statDate);
+
+        // 5. 갱신된 목표 달성 여부 기준으로 해당 날짜부터 오늘까지 연속 달성 일수 연쇄 보정
+        // (지난 날짜의 세션이 늦게 반영되어도 이후 날짜의 연속 일수가 맞게 유지됨)
+        streakCalculator.recomputeForUser(userId, statDate, LocalDate.now());
+
+        // 6. 주간 리포트 캐시 무효화 (커밋 후)
+        reportCache.invalidateUser(userId);
+
+        log.info("Stats delta applied for user {} on {} (SessionId={}).", userId, statDate, sessionId);
     }
 
     // *************************************************************
-    // 2. 사용자별 통계 집계 로직 (핵심)
+    // 2. 사용자별 통계 전체 재계산 (야간 검증/보정, StatAggregationEngine에서 호출)
     // *************************************************************
     @Transactional
     public void aggregateStatsForUser(long userId, LocalDate date) {
         LocalDateTime start = date.atStartOfDay();
         LocalDateTime end = date.plusDays(1).atStartOfDay();
 
-        // 1. 해당 날짜에 완료된 모든 MonitoringSession 조회
-        List<MonitoringSession> sessions = sessionRepository.findAllByUserIdAndStartAtBetween(userId, start, end);
+        // 1. 해당 날짜의 세션을 모두 잠그고 그중 완료된 세션만 집계 대상으로 사용
+        // (잠그지 않으면 조회 이후 종료된 세션이 집계 없이 반영 완료로 표시되어 증분 반영까지 건너뜀)
+        List<MonitoringSession> sessions = sessionRepository.findAllByUserIdInRangeForUpdate(userId, start, end)
+                .stream()
+                .filter(session -> session.getStatus() == SessionStatus.COMPLETED && session.getFinalTotalCount() != null)
+                .toList();
 
         // 2. 해당 날짜에 저장된 비정상 자세 로그 조회 -> 자세 유형별 카운트 계산
-        List<PostureLog> warningLogs = postureLogRepository.findAllByUserIdAndTimestampBetweenOrderByTimestampAsc(userId, start, end);
-
-        if (warningLogs.isEmpty()) {
-            log.debug("No posture logs found for user {} on {}.", userId, date);
-            return;
-        }
+        // (경고가 0건인 날도 세션이 있으면 통계 행을 생성해야 하므로 로그가 없어도 계속 진행)
+        List<PostureLog> warningLogs = postureLogRepository.findAllByUserIdInRange(userId, start, end);
 
         // 3. 집계 변수 초기화
         long totalGoodTime = 0;
@@ -84,11 +130,8 @@ public class StatAggregationService {
 
         // 4. 유지율 계산을 위한 Final 카운트 합산 (Monitoring Session 합산)
         for (MonitoringSession session : sessions) {
-            // 완료된 세션만 최종 통계에 반영
-            if (session.getStatus() == SessionStatus.COMPLETED && session.getFinalTotalCount() != null) {
-                totalGoodTime += session.getFinalGoodCount();
-                totalAnalysisSeconds += session.getFinalTotalCount();
-            }
+            totalGoodTime += session.getFinalGoodCount() == null ? 0L : session.getFinalGoodCount();
+            totalAnalysisSeconds += session.getFinalTotalCount();
         }
 
         if (totalAnalysisSeconds == 0) {
@@ -109,20 +152,25 @@ public class StatAggregationService {
         // 6. 유지율 계산 (세션 효율성 유지율)
         double maintenanceRatio = calculateMaintenanceRatio(totalGoodTime, totalAnalysisSeconds);
 
-        // 7. 목표 달성 및 연속 달성일수 계산
+        // 7. 목표 달성 여부 계산 (연속 달성 일수는 저장 후 StreakCalculator로 일괄 보정)
         boolean goalAchieved = maintenanceRatio >= GOAL_RATIO;
         Optional<AggregateStat> existingStatOpt = aggregateStatRepository.findByUserIdAndStatDate(userId, date);
-        int consecutiveDays = calculateConsecutiveAchievement(userId, date, goalAchieved);
 
-        // 6. AggregateStat 엔티티 생성 및 저장 (Upsert)
+        // 8. AggregateStat 엔티티 생성 및 저장 (Upsert)
         AggregateStat stat;
 
         if (existingStatOpt.isPresent()) {
-            // [UPDATE] - 이미 통계가 존재함: 기존 엔티티를 가져와 필드를 갱신
+            // [UPDATE] - 이미 통계가 존재함: 증분 반영 결과와 비교 후 원본 기준으로 보정
             stat = existingStatOpt.get();
+            if (stat.getTotalAnalysisSeconds() != totalAnalysisSeconds
+                    || stat.getTotalWarningCount() != totalWarningCount) {
+                log.warn("Stat mismatch repaired for user {} on {}: seconds {} -> {}, warnings {} -> {}",
+                        userId, date, stat.getTotalAnalysisSeconds(), totalAnalysisSeconds,
+                        stat.getTotalWarningCount(), totalWarningCount);
+            }
             stat.updateStats(
-                    maintenanceRatio, totalWarningCount, totalAnalysisSeconds,
-                    goalAchieved, consecutiveDays, postureCount
+                    maintenanceRatio, totalWarningCount, totalAnalysisSeconds, totalGoodTime,
+                    goalAchieved, stat.getConsecutiveAchievedDays(), postureCount
             );
         } else {
             // [INSERT] - 통계가 존재하지 않음: 새로운 엔티티 생성
@@ -132,8 +180,9 @@ public class StatAggregationService {
                     .correctRatio(maintenanceRatio)
                     .totalWarningCount(totalWarningCount)
                     .totalAnalysisSeconds(totalAnalysisSeconds)
+                    .totalGoodCount(totalGoodTime)
                     .goalAchieved(goalAchieved)
-                    .consecutiveAchievedDays(consecutiveDays)
+                    .consecutiveAchievedDays(0)
                     // 자세 유형별 카운트 매핑
                     .forwardHeadCount(postureCount.getOrDefault("FORWARD_HEAD", 0))
                     .unequalShouldersCount(postureCount.getOrDefault("UNEQUAL_SHOULDERS", 0))
@@ -145,8 +194,20 @@ public class StatAggregationService {
                     .build();
         }
 
-        // 5. DB 저장 (트랜잭션 종료 시 UPDATE 또는 INSERT 쿼리 발생)
-        aggregateStatRepository.save(stat);
+        // 9. DB 저장 (이후 JDBC로 aggregate_stat을 다시 읽으므로 즉시 flush)
+        aggregateStatRepository.saveAndFlush(stat);
+
+        // 10. 재계산에 포함된 세션만 반영 완료로 표시 (이후 도착한 증분 이벤트의 중복 반영 방지)
+        sessionRepository.markStatAppliedByIds(sessions.stream().map(MonitoringSession::getId).toList());
+
+        // 11. 해당 날짜가 속한 주/월 롤업 재계산
+        periodStatRollup.refreshForUser(userId, date);
+
+        // 12. 해당 날짜부터 오늘까지 연속 달성 일수 보정 (재계산 순서와 무관하게 연속 일수 유지)
+        streakCalculator.recomputeForUser(userId, date, LocalDate.now());
+
+        // 13. 주간 리포트 캐시 무효화 (커밋 후)
+        reportCache.invalidateUser(userId);
         log.info("Stats UPSERT complete for user {} on {}. Ratio: {}%", userId, date, maintenanceRatio);
     }
 
@@ -161,24 +222,6 @@ public class StatAggregationService {
         return Math.round((double) goodTime / totalTimeSeconds * 10000.0) / 100.0; // 소수점 2자리 반올림
     }
 
-    /**
-     * 연속 목표 달성 일수를 계산합니다.
-     */
-    private int calculateConsecutiveAchievement(Long userId, LocalDate today, boolean goalAchievedToday) {
-        if (!goalAchievedToday) {
-            return 0; // 오늘 목표 실패 시 연속일수 0
-        }
-
-        // 어제 날짜
-        LocalDate yesterday = today.minusDays(1);
-
-        // 오늘 이전의 가장 최근 기록을 조회합니다.
-        return aggregateStatRepository.findTopByUserIdAndStatDateBeforeOrderByStatDateDesc(userId, today)
-                .filter(AggregateStat::isGoalAchieved) // 어제도 목표 달성했는지 확인
-                .map(stat -> stat.getConsecutiveAchievedDays() + 1) // 어제 일수에 +1
-                .orElse(1); // 어제 기록이 없거나 실패했다면 오늘이 1일째
-    }
-
     /**
      * 자세 유형 카운트를 위한 맵을 초기화합니다.
      */
@@ -0,0 +1,360 @@
+package com.postura.report.service;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.common.lock.RedisJobLock;
+import com.postura.common.util.RateLimiter;
+import com.postura.config.properties.AppProperties;
+import com.postura.report.domain.AggregationProgress;
+import com.postura.report.entity.AggregationJob;
+import com.postura.report.repository.AggregationJobRepository;
+import com.postura.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 과거 기간의 일일 통계(AggregateStat)를 다시 계산하는 관리자용 백필 작업
+ *
+ * - 작업 분할 : (사용자 청크, 월) 단위 파티션 -> 파티션마다 GROUP BY 쿼리 1회 + 다중 행 UPSERT
+ * - 병렬/제한 : backfill-parallelism 개의 작업 스레드, 초당 파티션 수를 RateLimiter로 제한 (주 DB 보호)
+ * - 체크포인트 : 가장 오래된 사용자 청크의 모든 월이 끝나면 AggregationJob에 기록, 재시작 시 이어서 처리
+ * - 실패 파티션 : (사용자 ID 구간, 기간)을 AggregationJob에 기록하고 전체 처리 후 MAX_RETRY_ROUNDS 회까지 재시도
+ *                 (끝내 실패한 파티션이 남으면 FAILED, 목록은 작업에 남음)
+ * - 실행 순서 : 클러스터 전체에서 한 번에 하나만 실행, 락을 얻지 못한 작업은 QUEUED로 남아 현재 작업 종료 후 실행
+ * - 연속 달성 일수 : 모든 파티션 완료 후 StreakCalculator로 기간 시작일부터 오늘까지 한 번에 보정
+ * - 주/월 롤업 : 모든 파티션 완료 후 기간에 걸친 주/월을 PeriodStatRollup으로 재계산
+ * - 원본 로그 보관 기간(app.retention.posture-log-days) 밖의 날짜도 백필 가능 : 경고/자세별 카운트는 세션 확정값으로 계산하고,
+ *   확정값이 없는 이전 세션의 날짜는 기존 카운트를 유지 (SetBasedStatAggregator.aggregateRange)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatBackfillService {
+
+    private final AggregationJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final SetBasedStatAggregator setBasedStatAggregator;
+    private final StreakCalculator streakCalculator;
+    private final PeriodStatRollup periodStatRollup;
+    private final ReportCache reportCache;
+    private final RedisJobLock redisJobLock;
+    private final AppProperties appProperties;
+
+    private static final String JOB_NAME = "stat-backfill";
+    private static final Duration LOCK_TTL = Duration.ofHours(12);
+
+    // 한 번에 요청할 수 있는 최대 기간
+    private static final long MAX_RANGE_DAYS = 366 * 3;
+
+    // 실패 파티션 재시도 횟수
+    private static final int MAX_RETRY_ROUNDS = 3;
+
+    // 현재 노드에서 실행 중인 백필 작업의 진행률 (jobId -> progress)
+    private final ConcurrentHashMap<Long, AggregationProgress> progresses = new ConcurrentHashMap<>();
+
+    /**
+     * 백필 작업 생성 (실행은 run()으로 별도 시작)
+     * @param userIds 대상 사용자 (null 또는 빈 목록이면 전체 사용자)
+     */
+    public AggregationJob createJob(LocalDate from, LocalDate to, List<Long> userIds) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "from은 to보다 이후일 수 없습니다.");
+        }
+        if (to.isAfter(LocalDate.now())) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "미래 날짜는 백필할 수 없습니다.");
+        }
+        if (from.plusDays(MAX_RANGE_DAYS).isBefore(to)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "백필 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+        return jobRepository.save(AggregationJob.backfill(from, to, userIds));
+    }
+
+    /**
+     * 백필 작업 비동기 실행 (클러스터 전체에서 한 번에 하나의 백필만 실행)
+     * - 다른 백필이 실행 중이면 작업은 QUEUED로 남고, 실행 중인 노드가 현재 작업을 마친 뒤 이어서 실행
+     */
+    @Async
+    public void run(Long jobId) {
+        if (!runPendingJobs()) {
+            log.info("Backfill job {} queued: another backfill is running. It will start when that one finishes.", jobId);
+        }
+    }
+
+    /**
+     * 서버 재시작 시 중단된(RUNNING) 작업과 대기 중(QUEUED)인 작업 이어서 처리
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        runPendingJobs();
+    }
+
+    public Optional<AggregationJob> findJob(Long jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    /**
+     * 현재 노드에서 실행 중(또는 실행된)인 작업의 진행률
+     */
+    public Optional<AggregationProgress> getProgress(Long jobId) {
+        return Optional.ofNullable(progresses.get(jobId));
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    /**
+     * 락을 얻어 중단된 작업 -> 대기 중인 작업 순으로 실행
+     * (락 해제 직전에 대기열에 들어와 락을 얻지 못한 작업이 남지 않도록, 해제 후 대기 작업이 있으면 다시 시도)
+     * @return 락 획득 여부
+     */
+    private boolean runPendingJobs() {
+        boolean acquired = false;
+        while (redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, this::executePendingJobs)) {
+            acquired = true;
+            if (!jobRepository.existsByJobTypeAndStatus(AggregationJob.JobType.BACKFILL, AggregationJob.Status.QUEUED)) {
+                break;
+            }
+        }
+        return acquired;
+    }
+
+    private void executePendingJobs() {
+        for (AggregationJob job : jobRepository.findAllByJobTypeAndStatusOrderByTargetDateAsc(
+                AggregationJob.JobType.BACKFILL, AggregationJob.Status.RUNNING)) {
+            log.info("Resuming backfill {} from UserId {}", job.getJobKey(), job.getCheckpointUserId());
+            execute(job);
+        }
+        for (AggregationJob job : jobRepository.findAllByJobTypeAndStatusOrderByIdAsc(
+                AggregationJob.JobType.BACKFILL, AggregationJob.Status.QUEUED)) {
+            log.info("Starting backfill {}", job.getJobKey());
+            job.start();
+            execute(jobRepository.save(job));
+        }
+    }
+
+    private void execute(AggregationJob job) {
+        AppProperties.Stat config = appProperties.getStat();
+        int parallelism = Math.max(1, config.getBackfillParallelism());
+        int chunkSize = Math.max(1, config.getChunkSize());
+        int maxInFlight = parallelism * 2;
+        RateLimiter rateLimiter = new RateLimiter(Math.max(0.1, config.getBackfillPartitionsPerSecond()));
+
+        LocalDate from = job.getTargetDate();
+        LocalDate to = job.getEndDate();
+        List<Long> filter = job.getUserIds();
+        long totalUsers = filter.isEmpty() ? userRepository.count() : filter.size();
+
+        AggregationProgress progress = new AggregationProgress(
+                job.getJobKey(), totalUsers, job.getProcessedCount(), job.getFailedCount());
+        progresses.put(job.getId(), progress);
+
+        long startedAt = System.currentTimeMillis();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        Deque<ChunkTask> inFlight = new ArrayDeque<>();
+        try {
+            long afterId = job.getCheckpointUserId();
+            while (true) {
+                // 1. 다음 사용자 청크 (keyset)
+                List<Long> userIds = nextChunk(filter, afterId, chunkSize);
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                afterId = userIds.get(userIds.size() - 1);
+
+                // 2. 청크 x 월 파티션 제출
+                List<LocalDate[]> ranges = new ArrayList<>();
+                List<CompletableFuture<Boolean>> partitions = new ArrayList<>();
+                for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+                    LocalDate partitionFrom = max(from, month.atDay(1));
+                    LocalDate partitionTo = min(to, month.atEndOfMonth());
+                    ranges.add(new LocalDate[]{partitionFrom, partitionTo});
+                    partitions.add(submitPartition(userIds, partitionFrom, partitionTo, rateLimiter, pool));
+                }
+                inFlight.addLast(new ChunkTask(userIds.get(0), afterId, userIds.size(), ranges, partitions));
+
+                // 3. 진행 중인 청크가 많으면 가장 오래된 청크 완료 후 체크포인트
+                if (inFlight.size() >= maxInFlight) {
+                    checkpoint(job, inFlight.removeFirst(), progress);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                checkpoint(job, inFlight.removeFirst(), progress);
+            }
+
+            // 3-1. 실패 파티션 재시도 (이전 실행에서 남은 파티션 포함)
+            for (int round = 1; round <= MAX_RETRY_ROUNDS && !job.getFailedPartitions().isEmpty(); round++) {
+                retryFailedPartitions(job, filter, chunkSize, rateLimiter, pool, progress);
+                log.info("Backfill {} retry round {} done. Remaining failed partitions={}",
+                        job.getJobKey(), round, job.getFailedPartitions().size());
+            }
+
+            // 4. 연속 달성 일수 보정 (기간 시작일부터 오늘까지, 기간 이후 날짜도 연쇄적으로 바뀔 수 있음)
+            //    + 기간에 걸친 주/월 롤업 재계산
+            if (filter.isEmpty()) {
+                streakCalculator.recompute(from, LocalDate.now());
+                periodStatRollup.refreshAllUsers(from, to);
+            } else {
+                for (Long userId : filter) {
+                    streakCalculator.recomputeForUser(userId, from, LocalDate.now());
+                    periodStatRollup.refreshRangeForUser(userId, from, to);
+                }
+            }
+            reportCache.invalidateAll();
+
+            if (job.getFailedPartitions().isEmpty()) {
+                job.complete(progress.getProcessedCount(), progress.getFailedCount());
+            } else {
+                job.fail(progress.getProcessedCount(), progress.getFailedCount());
+            }
+            jobRepository.save(job);
+            log.info("Backfill {} {}. Users={}, Failed={}, Elapsed={}s",
+                    job.getJobKey(), job.getStatus(), progress.getProcessedCount(), progress.getFailedCount(),
+                    (System.currentTimeMillis() - startedAt) / 1000);
+        } finally {
+            progress.finish();
+            pool.shutdown();
+        }
+    }
+
+    private List<Long> nextChunk(List<Long> filter, long afterId, int chunkSize) {
+        if (filter.isEmpty()) {
+            return userRepository.findIdsAfter(afterId, PageRequest.of(0, chunkSize));
+        }
+        // 사용자 필터는 정렬된 상태로 저장되어 있음
+        return filter.stream().filter(id -> id > afterId).limit(chunkSize).toList();
+    }
+
+    private CompletableFuture<Boolean> submitPartition(List<Long> userIds, LocalDate from, LocalDate to,
+                                                       RateLimiter rateLimiter, ForkJoinPool pool) {
+        return CompletableFuture.supplyAsync(() -> processPartition(userIds, from, to, rateLimiter), pool);
+    }
+
+    /**
+     * 파티션 하나 처리 (실패해도 다른 파티션은 계속 진행)
+     * @return 성공 여부
+     */
+    private boolean processPartition(List<Long> userIds, LocalDate from, LocalDate to, RateLimiter rateLimiter) {
+        try {
+            rateLimiter.acquire();
+            setBasedStatAggregator.aggregateRange(userIds, from, to);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("Backfill partition failed (UserId {} ~ {}, {} ~ {}): {}",
+                    userIds.get(0), userIds.get(userIds.size() - 1), from, to, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 청크의 모든 파티션 완료 대기 후 체크포인트 (실패한 파티션은 재시도 대상으로 기록)
+     */
+    private void checkpoint(AggregationJob job, ChunkTask chunk, AggregationProgress progress) {
+        CompletableFuture.allOf(chunk.partitions().toArray(new CompletableFuture<?>[0])).join();
+        List<AggregationJob.FailedPartition> failed = new ArrayList<>();
+        for (int i = 0; i < chunk.partitions().size(); i++) {
+            if (!chunk.partitions().get(i).join()) {
+                LocalDate[] range = chunk.ranges().get(i);
+                failed.add(new AggregationJob.FailedPartition(
+                        chunk.firstUserId(), chunk.lastUserId(), range[0], range[1]));
+            }
+        }
+        if (failed.isEmpty()) {
+            progress.recordSuccess(chunk.userCount());
+        } else {
+            progress.recordFailure(chunk.userCount());
+            job.addFailedPartitions(failed);
+        }
+        job.checkpoint(chunk.lastUserId(), progress.getProcessedCount(), progress.getFailedCount());
+        jobRepository.save(job);
+    }
+
+    /**
+     * 기록된 실패 파티션을 한 번씩 다시 실행
+     * - 같은 사용자 구간의 파티션이 모두 성공하면 해당 사용자들을 실패 -> 처리 완료로 이동
+     */
+    private void retryFailedPartitions(AggregationJob job, List<Long> filter, int chunkSize,
+                                       RateLimiter rateLimiter, ForkJoinPool pool, AggregationProgress progress) {
+        Map<List<Long>, List<AggregationJob.FailedPartition>> byUserRange = new LinkedHashMap<>();
+        for (AggregationJob.FailedPartition partition : job.getFailedPartitions()) {
+            byUserRange.computeIfAbsent(List.of(partition.firstUserId(), partition.lastUserId()), k -> new ArrayList<>())
+                    .add(partition);
+        }
+
+        List<AggregationJob.FailedPartition> remaining = new ArrayList<>();
+        for (List<AggregationJob.FailedPartition> partitions : byUserRange.values()) {
+            AggregationJob.FailedPartition first = partitions.get(0);
+            List<Long> userIds = usersBetween(filter, first.firstUserId(), first.lastUserId(), chunkSize);
+            if (userIds.isEmpty()) {
+                // 구간의 사용자가 모두 탈퇴함
+                continue;
+            }
+
+            List<CompletableFuture<Boolean>> futures = partitions.stream()
+                    .map(partition -> submitPartition(userIds, partition.from(), partition.to(), rateLimiter, pool))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+
+            int before = remaining.size();
+            for (int i = 0; i < partitions.size(); i++) {
+                if (!futures.get(i).join()) {
+                    remaining.add(partitions.get(i));
+                }
+            }
+            if (remaining.size() == before) {
+                progress.recordRecovered(userIds.size());
+            }
+        }
+
+        job.replaceFailedPartitions(remaining);
+        job.checkpoint(job.getCheckpointUserId(), progress.getProcessedCount(), progress.getFailedCount());
+        jobRepository.save(job);
+    }
+
+    /**
+     * [firstUserId, lastUserId] 구간의 대상 사용자 (청크는 chunkSize 이하이므로 한 페이지로 충분)
+     */
+    private List<Long> usersBetween(List<Long> filter, long firstUserId, long lastUserId, int chunkSize) {
+        return nextChunk(filter, firstUserId - 1, chunkSize).stream()
+                .filter(id -> id <= lastUserId)
+                .toList();
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * @param ranges 파티션별 [시작일, 종료일] (partitions와 같은 순서)
+     */
+    private record ChunkTask(long firstUserId, long lastUserId, int userCount,
+                             List<LocalDate[]> ranges, List<CompletableFuture<Boolean>> partitions) {
+    }
+}
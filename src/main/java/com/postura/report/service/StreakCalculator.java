@@ -0,0 +1,180 @@
+package com.postura.report.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * aggregate_stat의 연속 목표 달성 일수(consecutive_achieved_days)를 기간 단위로 다시 계산하는 계산기
+ *
+ * - (user_id, stat_date) 순서로 한 번만 순차 스캔하며 사용자별 연속 일수를 이어서 계산
+ * - 기간 시작 전날의 행은 다시 계산하지 않고 시작값(carry-in)으로만 사용
+ * - 날짜가 하루라도 비면(통계 행 없음) 연속이 끊긴 것으로 처리
+ * - 값이 달라진 행만 배치 UPDATE로 반영하므로, 재집계/백필 순서와 무관하게 결과가 같음
+ */
+@Component
+@Slf4j
+public class StreakCalculator {
+
+    // 배치 UPDATE 한 번에 포함할 행 수
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SCAN_ALL_SQL = """
+        SELECT stat_id, user_id, stat_date, goal_achieved, consecutive_achieved_days
+          FROM aggregate_stat
+         WHERE stat_date BETWEEN ? AND ?
+         ORDER BY user_id, stat_date
+        """;
+
+    private static final String SCAN_USER_SQL = """
+        SELECT stat_id, user_id, stat_date, goal_achieved, consecutive_achieved_days
+          FROM aggregate_stat
+         WHERE user_id = ?
+           AND stat_date BETWEEN ? AND ?
+         ORDER BY stat_date
+        """;
+
+    private static final String UPDATE_SQL =
+            "UPDATE aggregate_stat SET consecutive_achieved_days = ? WHERE stat_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public StreakCalculator(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J: fetchSize = Integer.MIN_VALUE 이면 결과를 한 행씩 스트리밍
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * 전체 사용자의 [from, to] 기간 연속 달성 일수 재계산
+     * (트랜잭션 밖에서 호출: 스트리밍 조회 연결과 UPDATE 연결을 분리하기 위함)
+     * @return 갱신된 행 수
+     */
+    public int recompute(LocalDate from, LocalDate to) {
+        StreakScanner scanner = new StreakScanner(from, true, this::applyUpdates);
+        streamingJdbcTemplate.query(SCAN_ALL_SQL,
+                ps -> {
+                    ps.setDate(1, Date.valueOf(from.minusDays(1)));
+                    ps.setDate(2, Date.valueOf(to));
+                },
+                (RowCallbackHandler) rs -> scanner.accept(rs.getLong("stat_id"), rs.getLong("user_id"),
+                        rs.getDate("stat_date").toLocalDate(), rs.getBoolean("goal_achieved"),
+                        rs.getInt("consecutive_achieved_days")));
+        scanner.flush();
+
+        log.info("Streak recompute for {} ~ {} complete. Updated rows: {}", from, to, scanner.getUpdated());
+        return scanner.getUpdated();
+    }
+
+    /**
+     * 사용자 한 명의 [from, to] 기간 연속 달성 일수 재계산
+     * (호출 측 트랜잭션에 참여, 세션 증분 반영/재집계 직후 이후 날짜까지 연쇄 보정)
+     * @return 갱신된 행 수
+     */
+    public int recomputeForUser(Long userId, LocalDate from, LocalDate to) {
+        StreakScanner scanner = new StreakScanner(from, false, this::applyUpdates);
+        jdbcTemplate.query(SCAN_USER_SQL,
+                ps -> {
+                    ps.setLong(1, userId);
+                    ps.setDate(2, Date.valueOf(from.minusDays(1)));
+                    ps.setDate(3, Date.valueOf(to));
+                },
+                (RowCallbackHandler) rs -> scanner.accept(rs.getLong("stat_id"), rs.getLong("user_id"),
+                        rs.getDate("stat_date").toLocalDate(), rs.getBoolean("goal_achieved"),
+                        rs.getInt("consecutive_achieved_days")));
+        scanner.flush();
+        return scanner.getUpdated();
+    }
+
+    /**
+     * 변경분 배치 UPDATE ([consecutive_achieved_days, stat_id] 목록)
+     */
+    private void applyUpdates(List<Object[]> updates) {
+        for (int i = 0; i < updates.size(); i += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates.subList(i, Math.min(updates.size(), i + BATCH_SIZE)));
+        }
+    }
+
+    /**
+     * (user_id, stat_date) 순서로 들어오는 행을 받아 연속 일수를 계산하고 변경분을 모아 반영
+     * (DB 접근은 writer에 위임)
+     */
+    static class StreakScanner {
+        private final LocalDate from;
+        private final boolean flushWhileScanning;
+        private final Consumer<List<Object[]>> writer;
+        private final List<Object[]> pending = new ArrayList<>(BATCH_SIZE);
+
+        private long currentUserId = -1;
+        private LocalDate prevDate;
+        private int prevDays;
+        private int updated;
+
+        /**
+         * @param flushWhileScanning 스캔 중 BATCH_SIZE마다 반영할지 여부 (false면 flush 호출 시 한 번에 반영)
+         * @param writer 변경분 반영 ([consecutive_achieved_days, stat_id] 목록)
+         */
+        StreakScanner(LocalDate from, boolean flushWhileScanning, Consumer<List<Object[]>> writer) {
+            this.from = from;
+            this.flushWhileScanning = flushWhileScanning;
+            this.writer = writer;
+        }
+
+        void accept(long statId, long userId, LocalDate statDate, boolean goalAchieved, int storedDays) {
+            if (userId != currentUserId) {
+                currentUserId = userId;
+                prevDate = null;
+                prevDays = 0;
+            }
+
+            // 기간 시작 전날: 저장된 값을 시작값으로만 사용
+            if (statDate.isBefore(from)) {
+                prevDate = statDate;
+                prevDays = goalAchieved ? storedDays : 0;
+                return;
+            }
+
+            int days;
+            if (!goalAchieved) {
+                days = 0;
+            } else if (prevDate != null && prevDate.plusDays(1).equals(statDate)) {
+                days = prevDays + 1;
+            } else {
+                days = 1;
+            }
+
+            if (days != storedDays) {
+                pending.add(new Object[]{days, statId});
+                // 스트리밍 조회 중에는 별도 연결로 중간 반영 (사용자별 조회는 마지막에 한 번에 반영)
+                if (flushWhileScanning && pending.size() >= BATCH_SIZE) {
+                    flush();
+                }
+            }
+            prevDate = statDate;
+            prevDays = days;
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            writer.accept(pending);
+            updated += pending.size();
+            pending.clear();
+        }
+
+        int getUpdated() {
+            return updated;
+        }
+    }
+}
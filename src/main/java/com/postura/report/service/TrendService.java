@@ -0,0 +1,166 @@
+package com.postura.report.service;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.dto.report.TrendResponse;
+import com.postura.report.domain.LttbDownsampler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 장기 추이 그래프 서비스 (일별 aggregate_stat / 시간대별 hourly_stat)
+ *
+ * - 원본 행을 MySQL 스트리밍 결과셋으로 두 번 읽으며 LTTB로 목표 포인트 수까지 다운샘플링
+ * - 메모리는 목표 포인트 수에 비례하고, 응답 크기는 기간 길이와 무관
+ * - 스트리밍 조회는 연결을 점유하므로 트랜잭션 밖에서 실행
+ */
+@Service
+@Slf4j
+public class TrendService {
+
+    public enum Resolution { DAY, HOUR }
+
+    public enum Metric { RATIO, WARNINGS }
+
+    public static final int DEFAULT_POINTS = 300;
+    private static final int MIN_POINTS = 3;
+    private static final int MAX_POINTS = 2000;
+
+    // 원본 단위별 최대 조회 기간 (일)
+    private static final long MAX_DAY_RANGE_DAYS = 3660;
+    private static final long MAX_HOUR_RANGE_DAYS = 366;
+
+    private static final String DAILY_SQL = """
+        SELECT stat_date, correct_ratio, total_warning_count
+          FROM aggregate_stat
+         WHERE user_id = ? AND stat_date BETWEEN ? AND ?
+         ORDER BY stat_date
+        """;
+
+    private static final String HOURLY_SQL = """
+        SELECT stat_date, stat_hour, good_count, total_count, warning_count
+          FROM hourly_stat
+         WHERE user_id = ? AND stat_date BETWEEN ? AND ? AND total_count > 0
+         ORDER BY stat_date, stat_hour
+        """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public TrendService(DataSource dataSource) {
+        // MySQL Connector/J: fetchSize = Integer.MIN_VALUE 이면 결과를 한 행씩 스트리밍
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    public TrendResponse getTrend(Long userId, LocalDate from, LocalDate to,
+                                  String resolutionParam, String metricParam, int points) {
+        Resolution resolution = parse(Resolution.class, resolutionParam, "resolution");
+        Metric metric = parse(Metric.class, metricParam, "metric");
+
+        if (to.isBefore(from)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 종료일은 시작일보다 빠를 수 없습니다.");
+        }
+        long maxDays = resolution == Resolution.DAY ? MAX_DAY_RANGE_DAYS : MAX_HOUR_RANGE_DAYS;
+        if (ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+        if (points < MIN_POINTS || points > MAX_POINTS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE,
+                    "points는 " + MIN_POINTS + " ~ " + MAX_POINTS + " 사이여야 합니다.");
+        }
+
+        LttbDownsampler sampler = new LttbDownsampler(
+                toX(from.atStartOfDay()), toX(to.atTime(23, 0)), points);
+
+        // 1차 패스: 버킷 평균
+        stream(userId, from, to, resolution, metric, sampler::observe);
+        // 2차 패스: 버킷별 대표 포인트 선택 (원본이 목표 이하이면 생략)
+        if (sampler.needsSecondPass()) {
+            stream(userId, from, to, resolution, metric, sampler::select);
+        }
+
+        List<TrendResponse.TrendPoint> result = sampler.result().stream()
+                .map(p -> TrendResponse.TrendPoint.builder()
+                        .at(fromX(p.x()))
+                        .value(Math.round(p.y() * 100.0) / 100.0)
+                        .build())
+                .toList();
+
+        return TrendResponse.builder()
+                .from(from)
+                .to(to)
+                .resolution(resolution.name())
+                .metric(metric.name())
+                .sourceCount(sampler.getObserved())
+                .points(result)
+                .build();
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    @FunctionalInterface
+    private interface PointSink {
+        void accept(double x, double y);
+    }
+
+    private void stream(Long userId, LocalDate from, LocalDate to,
+                        Resolution resolution, Metric metric, PointSink sink) {
+        String sql = resolution == Resolution.DAY ? DAILY_SQL : HOURLY_SQL;
+        streamingJdbcTemplate.query(sql,
+                ps -> {
+                    ps.setLong(1, userId);
+                    ps.setDate(2, Date.valueOf(from));
+                    ps.setDate(3, Date.valueOf(to));
+                },
+                rs -> {
+                    if (resolution == Resolution.DAY) {
+                        LocalDateTime at = rs.getDate("stat_date").toLocalDate().atStartOfDay();
+                        double value = metric == Metric.RATIO
+                                ? rs.getDouble("correct_ratio")
+                                : rs.getInt("total_warning_count");
+                        sink.accept(toX(at), value);
+                    } else {
+                        LocalDateTime at = rs.getDate("stat_date").toLocalDate().atTime(rs.getInt("stat_hour"), 0);
+                        sink.accept(toX(at), hourlyValue(rs, metric));
+                    }
+                });
+    }
+
+    private static double hourlyValue(ResultSet rs, Metric metric) throws SQLException {
+        if (metric == Metric.WARNINGS) {
+            return rs.getLong("warning_count");
+        }
+        return (double) rs.getLong("good_count") / rs.getLong("total_count") * 100.0;
+    }
+
+    // x축: UTC 기준 epoch 초 (시간대 변환 없이 상대 간격만 사용)
+    private static double toX(LocalDateTime at) {
+        return at.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromX(double x) {
+        return LocalDateTime.ofEpochSecond(Math.round(x), 0, ZoneOffset.UTC);
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, name + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+}
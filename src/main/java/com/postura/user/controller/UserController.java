@@ -0,0 +1,59 @@
+package com.postura.user.controller;
+
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.user.service.CustomUserDetails;
+import com.postura.user.service.UserDataPurgeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사용자 계정 관리 API
+ */
+@RestController
+@RequestMapping("/api/user")
+@RequiredArgsConstructor
+@Slf4j
+public class UserController {
+
+    private final UserDataPurgeService userDataPurgeService;
+
+    // *************************************************************
+    // JWT 인증된 사용자 ID를 SecurityContext에서 추출하는 헬퍼 메서드
+    // *************************************************************
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated() || authentication.getPrincipal().equals("anonymousUser")) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+
+        Object principal = authentication.getPrincipal();
+
+        if (principal instanceof CustomUserDetails) {
+            return ((CustomUserDetails) principal).getUserId();
+        }
+
+        throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, "인증된 사용자 ID 추출 실패: Principal 타입 불일치");
+    }
+
+    /**
+     * [DELETE /api/user/me] 회원 탈퇴
+     * 계정 비활성화와 토큰 무효화(재발급 차단 + 발급된 Access Token 거부)를 먼저 처리하고,
+     * 사용자 데이터는 백그라운드에서 청크 단위로 삭제
+     * @return 202 Accepted
+     */
+    @DeleteMapping("/me")
+    public ResponseEntity<Void> deleteMyAccount() {
+        Long userId = getAuthenticatedUserId();
+        userDataPurgeService.requestPurge(userId);
+        userDataPurgeService.purge(userId);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "users")
 @Getter
@@ -42,6 +44,10 @@ public class User extends BaseTimeEntity {
     @Column(name = "provider_id")
     private String providerId;
 
+    // 탈퇴 요청 시각 (null이 아니면 로그인/재발급 불가, 데이터 삭제 진행 중)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     /**
      * Role enum
      */
@@ -95,6 +101,19 @@ public class User extends BaseTimeEntity {
         this.passwordHash = passwordHash;
     }
 
+    /**
+     * 탈퇴 처리 (계정 비활성화, 데이터 삭제 전 호출)
+     */
+    public void markDeleted() {
+        if (this.deletedAt == null) {
+            this.deletedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
+
     /**
      * OAuth2 로그인 시 사용자 프로필 업데이트
      *
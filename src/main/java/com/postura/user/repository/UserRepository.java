@@ -2,8 +2,12 @@ package com.postura.user.repository;
 
 import com.postura.user.entity.User;
 import com.postura.user.entity.User.AuthProvider;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,4 +29,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * OAuth 로그인용 (provider + providerId)
      */
     Optional<User> findByProviderAndProviderId(AuthProvider provider, String providerId);
+
+    /**
+     * 배치 작업용 사용자 ID keyset 조회 (엔티티 로딩 없이 ID만 조회)
+     */
+    @Query("select u.id from User u where u.id > :afterId order by u.id asc")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
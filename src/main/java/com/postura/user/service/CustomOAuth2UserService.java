@@ -65,6 +65,14 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         if (existingOpt.isPresent()) {
             User existing = existingOpt.get();
 
+            // 탈퇴 처리 중인 계정은 데이터 삭제가 끝날 때까지 로그인 불가
+            if (existing.isDeleted()) {
+                throw new OAuth2AuthenticationException(
+                        new OAuth2Error("account_deleted"),
+                        "탈퇴 처리 중인 계정입니다."
+                );
+            }
+
             // ✅ provider mismatch는 OAuth2AuthenticationException으로 던져야 failureHandler가 잡고 프론트로 리다이렉트됨
             if (existing.getProvider() != null && attributes.getProvider() != null
                     && existing.getProvider() != attributes.getProvider()) {
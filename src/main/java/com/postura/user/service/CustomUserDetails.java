@@ -52,5 +52,7 @@ public class CustomUserDetails implements UserDetails {
     @Override public boolean isAccountNonExpired() { return true; }
     @Override public boolean isAccountNonLocked() { return true; }
     @Override public boolean isCredentialsNonExpired() { return true; }
-    @Override public boolean isEnabled() { return true; }
+
+    // 탈퇴 처리된 계정은 비활성 (로컬 로그인 시 DisabledException)
+    @Override public boolean isEnabled() { return !user.isDeleted(); }
 }
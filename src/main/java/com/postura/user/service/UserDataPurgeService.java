@@ -0,0 +1,208 @@
+package com.postura.user.service;
+
+import com.postura.auth.repository.RefreshTokenRepository;
+import com.postura.auth.service.TokenRevocationService;
+import com.postura.common.exception.CustomException;
+import com.postura.common.exception.ErrorCode;
+import com.postura.common.lock.RedisJobLock;
+import com.postura.common.retention.RetentionCheckpoint;
+import com.postura.common.retention.RetentionCheckpointRepository;
+import com.postura.common.retention.RetentionEngine;
+import com.postura.common.retention.RetentionResult;
+import com.postura.common.retention.RetentionTask;
+import com.postura.monitor.service.ActiveSessionRegistry;
+import com.postura.monitor.service.RealtimeFeedbackService;
+import com.postura.report.service.ReportCache;
+import com.postura.user.entity.User;
+import com.postura.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원 탈퇴 시 사용자의 모든 데이터를 비동기로 삭제하는 서비스
+ *
+ * 처리 순서
+ * 1. requestPurge (요청 스레드) : 계정 비활성화(deleted_at) + Refresh Token 삭제 + Access Token 무효화
+ *    + 탈퇴 작업 체크포인트(user-purge:{userId}) 기록 -> 이후에는 어떤 토큰으로도 새 데이터가 쓰이지 않음
+ * 2. purge (@Async) : 테이블별로 RetentionEngine 청크 삭제 (자식 테이블 -> monitoring_session -> users 순)
+ *    - 자식 테이블 삭제 후 진행 중이던 요청이 쓴 행 때문에 users 삭제가 외래 키 위반으로 실패하면
+ *      자식 테이블부터 다시 삭제 (MAX_DELETE_ATTEMPTS 회까지)
+ * 3. 서버 재시작 시 RUNNING으로 남은 탈퇴 작업을 이어서 처리 (테이블별 체크포인트로 삭제 위치 재개)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserDataPurgeService {
+
+    private final RetentionEngine retentionEngine;
+    private final RetentionCheckpointRepository checkpointRepository;
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final ActiveSessionRegistry activeSessionRegistry;
+    private final RealtimeFeedbackService realtimeFeedbackService;
+    private final ReportCache reportCache;
+    private final RedisJobLock redisJobLock;
+
+    private static final String JOB_NAME = "user-data-purge";
+    private static final Duration LOCK_TTL = Duration.ofHours(2);
+
+    // users 삭제가 외래 키 위반으로 실패할 때 전체 테이블 삭제 재시도 횟수
+    private static final int MAX_DELETE_ATTEMPTS = 3;
+
+    // 탈퇴 작업 전체 체크포인트 / 테이블별 삭제 작업 키 접두사
+    private static final String PURGE_KEY_PREFIX = "user-purge:";
+    private static final String TABLE_KEY_PREFIX = "user-data:";
+
+    /**
+     * 삭제 순서 (테이블, 기본 키 컬럼) - 외래 키가 있는 자식 테이블을 먼저 삭제
+     */
+    private static final List<String[]> USER_TABLES = List.of(
+            new String[]{"posture_log", "log_id"},
+            new String[]{"session_timeline", "session_id"},
+            new String[]{"session_outbox", "outbox_id"},
+            new String[]{"hourly_stat", "hourly_stat_id"},
+            new String[]{"minute_stat", "minute_stat_id"},
+            new String[]{"weekly_stat", "weekly_stat_id"},
+            new String[]{"monthly_stat", "monthly_stat_id"},
+            new String[]{"aggregate_stat", "stat_id"},
+            new String[]{"monitoring_session", "session_id"},
+            new String[]{"refresh_token", "user_id"},
+            new String[]{"users", "user_id"}
+    );
+
+    /**
+     * 탈퇴 요청 접수 (이후 purge를 호출하여 비동기 삭제 시작)
+     */
+    public void requestPurge(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        // 1. 계정 비활성화 (로컬/소셜 로그인, 토큰 재발급 차단)
+        user.markDeleted();
+        userRepository.save(user);
+
+        // 2. 토큰 무효화 (Refresh Token 삭제 + 이미 발급된 Access Token 거부)
+        refreshTokenRepository.deleteById(userId);
+        tokenRevocationService.revokeAll(userId);
+
+        // 3. 탈퇴 작업 기록 (삭제 도중 서버가 종료되어도 재시작 시 이어서 처리)
+        String purgeKey = PURGE_KEY_PREFIX + userId;
+        RetentionCheckpoint checkpoint = checkpointRepository.findById(purgeKey)
+                .orElseGet(() -> RetentionCheckpoint.start(purgeKey));
+        if (!checkpoint.isRunning()) {
+            checkpoint.restart();
+        }
+        checkpointRepository.save(checkpoint);
+
+        // 4. 실시간 캐시 정리
+        activeSessionRegistry.findActiveSessionId(userId)
+                .ifPresent(sessionId -> activeSessionRegistry.remove(sessionId, userId));
+        realtimeFeedbackService.clearUserCache(userId);
+
+        log.info("Account deletion requested for UserId {}", userId);
+    }
+
+    /**
+     * 사용자 데이터 삭제 (백그라운드 실행)
+     */
+    @Async
+    public void purge(Long userId) {
+        try {
+            executePurge(userId);
+        } catch (Exception e) {
+            log.error("User data purge failed for UserId {} (will resume on restart): {}", userId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 서버 재시작 시 중단된 탈퇴 작업 이어서 처리
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        redisJobLock.runExclusively(JOB_NAME, LOCK_TTL, () -> {
+            for (RetentionCheckpoint checkpoint : checkpointRepository.findAllByStatusAndTaskKeyStartingWith(
+                    RetentionCheckpoint.Status.RUNNING, PURGE_KEY_PREFIX)) {
+                Long userId = Long.valueOf(checkpoint.getTaskKey().substring(PURGE_KEY_PREFIX.length()));
+                log.info("Resuming user data purge for UserId {}", userId);
+                try {
+                    executePurge(userId);
+                } catch (Exception e) {
+                    log.error("User data purge failed for UserId {}: {}", userId, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    // *************************************************************
+    // 내부 처리 로직
+    // *************************************************************
+
+    private void executePurge(Long userId) {
+        long startedAt = System.currentTimeMillis();
+        long totalDeleted = 0;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Long deleted = deleteUserRows(userId);
+                if (deleted == null) {
+                    return;
+                }
+                totalDeleted += deleted;
+                break;
+            } catch (DataIntegrityViolationException e) {
+                // 자식 테이블 삭제 이후 들어온 행이 남아 있음 -> 완료된 테이블 체크포인트는 처음부터 다시 삭제
+                if (attempt >= MAX_DELETE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("User data purge for UserId {} hit a foreign key violation (attempt {}). Retrying from child tables",
+                        userId, attempt);
+            }
+        }
+
+        // 완료 기록 후 테이블별 체크포인트 정리
+        String purgeKey = PURGE_KEY_PREFIX + userId;
+        RetentionCheckpoint checkpoint = checkpointRepository.findById(purgeKey)
+                .orElseGet(() -> RetentionCheckpoint.start(purgeKey));
+        checkpoint.complete(totalDeleted);
+        checkpointRepository.save(checkpoint);
+        checkpointRepository.deleteAllByPrefix(TABLE_KEY_PREFIX + userId + ":");
+
+        reportCache.invalidateUser(userId);
+
+        log.info("User data purge completed for UserId {}: {} rows deleted in {}ms",
+                userId, totalDeleted, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * USER_TABLES 순서대로 사용자 행 삭제
+     * @return 삭제된 행 수 (중단되면 null)
+     */
+    private Long deleteUserRows(Long userId) {
+        long deleted = 0;
+        for (String[] table : USER_TABLES) {
+            RetentionResult result = retentionEngine.run(RetentionTask.builder()
+                    .taskKey(TABLE_KEY_PREFIX + userId + ":" + table[0])
+                    .table(table[0])
+                    .idColumn(table[1])
+                    .condition("user_id = ?")
+                    .param(userId)
+                    .build());
+            if (!result.completed()) {
+                log.warn("User data purge for UserId {} interrupted at table {}", userId, table[0]);
+                return null;
+            }
+            deleted += result.deletedRows();
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,99 @@
+package com.postura.ai.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostureLogArchiveCodecTest {
+
+	private record Row(long logId, long sessionId, int offsetMillis, int mask) {
+	}
+
+	@Test
+	void encodeThenDecodeRestoresEveryRow() {
+		// 세션 2개, 세션 안에서 log_id가 시각 순서와 어긋나는 행 포함 (@Async 저장)
+		List<Row> rows = List.of(
+				new Row(1_000_105, 42, 1_000, 0b001),
+				new Row(1_000_103, 42, 1_000, 0b010),
+				new Row(1_000_110, 42, 2_500, 0),
+				new Row(2_000_001, 977, 86_000_000, 0b1000_0000),
+				new Row(2_000_000, 977, 86_399_999, 0b101));
+
+		assertThat(roundTrip(rows, 0, Integer.MAX_VALUE)).isEqualTo(rows);
+	}
+
+	@Test
+	void largeBlockRoundTripsAcrossWriterGrowth() {
+		Random random = new Random(7);
+		List<Row> rows = new ArrayList<>();
+		int offset = 0;
+		long logId = 5_000_000;
+		long sessionId = 10;
+		for (int i = 0; i < 5_000; i++) {
+			offset += random.nextInt(1_500);
+			logId += random.nextInt(5) - 1;
+			if (i % 700 == 0) {
+				sessionId += 1 + random.nextInt(3);
+			}
+			rows.add(new Row(logId, sessionId, offset, random.nextInt(256)));
+		}
+
+		assertThat(roundTrip(rows, 0, Integer.MAX_VALUE)).isEqualTo(rows);
+	}
+
+	@Test
+	void decodeVisitsOnlyRowsInHalfOpenRange() {
+		List<Row> rows = List.of(
+				new Row(1, 7, 100, 1),
+				new Row(2, 7, 200, 2),
+				new Row(3, 8, 300, 4),
+				new Row(4, 8, 400, 8));
+
+		assertThat(roundTrip(rows, 200, 400)).containsExactly(rows.get(1), rows.get(2));
+		assertThat(roundTrip(rows, 500, 600)).isEmpty();
+	}
+
+	@Test
+	void writerCanBeReusedAfterReset() {
+		PostureLogArchiveCodec.BlockWriter writer = new PostureLogArchiveCodec.BlockWriter();
+		writer.add(1, 1, 10, 1);
+		writer.encode();
+
+		writer.reset();
+		writer.add(9, 3, 50, 2);
+		writer.add(10, 3, 60, 4);
+
+		assertThat(writer.size()).isEqualTo(2);
+		assertThat(writer.firstOffsetMillis()).isEqualTo(50);
+		assertThat(writer.lastOffsetMillis()).isEqualTo(60);
+		List<Row> decoded = new ArrayList<>();
+		PostureLogArchiveCodec.decode(writer.encode(), 0, Integer.MAX_VALUE,
+				(logId, sessionId, offsetMillis, mask) -> decoded.add(new Row(logId, sessionId, offsetMillis, mask)));
+		assertThat(decoded).containsExactly(new Row(9, 3, 50, 2), new Row(10, 3, 60, 4));
+	}
+
+	@Test
+	void rowsOutOfTimestampOrderAreRejected() {
+		PostureLogArchiveCodec.BlockWriter writer = new PostureLogArchiveCodec.BlockWriter();
+		writer.add(1, 1, 500, 0);
+
+		assertThatThrownBy(() -> writer.add(2, 1, 499, 0))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<Row> roundTrip(List<Row> rows, int fromMillis, int toMillis) {
+		PostureLogArchiveCodec.BlockWriter writer = new PostureLogArchiveCodec.BlockWriter();
+		rows.forEach(row -> writer.add(row.logId(), row.sessionId(), row.offsetMillis(), row.mask()));
+
+		List<Row> decoded = new ArrayList<>();
+		int visited = PostureLogArchiveCodec.decode(writer.encode(), fromMillis, toMillis,
+				(logId, sessionId, offsetMillis, mask) -> decoded.add(new Row(logId, sessionId, offsetMillis, mask)));
+		assertThat(visited).isEqualTo(decoded.size());
+		return decoded;
+	}
+}
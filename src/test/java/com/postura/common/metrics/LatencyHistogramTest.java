@@ -0,0 +1,86 @@
+package com.postura.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+	@Test
+	void valuesBelowLinearLimitAreExact() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long ms = 1; ms <= 60; ms++) {
+			histogram.record(ms);
+		}
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+		assertThat(snapshot.getCount()).isEqualTo(60);
+		assertThat(snapshot.percentile(50)).isEqualTo(30);
+		assertThat(snapshot.percentile(95)).isEqualTo(57);
+		assertThat(snapshot.percentile(100)).isEqualTo(60);
+		assertThat(snapshot.getMean()).isEqualTo(30.5);
+	}
+
+	@Test
+	void largerValuesStayWithinBucketErrorAndNeverExceedMax() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long ms = 1; ms <= 10_000; ms++) {
+			histogram.record(ms);
+		}
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+		// 백분위는 버킷 상한 기준 -> 실제 값 이상, 상대 오차 1/16 이내
+		for (double percentile : new double[]{50, 90, 99, 99.9}) {
+			long expected = (long) Math.ceil(percentile / 100.0 * 10_000);
+			assertThat(snapshot.percentile(percentile))
+					.isGreaterThanOrEqualTo(expected)
+					.isLessThanOrEqualTo(expected + expected / 16);
+		}
+		assertThat(snapshot.percentile(100)).isEqualTo(10_000);
+		assertThat(snapshot.getMax()).isEqualTo(10_000);
+	}
+
+	@Test
+	void negativeValuesAreRecordedAsZeroAndCounted() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		histogram.record(10);
+
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+		assertThat(snapshot.getCount()).isEqualTo(2);
+		assertThat(snapshot.getNegativeCount()).isEqualTo(1);
+		assertThat(snapshot.percentile(50)).isZero();
+		assertThat(snapshot.getMean()).isEqualTo(5.0);
+	}
+
+	@Test
+	void resetClearsDistribution() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-1);
+		histogram.record(250);
+
+		histogram.reset();
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+		assertThat(snapshot.getCount()).isZero();
+		assertThat(snapshot.getNegativeCount()).isZero();
+		assertThat(snapshot.getMax()).isZero();
+		assertThat(snapshot.getMean()).isZero();
+		assertThat(snapshot.percentile(99)).isZero();
+	}
+
+	@Test
+	void snapshotIsNotAffectedByLaterRecords() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(3);
+		LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+		histogram.record(500);
+
+		assertThat(snapshot.getCount()).isEqualTo(1);
+		assertThat(snapshot.percentile(100)).isEqualTo(3);
+	}
+}
@@ -0,0 +1,55 @@
+package com.postura.content.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MediaControllerTest {
+
+	private static final String ETAG = "\"0cc175b9c0f1b6a831c399e269772661\"";
+
+	@Test
+	void ifNoneMatchAcceptsListsWeakTagsAndWildcard() {
+		assertThat(MediaController.matchesEtag(ETAG, ETAG)).isTrue();
+		assertThat(MediaController.matchesEtag("\"other\", " + ETAG, ETAG)).isTrue();
+		assertThat(MediaController.matchesEtag("W/" + ETAG, ETAG)).isTrue();
+		assertThat(MediaController.matchesEtag("*", ETAG)).isTrue();
+	}
+
+	@Test
+	void ifNoneMatchRejectsMissingOrDifferentTag() {
+		assertThat(MediaController.matchesEtag(null, ETAG)).isFalse();
+		assertThat(MediaController.matchesEtag("\"other\"", ETAG)).isFalse();
+		// 따옴표 없는 값은 다른 태그
+		assertThat(MediaController.matchesEtag(ETAG.replace("\"", ""), ETAG)).isFalse();
+	}
+
+	@Test
+	void rangeReturnsHalfOpenBounds() {
+		assertThat(MediaController.parseRange("bytes=0-99", 1_000)).containsExactly(0, 100);
+		assertThat(MediaController.parseRange("bytes=500-", 1_000)).containsExactly(500, 1_000);
+		assertThat(MediaController.parseRange("bytes=-200", 1_000)).containsExactly(800, 1_000);
+	}
+
+	@Test
+	void rangeIsClampedToLength() {
+		assertThat(MediaController.parseRange("bytes=900-5000", 1_000)).containsExactly(900, 1_000);
+		assertThat(MediaController.parseRange("bytes=-5000", 1_000)).containsExactly(0, 1_000);
+	}
+
+	@Test
+	void unsatisfiableRangeReturnsNull() {
+		assertThat(MediaController.parseRange("bytes=1000-", 1_000)).isNull();
+		assertThat(MediaController.parseRange("bytes=50-10", 1_000)).isNull();
+		assertThat(MediaController.parseRange("bytes=-0", 1_000)).isNull();
+		assertThat(MediaController.parseRange("bytes=0-", 0)).isNull();
+	}
+
+	@Test
+	void unsupportedRangeFallsBackToFullResponse() {
+		assertThat(MediaController.parseRange("items=0-10", 1_000)).isEmpty();
+		assertThat(MediaController.parseRange("bytes=0-10,20-30", 1_000)).isEmpty();
+		assertThat(MediaController.parseRange("bytes=abc", 1_000)).isEmpty();
+		assertThat(MediaController.parseRange("bytes=x-10", 1_000)).isEmpty();
+	}
+}
@@ -0,0 +1,68 @@
+package com.postura.content.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+	private static final List<String> TITLES = Arrays.asList(
+			"거북목 교정 스트레칭",
+			"북목거북 (연속되지 않은 n-gram)",
+			"어깨 스트레칭",
+			"Neck Stretch",
+			null,
+			"목 돌리기");
+
+	private final NgramIndex index = NgramIndex.build(TITLES);
+
+	@Test
+	void multiCharacterTermRequiresContiguousMatch() {
+		// 1번 문서는 "거북", "북목"을 모두 포함하지만 "거북목"은 없음
+		assertThat(index.matches("거북목")).containsExactly(0);
+	}
+
+	@Test
+	void shortTermsUseUnigramAndBigramPostings() {
+		assertThat(index.matches("목")).containsExactly(0, 1, 5);
+		assertThat(index.matches("스트")).containsExactly(0, 2);
+	}
+
+	@Test
+	void matchingIsCaseInsensitiveAfterNormalize() {
+		assertThat(index.matches(NgramIndex.normalize("  NECK "))).containsExactly(3);
+		assertThat(index.matches(NgramIndex.normalize("stretch"))).containsExactly(3);
+	}
+
+	@Test
+	void missingOrEmptyTermMatchesNothing() {
+		assertThat(index.matches("허리")).isEmpty();
+		assertThat(index.matches("")).isEmpty();
+		assertThat(index.size()).isEqualTo(TITLES.size());
+	}
+
+	@Test
+	void matchesAgreeWithSubstringSearch() {
+		List<String> terms = new ArrayList<>();
+		for (String title : TITLES) {
+			String text = NgramIndex.normalize(title);
+			for (int start = 0; start < text.length(); start++) {
+				for (int end = start + 1; end <= Math.min(text.length(), start + 5); end++) {
+					terms.add(text.substring(start, end));
+				}
+			}
+		}
+
+		for (String term : terms) {
+			int[] expected = IntStream.range(0, TITLES.size())
+					.filter(doc -> NgramIndex.normalize(TITLES.get(doc)).contains(term))
+					.toArray();
+			assertThat(index.matches(term)).as(term).containsExactly(expected);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.postura.content.service;
+
+import com.postura.config.properties.AppProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MediaLibraryTest {
+
+	private static final byte[] CONTENT = "posture".getBytes(StandardCharsets.UTF_8);
+	private static final String HASH = DigestUtils.md5DigestAsHex(CONTENT);
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void indexesFilesByOriginalAndFingerprintedPath() throws Exception {
+		MediaLibrary library = load("images/test/neck.png", CONTENT);
+
+		MediaLibrary.MediaFile media = library.find("/images/test/neck.png").orElseThrow();
+
+		assertThat(media.fingerprintedPath()).isEqualTo("/images/test/neck-" + HASH + ".png");
+		assertThat(media.etag()).isEqualTo("\"" + HASH + "\"");
+		assertThat(media.length()).isEqualTo(CONTENT.length);
+		assertThat(media.mediaType()).isEqualTo(MediaType.IMAGE_PNG);
+		assertThat(library.find(media.fingerprintedPath())).contains(media);
+		assertThat(library.find("/images/test/missing.png")).isEmpty();
+		assertThat(library.find("/etc/passwd")).isEmpty();
+	}
+
+	@Test
+	void resolveUrlRewritesOnlyIndexedLocalPaths() throws Exception {
+		MediaLibrary library = load("photo/test/guide.jpg", CONTENT);
+
+		assertThat(library.resolveUrl("/photo/test/guide.jpg")).isEqualTo("/photo/test/guide-" + HASH + ".jpg");
+		assertThat(library.resolveUrl("photo/test/guide.jpg")).isEqualTo("/photo/test/guide-" + HASH + ".jpg");
+		assertThat(library.resolveUrl("/photo/test/other.jpg")).isEqualTo("/photo/test/other.jpg");
+		assertThat(library.resolveUrl("https://cdn.example.com/a.jpg")).isEqualTo("https://cdn.example.com/a.jpg");
+		assertThat(library.resolveUrl(null)).isNull();
+	}
+
+	@Test
+	void temporaryFilesAreNotIndexed() throws Exception {
+		MediaLibrary library = load("videos/test/.extract-123.tmp", CONTENT);
+
+		assertThat(library.find("/videos/test/.extract-123.tmp")).isEmpty();
+	}
+
+	private MediaLibrary load(String relativePath, byte[] content) throws Exception {
+		Path file = directory.resolve(relativePath);
+		Files.createDirectories(file.getParent());
+		Files.write(file, content);
+
+		AppProperties properties = new AppProperties();
+		properties.getMedia().setDirectory(directory.toString());
+		MediaLibrary library = new MediaLibrary(properties);
+		library.reload();
+		return library;
+	}
+}
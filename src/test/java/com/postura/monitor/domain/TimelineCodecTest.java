@@ -0,0 +1,100 @@
+package com.postura.monitor.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimelineCodecTest {
+
+	@Test
+	void encodeThenForEachRunRestoresEverySecond() {
+		byte[] perSecond = {1, 1, 1, 0, 0, 4, 4, 4, 4, 1};
+
+		byte[] encoded = TimelineCodec.encode(perSecond);
+
+		assertThat(TimelineCodec.totalSeconds(encoded)).isEqualTo(perSecond.length);
+		assertThat(decode(encoded)).isEqualTo(perSecond);
+	}
+
+	@Test
+	void longRunsAreCompressedWithMultiByteLengths() {
+		// 3시간 같은 자세 -> [버전][전체 초 varint 2바이트][길이 varint 2바이트][마스크]
+		byte[] perSecond = new byte[10_800];
+		Arrays.fill(perSecond, (byte) 2);
+
+		byte[] encoded = TimelineCodec.encode(perSecond);
+
+		assertThat(encoded).hasSize(6);
+		assertThat(decode(encoded)).isEqualTo(perSecond);
+	}
+
+	@Test
+	void emptyTimelineHasNoRuns() {
+		byte[] encoded = TimelineCodec.encode(new byte[0]);
+
+		assertThat(TimelineCodec.totalSeconds(encoded)).isZero();
+		assertThat(TimelineCodec.totalSeconds(null)).isZero();
+		List<int[]> runs = new ArrayList<>();
+		TimelineCodec.forEachRun(encoded, (start, length, mask) -> runs.add(new int[]{start, length, mask}));
+		assertThat(runs).isEmpty();
+	}
+
+	@Test
+	void forEachBucketOrsMasksAndEmitsTrailingPartialBucket() {
+		// 0~4초: 1,1,2,0,0 / 5~9초: 0,0,0,0,0 / 10~11초: 4,4
+		byte[] perSecond = {1, 1, 2, 0, 0, 0, 0, 0, 0, 0, 4, 4};
+
+		List<Integer> masks = new ArrayList<>();
+		TimelineCodec.forEachBucket(TimelineCodec.encode(perSecond), 5, (index, mask) -> {
+			assertThat(index).isEqualTo(masks.size());
+			masks.add(mask);
+		});
+
+		assertThat(masks).containsExactly(3, 0, 4);
+	}
+
+	@Test
+	void forEachBucketWithOneSecondResolutionVisitsEachSecond() {
+		byte[] perSecond = {8, 8, 0, 1};
+
+		List<Integer> masks = new ArrayList<>();
+		TimelineCodec.forEachBucket(TimelineCodec.encode(perSecond), 1, (index, mask) -> masks.add(mask));
+
+		assertThat(masks).containsExactly(8, 8, 0, 1);
+	}
+
+	@Test
+	void unknownVersionIsRejected() {
+		byte[] encoded = TimelineCodec.encode(new byte[]{1});
+		encoded[0] = 9;
+
+		assertThatThrownBy(() -> TimelineCodec.totalSeconds(encoded))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void truncatedVarintIsRejected() {
+		// 버전 뒤 전체 초 varint가 연속 비트만 있고 끝남
+		byte[] encoded = {1, (byte) 0x80};
+
+		assertThatThrownBy(() -> TimelineCodec.totalSeconds(encoded))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static byte[] decode(byte[] encoded) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		TimelineCodec.forEachRun(encoded, (start, length, mask) -> {
+			assertThat(start).isEqualTo(out.size());
+			for (int i = 0; i < length; i++) {
+				out.write(mask);
+			}
+		});
+		return out.toByteArray();
+	}
+}
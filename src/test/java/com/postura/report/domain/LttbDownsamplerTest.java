@@ -0,0 +1,86 @@
+package com.postura.report.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LttbDownsamplerTest {
+
+	@Test
+	void rowsWithinTargetAreReturnedAsIs() {
+		LttbDownsampler sampler = new LttbDownsampler(0, 4, 5);
+		for (int x = 0; x <= 4; x++) {
+			sampler.observe(x, x * 10);
+		}
+
+		assertThat(sampler.needsSecondPass()).isFalse();
+		assertThat(sampler.result()).extracting(LttbDownsampler.Point::y)
+				.containsExactly(0.0, 10.0, 20.0, 30.0, 40.0);
+	}
+
+	@Test
+	void downsampledResultKeepsEndpointsAndOrder() {
+		List<LttbDownsampler.Point> result = downsample(1_000, 50, x -> Math.sin(x / 40.0) * 100);
+
+		assertThat(result).hasSizeLessThanOrEqualTo(50);
+		assertThat(result.get(0)).isEqualTo(new LttbDownsampler.Point(0, 0));
+		assertThat(result.get(result.size() - 1).x()).isEqualTo(999);
+		for (int i = 1; i < result.size(); i++) {
+			assertThat(result.get(i).x()).isGreaterThan(result.get(i - 1).x());
+		}
+	}
+
+	@Test
+	void isolatedSpikeIsSelected() {
+		List<LttbDownsampler.Point> result = downsample(1_000, 20, x -> x == 503 ? 1_000 : 0);
+
+		assertThat(result).contains(new LttbDownsampler.Point(503, 1_000));
+	}
+
+	@Test
+	void emptyBucketsAreSkipped() {
+		// 0~9와 990~999에만 데이터 -> 가운데 버킷은 비어 있음
+		LttbDownsampler sampler = new LttbDownsampler(0, 999, 10);
+		for (int pass = 0; pass < 2; pass++) {
+			for (int x = 0; x < 1_000; x++) {
+				if (x >= 10 && x < 990) {
+					continue;
+				}
+				if (pass == 0) {
+					sampler.observe(x, x % 7);
+				} else {
+					sampler.select(x, x % 7);
+				}
+			}
+		}
+
+		List<LttbDownsampler.Point> result = sampler.result();
+
+		assertThat(sampler.getObserved()).isEqualTo(20);
+		assertThat(result).hasSizeBetween(3, 10);
+		assertThat(result.get(0).x()).isZero();
+		assertThat(result.get(result.size() - 1).x()).isEqualTo(999);
+	}
+
+	@Test
+	void fewerThanThreePointsIsRejected() {
+		assertThatThrownBy(() -> new LttbDownsampler(0, 10, 2))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<LttbDownsampler.Point> downsample(int rows, int points, DoubleUnaryOperator y) {
+		LttbDownsampler sampler = new LttbDownsampler(0, rows - 1, points);
+		for (int x = 0; x < rows; x++) {
+			sampler.observe(x, y.applyAsDouble(x));
+		}
+		assertThat(sampler.needsSecondPass()).isTrue();
+		for (int x = 0; x < rows; x++) {
+			sampler.select(x, y.applyAsDouble(x));
+		}
+		return sampler.result();
+	}
+}
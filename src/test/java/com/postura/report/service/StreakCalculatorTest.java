@@ -0,0 +1,102 @@
+package com.postura.report.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreakCalculatorTest {
+
+	private static final LocalDate FROM = LocalDate.of(2026, 3, 10);
+
+	private final List<List<Object[]>> batches = new ArrayList<>();
+
+	@Test
+	void carriesInStoredStreakFromDayBeforeRange() {
+		StreakCalculator.StreakScanner scanner = scanner(false);
+		scanner.accept(1, 7, FROM.minusDays(1), true, 4);
+		scanner.accept(2, 7, FROM, true, 0);
+		scanner.accept(3, 7, FROM.plusDays(1), true, 0);
+		scanner.flush();
+
+		// 시작 전날 행은 다시 계산하지 않음
+		assertThat(updates()).containsExactlyInAnyOrderEntriesOf(Map.of(2L, 5, 3L, 6));
+		assertThat(scanner.getUpdated()).isEqualTo(2);
+	}
+
+	@Test
+	void missedGoalOrMissingDayBreaksStreak() {
+		StreakCalculator.StreakScanner scanner = scanner(false);
+		// 전날 저장값이 있어도 목표 미달이면 시작값 0
+		scanner.accept(1, 7, FROM.minusDays(1), false, 3);
+		scanner.accept(2, 7, FROM, true, 9);
+		scanner.accept(3, 7, FROM.plusDays(1), false, 9);
+		scanner.accept(4, 7, FROM.plusDays(2), true, 9);
+		// 하루 비어 있음 (FROM + 3)
+		scanner.accept(5, 7, FROM.plusDays(4), true, 9);
+		scanner.flush();
+
+		assertThat(updates()).containsExactlyInAnyOrderEntriesOf(Map.of(2L, 1, 3L, 0, 4L, 1, 5L, 1));
+	}
+
+	@Test
+	void userChangeResetsStreak() {
+		StreakCalculator.StreakScanner scanner = scanner(true);
+		scanner.accept(1, 7, FROM, true, 1);
+		scanner.accept(2, 7, FROM.plusDays(1), true, 2);
+		scanner.accept(3, 8, FROM.plusDays(2), true, 3);
+		scanner.flush();
+
+		// 값이 같은 행은 갱신하지 않음
+		assertThat(updates()).containsExactlyInAnyOrderEntriesOf(Map.of(3L, 1));
+		assertThat(scanner.getUpdated()).isEqualTo(1);
+	}
+
+	@Test
+	void flushWhileScanningWritesInBatches() {
+		StreakCalculator.StreakScanner scanner = scanner(true);
+		for (int day = 0; day < 2_500; day++) {
+			scanner.accept(day, day, FROM, true, 0);
+		}
+		assertThat(batches).extracting(List::size).containsExactly(1_000, 1_000);
+
+		scanner.flush();
+
+		assertThat(batches).extracting(List::size).containsExactly(1_000, 1_000, 500);
+		assertThat(scanner.getUpdated()).isEqualTo(2_500);
+	}
+
+	@Test
+	void withoutFlushWhileScanningWritesOnceAtEnd() {
+		StreakCalculator.StreakScanner scanner = scanner(false);
+		for (int day = 0; day < 2_500; day++) {
+			scanner.accept(day, 7, FROM.plusDays(day), true, 0);
+		}
+		assertThat(batches).isEmpty();
+
+		scanner.flush();
+
+		assertThat(batches).extracting(List::size).containsExactly(2_500);
+		assertThat(updates()).containsEntry(2_499L, 2_500);
+	}
+
+	private StreakCalculator.StreakScanner scanner(boolean flushWhileScanning) {
+		// 스캐너는 flush 후 목록을 비우므로 복사해 보관
+		return new StreakCalculator.StreakScanner(FROM, flushWhileScanning, batch -> batches.add(List.copyOf(batch)));
+	}
+
+	private Map<Long, Integer> updates() {
+		Map<Long, Integer> daysByStatId = new HashMap<>();
+		for (List<Object[]> batch : batches) {
+			for (Object[] row : batch) {
+				daysByStatId.put((Long) row[1], (Integer) row[0]);
+			}
+		}
+		return daysByStatId;
+	}
+}